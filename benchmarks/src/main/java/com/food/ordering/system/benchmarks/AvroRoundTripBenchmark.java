@@ -0,0 +1,237 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.customer.service.messaging.mapper.CustomerMessagingDataMapper;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.kafka.schema.registry.serializer.LocalKafkaAvroDeserializer;
+import com.food.ordering.system.kafka.schema.registry.serializer.LocalKafkaAvroSerializer;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.serializer.OutboxPayloadSerializer;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
+import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
+import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class AvroRoundTripBenchmark {
+
+    public enum Hop {
+        WIRE,
+        OUTBOX_AND_WIRE
+    }
+
+    public enum Serde {
+        LOCAL_REGISTRY,
+        MOCK_REGISTRY
+    }
+
+    private static final String TOPIC = "avro-round-trip";
+
+    @Param({"WIRE", "OUTBOX_AND_WIRE"})
+    private Hop hop;
+
+    @Param({"LOCAL_REGISTRY", "MOCK_REGISTRY"})
+    private Serde serde;
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper();
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper = new PaymentMessagingDataMapper();
+    private final RestaurantMessagingDataMapper restaurantMessagingDataMapper = new RestaurantMessagingDataMapper();
+    private final CustomerMessagingDataMapper customerMessagingDataMapper = new CustomerMessagingDataMapper();
+    private final OutboxPayloadSerializer outboxPayloadSerializer = new OutboxPayloadSerializer();
+
+    private Serializer<Object> kafkaAvroSerializer;
+    private Deserializer<Object> kafkaAvroDeserializer;
+
+    private OrderCreatedEvent orderCreatedEvent;
+    private PaymentEvent paymentEvent;
+    private OrderApprovalEvent orderApprovalEvent;
+    private CustomerCreatedEvent customerCreatedEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> serdeConfigs = Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://" + TOPIC,
+                KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+        if (serde == Serde.LOCAL_REGISTRY) {
+            kafkaAvroSerializer = new LocalKafkaAvroSerializer();
+            kafkaAvroDeserializer = new LocalKafkaAvroDeserializer();
+        } else {
+            MockSchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+            kafkaAvroSerializer = new KafkaAvroSerializer(schemaRegistryClient);
+            kafkaAvroDeserializer = new KafkaAvroDeserializer(schemaRegistryClient);
+        }
+        kafkaAvroSerializer.configure(serdeConfigs, false);
+        kafkaAvroDeserializer.configure(serdeConfigs, false);
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of(UTC));
+        orderCreatedEvent = new OrderCreatedEvent(order(3), createdAt, event -> {
+        });
+
+        Payment payment = Payment.builder()
+                .id(new PaymentId(UUID.randomUUID()))
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .price(Money.ofCents(4_250))
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .createdAt(createdAt)
+                .build();
+        paymentEvent = new PaymentCompletedEvent(payment, createdAt, event -> {
+        });
+
+        OrderApproval orderApproval = OrderApproval.builder()
+                .id(new OrderApprovalId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .orderId(new OrderId(UUID.randomUUID()))
+                .approvalStatus(OrderApprovalStatus.APPROVED)
+                .build();
+        orderApprovalEvent = new OrderApprovedEvent(orderApproval, orderApproval.getRestaurantId(), new ArrayList<>(),
+                createdAt, event -> {
+        });
+
+        Customer customer = Customer.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .username("user_1")
+                .firstName("First")
+                .lastName("User")
+                .build();
+        customerCreatedEvent = new CustomerCreatedEvent(customer, createdAt, event -> {
+        });
+    }
+
+    @Benchmark
+    public PaymentRequest paymentRequest() {
+        return paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(
+                roundTrip(orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(orderCreatedEvent)));
+    }
+
+    @Benchmark
+    public PaymentResponse paymentResponse() {
+        return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(
+                roundTrip(paymentMessagingDataMapper.paymentEventToPaymentResponseAvroModel(paymentEvent)));
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequest restaurantApprovalRequest(OrderPaidState state) {
+        return restaurantMessagingDataMapper.restaurantApprovalRequestAvroModelToRestaurantApproval(
+                roundTrip(orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(state.orderPaidEvent)));
+    }
+
+    @Benchmark
+    public RestaurantApprovalResponse restaurantApprovalResponse() {
+        return orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(
+                roundTrip(restaurantMessagingDataMapper.orderApprovalEventToRestaurantApprovalResponseAvroModel(orderApprovalEvent)));
+    }
+
+    @Benchmark
+    public CustomerModel customer() {
+        return orderMessagingDataMapper.customerAvroModelToCustomerModel(
+                roundTrip(customerMessagingDataMapper.customerCreatedEventToCustomerAvroModel(customerCreatedEvent)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends SpecificRecordBase> T roundTrip(T message) {
+        T sent = message;
+        if (hop == Hop.OUTBOX_AND_WIRE) {
+            sent = (T) outboxPayloadSerializer.deserialize(message.getClass().getName(),
+                    outboxPayloadSerializer.serialize(message));
+        }
+        return (T) kafkaAvroDeserializer.deserialize(TOPIC, kafkaAvroSerializer.serialize(TOPIC, sent));
+    }
+
+    private static Order order(int itemCount) {
+        Random random = new Random(42);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Money price = Money.ofCents(100 + random.nextInt(9_900));
+            int quantity = 1 + random.nextInt(5);
+            items.add(OrderItem.builder()
+                    .product(new Product(new ProductId(UUID.randomUUID()), "product-" + i, price))
+                    .quantity(quantity)
+                    .price(price)
+                    .subTotal(price.multiply(quantity))
+                    .build());
+            total = total.add(price.multiply(quantity));
+        }
+        return Order.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .price(total)
+                .items(items)
+                .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class OrderPaidState {
+
+        @Param({"1", "10", "200"})
+        private int itemCount;
+
+        private OrderPaidEvent orderPaidEvent;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            orderPaidEvent = new OrderPaidEvent(order(itemCount), ZonedDateTime.now(ZoneId.of(UTC)), event -> {
+            });
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.food.ordering.system.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CatalogViewBenchmark {
+
+    private static final String SCHEMA_NAME = "catalog_view_benchmark";
+
+    private static final String CREATE_TABLES = """
+            CREATE TABLE %1$s.restaurants (id uuid PRIMARY KEY, name varchar NOT NULL, active boolean NOT NULL);
+            CREATE TABLE %1$s.products (id uuid PRIMARY KEY, name varchar NOT NULL, price numeric(10, 2) NOT NULL,
+                available boolean NOT NULL);
+            CREATE TABLE %1$s.restaurant_products (id uuid PRIMARY KEY,
+                restaurant_id uuid NOT NULL REFERENCES %1$s.restaurants (id),
+                product_id uuid NOT NULL REFERENCES %1$s.products (id));
+            """;
+
+    private static final String CREATE_MATERIALIZED_VIEW = """
+            CREATE MATERIALIZED VIEW %1$s.order_restaurant_view AS
+            SELECT r.id AS restaurant_id, r.name AS restaurant_name, r.active AS restaurant_active,
+                   p.id AS product_id, p.name AS product_name, p.price AS product_price, p.available AS product_available
+            FROM %1$s.restaurants r, %1$s.products p, %1$s.restaurant_products rp
+            WHERE r.id = rp.restaurant_id AND p.id = rp.product_id
+            WITH DATA;
+            CREATE FUNCTION %1$s.refresh_order_restaurant_view() RETURNS trigger AS $$
+            BEGIN
+                REFRESH MATERIALIZED VIEW %1$s.order_restaurant_view;
+                RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER refresh_order_restaurant_view AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+                ON %1$s.restaurant_products FOR EACH STATEMENT
+                EXECUTE PROCEDURE %1$s.refresh_order_restaurant_view();
+            """;
+
+    private static final String CREATE_INCREMENTAL_VIEW = """
+            CREATE TABLE %1$s.order_restaurant_view (restaurant_id uuid NOT NULL, restaurant_name varchar NOT NULL,
+                restaurant_active boolean NOT NULL, product_id uuid NOT NULL, product_name varchar NOT NULL,
+                product_price numeric(10, 2) NOT NULL, product_available boolean NOT NULL,
+                PRIMARY KEY (restaurant_id, product_id));
+            CREATE INDEX ON %1$s.order_restaurant_view (product_id);
+            CREATE FUNCTION %1$s.restaurant_products_order_restaurant_view() RETURNS trigger AS $$
+            BEGIN
+                IF TG_OP IN ('UPDATE', 'DELETE') THEN
+                    DELETE FROM %1$s.order_restaurant_view v
+                    WHERE v.restaurant_id = OLD.restaurant_id AND v.product_id = OLD.product_id
+                      AND NOT EXISTS(SELECT 1 FROM %1$s.restaurant_products rp
+                                     WHERE rp.restaurant_id = OLD.restaurant_id AND rp.product_id = OLD.product_id);
+                END IF;
+                IF TG_OP IN ('INSERT', 'UPDATE') THEN
+                    INSERT INTO %1$s.order_restaurant_view
+                    SELECT r.id, r.name, r.active, p.id, p.name, p.price, p.available
+                    FROM %1$s.restaurants r, %1$s.products p
+                    WHERE r.id = NEW.restaurant_id AND p.id = NEW.product_id
+                    ON CONFLICT (restaurant_id, product_id) DO NOTHING;
+                END IF;
+                RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER restaurant_products_order_restaurant_view AFTER INSERT OR UPDATE OR DELETE
+                ON %1$s.restaurant_products FOR EACH ROW
+                EXECUTE PROCEDURE %1$s.restaurant_products_order_restaurant_view();
+            CREATE FUNCTION %1$s.products_order_restaurant_view() RETURNS trigger AS $$
+            BEGIN
+                UPDATE %1$s.order_restaurant_view v
+                SET product_name = NEW.name, product_price = NEW.price, product_available = NEW.available
+                WHERE v.product_id = NEW.id;
+                RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER products_order_restaurant_view AFTER UPDATE
+                ON %1$s.products FOR EACH ROW
+                EXECUTE PROCEDURE %1$s.products_order_restaurant_view();
+            """;
+
+    public enum ViewType {
+        MATERIALIZED_VIEW, INCREMENTAL
+    }
+
+    @Param({"MATERIALIZED_VIEW", "INCREMENTAL"})
+    private ViewType viewType;
+
+    @Param({"200"})
+    private int restaurantCount;
+
+    @Param({"50"})
+    private int productsPerRestaurant;
+
+    @Param({"3"})
+    private int orderItemCount;
+
+    @Param({"jdbc:postgresql://localhost:5432/postgres"})
+    private String jdbcUrl;
+
+    @Param({"postgres"})
+    private String username;
+
+    @Param({"password"})
+    private String password;
+
+    private UUID[] restaurantIds;
+    private UUID[][] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        restaurantIds = new UUID[restaurantCount];
+        productIds = new UUID[restaurantCount][productsPerRestaurant];
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA_NAME + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA_NAME);
+            statement.execute(CREATE_TABLES.formatted(SCHEMA_NAME));
+            connection.setAutoCommit(false);
+            insertCatalog(connection);
+            connection.commit();
+            connection.setAutoCommit(true);
+            statement.execute((viewType == ViewType.MATERIALIZED_VIEW ?
+                    CREATE_MATERIALIZED_VIEW : CREATE_INCREMENTAL_VIEW).formatted(SCHEMA_NAME));
+            if (viewType == ViewType.INCREMENTAL) {
+                statement.execute("INSERT INTO " + SCHEMA_NAME + ".order_restaurant_view " +
+                        "SELECT r.id, r.name, r.active, p.id, p.name, p.price, p.available " +
+                        "FROM " + SCHEMA_NAME + ".restaurants r, " + SCHEMA_NAME + ".products p, " +
+                        SCHEMA_NAME + ".restaurant_products rp " +
+                        "WHERE r.id = rp.restaurant_id AND p.id = rp.product_id");
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA_NAME + " CASCADE");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Connection connection;
+        private PreparedStatement selectMenu;
+        private PreparedStatement deleteMenuItem;
+        private PreparedStatement insertMenuItem;
+        private PreparedStatement updatePrice;
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogViewBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.jdbcUrl, benchmark.username, benchmark.password);
+            StringBuilder placeholders = new StringBuilder("?");
+            for (int i = 1; i < benchmark.orderItemCount; i++) {
+                placeholders.append(", ?");
+            }
+            selectMenu = connection.prepareStatement("SELECT * FROM " + SCHEMA_NAME + ".order_restaurant_view " +
+                    "WHERE restaurant_id = ? AND product_id IN (" + placeholders + ")");
+            deleteMenuItem = connection.prepareStatement("DELETE FROM " + SCHEMA_NAME + ".restaurant_products " +
+                    "WHERE restaurant_id = ? AND product_id = ?");
+            insertMenuItem = connection.prepareStatement("INSERT INTO " + SCHEMA_NAME + ".restaurant_products " +
+                    "(id, restaurant_id, product_id) VALUES (?, ?, ?)");
+            updatePrice = connection.prepareStatement("UPDATE " + SCHEMA_NAME + ".products SET price = ? WHERE id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void createOrder(Session session, Blackhole blackhole) throws SQLException {
+        readMenu(session, blackhole);
+    }
+
+    @Benchmark
+    @Group("concurrentMenuEdits")
+    @GroupThreads(4)
+    public void createOrderDuringMenuEdits(Session session, Blackhole blackhole) throws SQLException {
+        readMenu(session, blackhole);
+    }
+
+    @Benchmark
+    @Group("concurrentMenuEdits")
+    @GroupThreads(1)
+    public void editMenu(Session session) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int restaurant = random.nextInt(restaurantCount);
+        UUID productId = productIds[restaurant][random.nextInt(productsPerRestaurant)];
+        session.connection.setAutoCommit(false);
+        try {
+            session.deleteMenuItem.setObject(1, restaurantIds[restaurant]);
+            session.deleteMenuItem.setObject(2, productId);
+            session.deleteMenuItem.executeUpdate();
+            session.insertMenuItem.setObject(1, UUID.randomUUID());
+            session.insertMenuItem.setObject(2, restaurantIds[restaurant]);
+            session.insertMenuItem.setObject(3, productId);
+            session.insertMenuItem.executeUpdate();
+            session.updatePrice.setBigDecimal(1, BigDecimal.valueOf(random.nextInt(100, 10000), 2));
+            session.updatePrice.setObject(2, productId);
+            session.updatePrice.executeUpdate();
+            session.connection.commit();
+        } finally {
+            session.connection.setAutoCommit(true);
+        }
+    }
+
+    private void readMenu(Session session, Blackhole blackhole) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int restaurant = random.nextInt(restaurantCount);
+        session.selectMenu.setObject(1, restaurantIds[restaurant]);
+        for (int i = 0; i < orderItemCount; i++) {
+            session.selectMenu.setObject(i + 2, productIds[restaurant][random.nextInt(productsPerRestaurant)]);
+        }
+        try (ResultSet resultSet = session.selectMenu.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getBigDecimal("product_price"));
+            }
+        }
+    }
+
+    private void insertCatalog(Connection connection) throws SQLException {
+        try (PreparedStatement insertRestaurant = connection.prepareStatement(
+                "INSERT INTO " + SCHEMA_NAME + ".restaurants (id, name, active) VALUES (?, ?, TRUE)");
+             PreparedStatement insertProduct = connection.prepareStatement(
+                     "INSERT INTO " + SCHEMA_NAME + ".products (id, name, price, available) VALUES (?, ?, ?, TRUE)");
+             PreparedStatement insertMenuItem = connection.prepareStatement(
+                     "INSERT INTO " + SCHEMA_NAME + ".restaurant_products (id, restaurant_id, product_id) " +
+                             "VALUES (?, ?, ?)")) {
+            for (int restaurant = 0; restaurant < restaurantCount; restaurant++) {
+                restaurantIds[restaurant] = UUID.randomUUID();
+                insertRestaurant.setObject(1, restaurantIds[restaurant]);
+                insertRestaurant.setString(2, "restaurant_" + restaurant);
+                insertRestaurant.addBatch();
+                for (int product = 0; product < productsPerRestaurant; product++) {
+                    UUID productId = UUID.randomUUID();
+                    productIds[restaurant][product] = productId;
+                    insertProduct.setObject(1, productId);
+                    insertProduct.setString(2, "product_" + restaurant + "_" + product);
+                    insertProduct.setBigDecimal(3, BigDecimal.valueOf(1000 + product, 2));
+                    insertProduct.addBatch();
+                    insertMenuItem.setObject(1, UUID.randomUUID());
+                    insertMenuItem.setObject(2, restaurantIds[restaurant]);
+                    insertMenuItem.setObject(3, productId);
+                    insertMenuItem.addBatch();
+                }
+            }
+            insertRestaurant.executeBatch();
+            insertProduct.executeBatch();
+            insertMenuItem.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.execution.ConcurrencyLimiter;
+import com.food.ordering.system.execution.ExecutionMode;
+import com.food.ordering.system.execution.ExecutorFactory;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.loadtest.order.OrderServiceConfiguration;
+import com.food.ordering.system.loadtest.recorder.SagaLatencyRecorder;
+import com.food.ordering.system.order.service.application.rest.OrderController;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.messaging.listener.kafka.PaymentResponseKafkaListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int CUSTOMER_COUNT = 1000;
+    private static final int NUM_OF_PARTITIONS = 3;
+    private static final String[] TOPIC_NAMES = {"payment-request", "payment-response", "restaurant-approval-request",
+            "restaurant-approval-response", "customer"};
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ExecutionMode executionMode;
+
+    @Param({"1000", "5000", "10000"})
+    private int concurrentOrders;
+
+    @Param({"200"})
+    private int platformThreads;
+
+    @Param({"10"})
+    private int connectionPoolSize;
+
+    @Param({"1"})
+    private long databaseTimeMs;
+
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    private ConfigurableApplicationContext orderContext;
+    private OrderController orderController;
+    private OrderApplicationService orderApplicationService;
+    private OrderRepository orderRepository;
+    private PaymentResponseKafkaListener paymentResponseKafkaListener;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private ExecutorService requestExecutor;
+    private ExecutorService consumerExecutor;
+    private int consumerCount;
+    private int maxPollRecords;
+    private List<PaymentResponseAvroModel> paymentResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        embeddedKafkaBroker = new EmbeddedKafkaBroker(1, true, NUM_OF_PARTITIONS, TOPIC_NAMES)
+                .brokerProperties(Map.of(
+                        "transaction.state.log.replication.factor", "1",
+                        "transaction.state.log.min.isr", "1"));
+        embeddedKafkaBroker.afterPropertiesSet();
+
+        LoadTestConfigData loadTestConfigData = new LoadTestConfigData();
+        loadTestConfigData.setCustomerCount(CUSTOMER_COUNT);
+        try {
+            orderContext = new SpringApplicationBuilder(OrderServiceConfiguration.class,
+                    SimulatedDatabaseConfiguration.class)
+                    .web(WebApplicationType.NONE)
+                    .bannerMode(Banner.Mode.OFF)
+                    .logStartupInfo(false)
+                    .profiles("in-memory")
+                    .properties("spring.config.name=order-load-test")
+                    .initializers(context -> {
+                        context.getBeanFactory().registerSingleton("loadTestConfigData", loadTestConfigData);
+                        context.getBeanFactory().registerSingleton("sagaLatencyRecorder", new SagaLatencyRecorder());
+                    })
+                    .run("--execution-config.mode=" + executionMode,
+                            "--execution-config.max-concurrency=" + connectionPoolSize,
+                            "--kafka-consumer-config.auto-startup=false",
+                            "--kafka-retry-config.enabled=false",
+                            "--simulated-database.connection-pool-size=" + connectionPoolSize,
+                            "--simulated-database.database-time-ms=" + databaseTimeMs);
+        } catch (RuntimeException e) {
+            embeddedKafkaBroker.destroy();
+            throw e;
+        }
+
+        orderApplicationService = orderContext.getBean(OrderApplicationService.class);
+        orderController = new OrderController(orderApplicationService);
+        orderRepository = orderContext.getBean(OrderRepository.class);
+        paymentResponseKafkaListener = orderContext.getBean(PaymentResponseKafkaListener.class);
+        concurrencyLimiter = orderContext.getBean(ConcurrencyLimiter.class);
+        requestExecutor = orderContext.getBean(ExecutorFactory.class).newExecutor("http-handler", platformThreads);
+        KafkaConsumerConfigData kafkaConsumerConfigData = orderContext.getBean(KafkaConsumerConfigData.class);
+        consumerCount = kafkaConsumerConfigData.getConcurrencyLevel();
+        maxPollRecords = kafkaConsumerConfigData.getMaxPollRecords();
+        consumerExecutor = Executors.newFixedThreadPool(consumerCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        consumerExecutor.shutdownNow();
+        orderContext.close();
+        embeddedKafkaBroker.destroy();
+    }
+
+    @Setup(Level.Invocation)
+    public void createPendingOrders() throws Exception {
+        List<Callable<CreateOrderResponse>> requests = new ArrayList<>(concurrentOrders);
+        for (int i = 0; i < concurrentOrders; i++) {
+            CreateOrderCommand createOrderCommand = createOrderCommand(i);
+            requests.add(() -> orderApplicationService.createOrder(createOrderCommand));
+        }
+        paymentResponses = new ArrayList<>(concurrentOrders);
+        for (CreateOrderResponse createOrderResponse : invokeAll(requestExecutor, requests)) {
+            Order order = orderRepository.findByTrackingId(new TrackingId(createOrderResponse.getOrderTrackingId()))
+                    .orElseThrow();
+            paymentResponses.add(paymentResponse(order));
+        }
+    }
+
+    @Benchmark
+    public List<?> createOrders() throws Exception {
+        List<Callable<?>> requests = new ArrayList<>(concurrentOrders);
+        for (int i = 0; i < concurrentOrders; i++) {
+            CreateOrderCommand createOrderCommand = createOrderCommand(i);
+            if (executionMode == ExecutionMode.VIRTUAL) {
+                requests.add(() -> concurrencyLimiter.call(() -> orderController.createOrder(createOrderCommand)));
+            } else {
+                requests.add(() -> orderController.createOrder(createOrderCommand));
+            }
+        }
+        return invokeAll(requestExecutor, requests);
+    }
+
+    @Benchmark
+    public void receivePaymentResponses() throws Exception {
+        List<List<PaymentResponseAvroModel>> partitions = new ArrayList<>();
+        for (int i = 0; i < consumerCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        paymentResponses.forEach(paymentResponse -> partitions.get(
+                Math.floorMod(paymentResponse.getOrderId().hashCode(), consumerCount)).add(paymentResponse));
+
+        List<Callable<Void>> consumers = new ArrayList<>(consumerCount);
+        for (int i = 0; i < consumerCount; i++) {
+            int partition = i;
+            consumers.add(() -> {
+                List<PaymentResponseAvroModel> records = partitions.get(partition);
+                for (int from = 0; from < records.size(); from += maxPollRecords) {
+                    poll(records.subList(from, Math.min(records.size(), from + maxPollRecords)), partition, from);
+                }
+                return null;
+            });
+        }
+        invokeAll(consumerExecutor, consumers);
+    }
+
+    private void poll(List<PaymentResponseAvroModel> messages, int partition, long firstOffset) {
+        List<String> keys = new ArrayList<>(messages.size());
+        List<Integer> partitions = new ArrayList<>(messages.size());
+        List<Long> offsets = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            keys.add(messages.get(i).getOrderId());
+            partitions.add(partition);
+            offsets.add(firstOffset + i);
+        }
+        paymentResponseKafkaListener.receive(messages, keys, partitions, offsets);
+    }
+
+    private <T> List<T> invokeAll(ExecutorService executorService, List<? extends Callable<? extends T>> tasks)
+            throws InterruptedException, ExecutionException {
+        List<Future<? extends T>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> futures.add(executorService.submit(task)));
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<? extends T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private CreateOrderCommand createOrderCommand(int sequence) {
+        return CreateOrderCommand.builder()
+                .customerId(LoadTestData.customerId(sequence % CUSTOMER_COUNT))
+                .restaurantId(LoadTestData.RESTAURANT_ID)
+                .price(LoadTestData.PRODUCT_PRICE)
+                .items(List.of(OrderItem.builder()
+                        .productId(LoadTestData.PRODUCT_ID)
+                        .quantity(1)
+                        .price(LoadTestData.PRODUCT_PRICE)
+                        .subTotal(LoadTestData.PRODUCT_PRICE)
+                        .build()))
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .build();
+    }
+
+    private PaymentResponseAvroModel paymentResponse(Order order) {
+        String orderId = order.getId().getValue().toString();
+        return PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId(orderId)
+                .setPaymentId(UUID.randomUUID().toString())
+                .setCustomerId(order.getCustomerId().getValue().toString())
+                .setOrderId(orderId)
+                .setPrice(order.getPrice().getAmount())
+                .setCreatedAt(Instant.now())
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of())
+                .build();
+    }
+
+    @Configuration
+    static class SimulatedDatabaseConfiguration {
+
+        @Bean
+        public static BeanPostProcessor simulatedDatabasePostProcessor(
+                @Value("${simulated-database.connection-pool-size}") int connectionPoolSize,
+                @Value("${simulated-database.database-time-ms}") long databaseTimeMs) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof PlatformTransactionManager transactionManager) {
+                        return new SimulatedDatabaseTransactionManager(transactionManager,
+                                new Semaphore(connectionPoolSize), TimeUnit.MILLISECONDS.toNanos(databaseTimeMs));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private record SimulatedDatabaseTransactionManager(PlatformTransactionManager transactionManager,
+                                                       Semaphore connectionPool,
+                                                       long databaseTimeNanos) implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            TransactionStatus status = transactionManager.getTransaction(definition);
+            if (status.isNewTransaction()) {
+                connectionPool.acquireUninterruptibly();
+                LockSupport.parkNanos(databaseTimeNanos);
+            }
+            return status;
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            try {
+                transactionManager.commit(status);
+            } finally {
+                release(status);
+            }
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            try {
+                transactionManager.rollback(status);
+            } finally {
+                release(status);
+            }
+        }
+
+        private void release(TransactionStatus status) {
+            if (status.isNewTransaction()) {
+                connectionPool.release();
+            }
+        }
+    }
+}
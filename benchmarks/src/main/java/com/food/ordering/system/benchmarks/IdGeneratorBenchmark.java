@@ -0,0 +1,54 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomUuidIdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    public enum IdType {
+        RANDOM_V4, TIME_ORDERED_V7
+    }
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private IdType idType;
+
+    private IdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = newIdGenerator(idType);
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return idGenerator.generate();
+    }
+
+    static IdGenerator newIdGenerator(IdType idType) {
+        return idType == IdType.RANDOM_V4 ? new RandomUuidIdGenerator() : new UuidV7IdGenerator();
+    }
+}
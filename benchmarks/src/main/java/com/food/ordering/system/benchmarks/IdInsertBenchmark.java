@@ -0,0 +1,125 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.benchmarks.IdGeneratorBenchmark.IdType;
+import com.food.ordering.system.domain.id.IdGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final String TABLE_NAME = "id_insert_benchmark";
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private IdType idType;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    @Param({"jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true"})
+    private String jdbcUrl;
+
+    @Param({"postgres"})
+    private String username;
+
+    @Param({"password"})
+    private String password;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insertStatement;
+    private long rowCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = IdGeneratorBenchmark.newIdGenerator(idType);
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            statement.execute("CREATE UNLOGGED TABLE " + TABLE_NAME +
+                    " (id uuid NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(), " +
+                    "CONSTRAINT " + TABLE_NAME + "_pkey PRIMARY KEY (id))");
+        }
+        connection.setAutoCommit(false);
+        insertStatement = connection.prepareStatement("INSERT INTO " + TABLE_NAME + " (id) VALUES (?)");
+        rowCount = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            connection.commit();
+        } finally {
+            insertStatement.close();
+            connection.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TableSize {
+
+        public long rows;
+        public double indexBytesPerRow;
+        public long indexKilobytes;
+        public long heapKilobytes;
+
+        private int measuredIterations;
+
+        @TearDown(Level.Iteration)
+        public void measure(IdInsertBenchmark benchmark, IterationParams iterationParams) throws SQLException {
+            if (iterationParams.getType() != IterationType.MEASUREMENT
+                    || ++measuredIterations < iterationParams.getCount()) {
+                return;
+            }
+            try (Statement statement = benchmark.connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT pg_relation_size('" + TABLE_NAME + "_pkey'), " +
+                         "pg_relation_size('" + TABLE_NAME + "')")) {
+                resultSet.next();
+                rows = benchmark.rowCount;
+                indexBytesPerRow = rows == 0 ? 0 : (double) resultSet.getLong(1) / rows;
+                indexKilobytes = resultSet.getLong(1) / 1024;
+                heapKilobytes = resultSet.getLong(2) / 1024;
+            }
+        }
+    }
+
+    @Benchmark
+    public void insertBatch(TableSize tableSize) throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insertStatement.setObject(1, idGenerator.generate());
+            insertStatement.addBatch();
+        }
+        insertStatement.executeBatch();
+        connection.commit();
+        rowCount += batchSize;
+    }
+}
@@ -0,0 +1,131 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class MoneyBenchmark {
+
+    @Param({"5", "50"})
+    private int itemCount;
+
+    private Money[] prices;
+    private int[] quantities;
+    private Money total;
+    private BigDecimalMoney[] bigDecimalPrices;
+    private BigDecimalMoney bigDecimalTotal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new Money[itemCount];
+        quantities = new int[itemCount];
+        bigDecimalPrices = new BigDecimalMoney[itemCount];
+        Money sum = Money.ZERO;
+        BigDecimalMoney bigDecimalSum = BigDecimalMoney.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(9_900), 2);
+            quantities[i] = 1 + random.nextInt(5);
+            prices[i] = new Money(price);
+            bigDecimalPrices[i] = new BigDecimalMoney(price);
+            sum = sum.add(prices[i].multiply(quantities[i]));
+            bigDecimalSum = bigDecimalSum.add(bigDecimalPrices[i].multiply(quantities[i]));
+        }
+        total = sum;
+        bigDecimalTotal = bigDecimalSum;
+    }
+
+    @Benchmark
+    public boolean validateItemsPriceCents() {
+        Money itemsTotal = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Money subTotal = prices[i].multiply(quantities[i]);
+            if (!prices[i].isGreaterThanZero()) {
+                return false;
+            }
+            itemsTotal = itemsTotal.add(subTotal);
+        }
+        return total.equals(itemsTotal);
+    }
+
+    @Benchmark
+    public boolean validateItemsPriceBigDecimal() {
+        BigDecimalMoney itemsTotal = BigDecimalMoney.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimalMoney subTotal = bigDecimalPrices[i].multiply(quantities[i]);
+            if (!bigDecimalPrices[i].isGreaterThanZero()) {
+                return false;
+            }
+            itemsTotal = itemsTotal.add(subTotal);
+        }
+        return bigDecimalTotal.equals(itemsTotal);
+    }
+
+    @Benchmark
+    public boolean creditLedgerCents() {
+        Money credit = Money.ZERO;
+        Money debit = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            credit = credit.add(prices[i]);
+            debit = debit.add(prices[i].multiply(quantities[i] % 2));
+        }
+        return debit.isGreater(credit) || credit.subtract(debit).equals(total);
+    }
+
+    @Benchmark
+    public boolean creditLedgerBigDecimal() {
+        BigDecimalMoney credit = BigDecimalMoney.ZERO;
+        BigDecimalMoney debit = BigDecimalMoney.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            credit = credit.add(bigDecimalPrices[i]);
+            debit = debit.add(bigDecimalPrices[i].multiply(quantities[i] % 2));
+        }
+        return debit.isGreater(credit) || credit.subtract(debit).equals(bigDecimalTotal);
+    }
+
+    private record BigDecimalMoney(BigDecimal amount) {
+
+        private static final BigDecimalMoney ZERO = new BigDecimalMoney(BigDecimal.ZERO);
+
+        boolean isGreaterThanZero() {
+            return amount.compareTo(BigDecimal.ZERO) > 0;
+        }
+
+        boolean isGreater(BigDecimalMoney money) {
+            return amount.compareTo(money.amount) > 0;
+        }
+
+        BigDecimalMoney add(BigDecimalMoney money) {
+            return new BigDecimalMoney(amount.add(money.amount).setScale(2, RoundingMode.HALF_EVEN));
+        }
+
+        BigDecimalMoney subtract(BigDecimalMoney money) {
+            return new BigDecimalMoney(amount.subtract(money.amount).setScale(2, RoundingMode.HALF_EVEN));
+        }
+
+        BigDecimalMoney multiply(int multiplier) {
+            return new BigDecimalMoney(amount.multiply(new BigDecimal(multiplier)).setScale(2, RoundingMode.HALF_EVEN));
+        }
+    }
+}
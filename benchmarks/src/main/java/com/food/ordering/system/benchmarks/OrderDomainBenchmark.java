@@ -0,0 +1,125 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int itemCount;
+
+    private final IdGenerator idGenerator = new UuidV7IdGenerator();
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(idGenerator);
+
+    private CustomerId customerId;
+    private RestaurantId restaurantId;
+    private StreetAddress deliveryAddress;
+    private ProductId[] productIds;
+    private Money[] prices;
+    private int[] quantities;
+    private Money total;
+    private Restaurant restaurant;
+    private Order validatedOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        customerId = new CustomerId(UUID.randomUUID());
+        restaurantId = new RestaurantId(UUID.randomUUID());
+        deliveryAddress = new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city");
+        productIds = new ProductId[itemCount];
+        prices = new Money[itemCount];
+        quantities = new int[itemCount];
+        List<Product> menu = new ArrayList<>(itemCount);
+        Money sum = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            productIds[i] = new ProductId(UUID.randomUUID());
+            prices[i] = Money.ofCents(100 + random.nextInt(9_900));
+            quantities[i] = 1 + random.nextInt(5);
+            menu.add(new Product(productIds[i], "product-" + i, prices[i]));
+            sum = sum.add(prices[i].multiply(quantities[i]));
+        }
+        total = sum;
+        restaurant = Restaurant.builder()
+                .id(restaurantId)
+                .products(menu)
+                .active(true)
+                .build();
+        validatedOrder = buildOrder(true);
+    }
+
+    @Benchmark
+    public Order buildOrder() {
+        return buildOrder(false);
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        validatedOrder.validateOrder();
+        return validatedOrder;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(buildOrder(false), restaurant, event -> {
+        });
+    }
+
+    private Order buildOrder(boolean withConfirmedProducts) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = withConfirmedProducts
+                    ? new Product(productIds[i], "product-" + i, prices[i])
+                    : new Product(productIds[i]);
+            items.add(OrderItem.builder()
+                    .product(product)
+                    .quantity(quantities[i])
+                    .price(prices[i])
+                    .subTotal(prices[i].multiply(quantities[i]))
+                    .build());
+        }
+        return Order.builder()
+                .customerId(customerId)
+                .restaurantId(restaurantId)
+                .deliveryAddress(deliveryAddress)
+                .price(total)
+                .items(items)
+                .build();
+    }
+}
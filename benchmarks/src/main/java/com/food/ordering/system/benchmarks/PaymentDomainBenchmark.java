@@ -0,0 +1,144 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class PaymentDomainBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int creditHistoryCount;
+
+    private final IdGenerator idGenerator = new UuidV7IdGenerator();
+    private final PaymentDomainService paymentDomainService = new PaymentDomainServiceImpl(idGenerator);
+
+    private OrderId orderId;
+    private CustomerId customerId;
+    private CreditEntryId creditEntryId;
+    private Money price;
+    private List<CreditHistory> creditHistories;
+    private Money totalCreditAmount;
+    private Money totalDebitAmount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        orderId = new OrderId(UUID.randomUUID());
+        customerId = new CustomerId(UUID.randomUUID());
+        creditEntryId = new CreditEntryId(UUID.randomUUID());
+        price = Money.ofCents(2_500);
+        creditHistories = new ArrayList<>(creditHistoryCount);
+        Money credit = Money.ZERO;
+        Money debit = Money.ZERO;
+        for (int i = 0; i < creditHistoryCount; i++) {
+            Money amount = Money.ofCents(100 + random.nextInt(9_900));
+            TransactionType transactionType = i % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT;
+            if (transactionType == TransactionType.DEBIT && amount.isGreater(credit.subtract(debit))) {
+                transactionType = TransactionType.CREDIT;
+            }
+            creditHistories.add(CreditHistory.builder()
+                    .id(new CreditHistoryId(UUID.randomUUID()))
+                    .customerId(customerId)
+                    .amount(amount)
+                    .transactionType(transactionType)
+                    .build());
+            if (transactionType == TransactionType.CREDIT) {
+                credit = credit.add(amount);
+            } else {
+                debit = debit.add(amount);
+            }
+        }
+        Money topUp = price.multiply(2);
+        creditHistories.add(CreditHistory.builder()
+                .id(new CreditHistoryId(UUID.randomUUID()))
+                .customerId(customerId)
+                .amount(topUp)
+                .transactionType(TransactionType.CREDIT)
+                .build());
+        totalCreditAmount = credit.add(topUp);
+        totalDebitAmount = debit;
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitializePayment() {
+        CreditLedger creditLedger = CreditLedger.builder()
+                .customerId(customerId)
+                .totalCreditAmount(totalCreditAmount)
+                .totalDebitAmount(totalDebitAmount)
+                .version(0)
+                .build();
+        return validateAndInitializePayment(creditLedger);
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitializePaymentReplayingHistory() {
+        CreditLedger creditLedger = CreditLedger.builder()
+                .customerId(customerId)
+                .totalCreditAmount(Money.ZERO)
+                .totalDebitAmount(Money.ZERO)
+                .version(0)
+                .build();
+        for (CreditHistory creditHistory : creditHistories) {
+            creditLedger.apply(creditHistory);
+        }
+        return validateAndInitializePayment(creditLedger);
+    }
+
+    private PaymentEvent validateAndInitializePayment(CreditLedger creditLedger) {
+        Payment payment = Payment.builder()
+                .orderId(orderId)
+                .customerId(customerId)
+                .price(price)
+                .build();
+        CreditEntry creditEntry = CreditEntry.builder()
+                .id(creditEntryId)
+                .customerId(customerId)
+                .totalCreditAmount(creditLedger.getBalance())
+                .build();
+        return paymentDomainService.validateAndInitializePayment(payment,
+                creditEntry,
+                creditLedger,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                event -> {
+                },
+                event -> {
+                });
+    }
+}
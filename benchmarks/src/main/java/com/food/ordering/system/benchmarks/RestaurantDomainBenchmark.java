@@ -0,0 +1,92 @@
+package com.food.ordering.system.benchmarks;
+
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainService;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainServiceImpl;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class RestaurantDomainBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int itemCount;
+
+    private final RestaurantDomainService restaurantDomainService =
+            new RestaurantDomainServiceImpl(new UuidV7IdGenerator());
+
+    private Restaurant restaurant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>(itemCount);
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Money price = Money.ofCents(100 + random.nextInt(9_900));
+            int quantity = 1 + random.nextInt(5);
+            products.add(Product.builder()
+                    .id(new ProductId(UUID.randomUUID()))
+                    .name("product-" + i)
+                    .price(price)
+                    .quantity(quantity)
+                    .available(true)
+                    .build());
+            total = total.add(price.multiply(quantity));
+        }
+        restaurant = Restaurant.builder()
+                .id(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .orderDetail(OrderDetail.builder()
+                        .id(new OrderId(UUID.randomUUID()))
+                        .orderStatus(OrderStatus.PAID)
+                        .totalAmount(total)
+                        .products(products)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<String> validateOrder() {
+        List<String> failureMessages = new ArrayList<>();
+        restaurant.validateOrder(failureMessages);
+        return failureMessages;
+    }
+
+    @Benchmark
+    public OrderApprovalEvent validateAndApproveOrder() {
+        return restaurantDomainService.validateOrder(restaurant, new ArrayList<>(), event -> {
+        }, event -> {
+        });
+    }
+}
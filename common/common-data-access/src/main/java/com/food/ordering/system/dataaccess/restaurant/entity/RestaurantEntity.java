@@ -20,7 +20,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(RestaurantEntityId.class)
-@Table(name = "order_restaurant_m_view", schema = "restaurant")
+@Table(name = "order_restaurant_view", schema = "restaurant")
 @Entity
 public class RestaurantEntity {
 
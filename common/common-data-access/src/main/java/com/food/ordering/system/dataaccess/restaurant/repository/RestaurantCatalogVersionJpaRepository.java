@@ -0,0 +1,9 @@
+package com.food.ordering.system.dataaccess.restaurant.repository;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantCatalogVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface RestaurantCatalogVersionJpaRepository extends JpaRepository<RestaurantCatalogVersionEntity, UUID> {
+}
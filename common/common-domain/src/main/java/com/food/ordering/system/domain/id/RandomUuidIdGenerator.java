@@ -0,0 +1,11 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+
+public class RandomUuidIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID generate() {
+        return UUID.randomUUID();
+    }
+}
@@ -6,42 +6,50 @@ import java.util.Objects;
 
 public class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final int SCALE = 2;
 
-    private final BigDecimal amount;
+    public static final Money ZERO = new Money(0L);
+
+    private final long cents;
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        this(toCents(amount));
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
     }
 
     public boolean isGreaterThanZero() {
-        return amount != null && amount.compareTo(BigDecimal.ZERO) > 0;
+        return cents > 0;
     }
 
     public boolean isGreater(Money money) {
-        return amount != null && amount.compareTo(money.getAmount()) > 0;
+        return cents > money.cents;
     }
 
     public Money add(Money money) {
-        return new Money(
-                setScale(amount.add(money.getAmount()))
-        );
+        return new Money(Math.addExact(cents, money.cents));
     }
 
     public Money subtract(Money money) {
-        return new Money(
-                setScale(amount.subtract(money.getAmount()))
-        );
+        return new Money(Math.subtractExact(cents, money.cents));
     }
 
     public Money multiply(int multiplier) {
-        return new Money(
-                setScale(amount.multiply(new BigDecimal(multiplier)))
-        );
+        return new Money(Math.multiplyExact(cents, (long) multiplier));
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(cents, SCALE);
     }
 
     @Override
@@ -53,15 +61,21 @@ public class Money {
             return false;
         }
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return getAmount().toPlainString();
     }
 
-    private BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+    private static long toCents(BigDecimal amount) {
+        Objects.requireNonNull(amount, "Amount must not be null");
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
     }
 }
@@ -0,0 +1,136 @@
+package com.food.ordering.system.domain.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7IdGeneratorTest {
+
+    private static final long NOW_MS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int COUNTER_VALUES = 1 << 12;
+
+    @Test
+    public void generate_ShouldSetVersionAndVariantBits() {
+        // Given
+        IdGenerator idGenerator = new UuidV7IdGenerator();
+
+        // When
+        UUID id = idGenerator.generate();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    public void generate_ShouldStartWithClockMillis() {
+        // Given
+        IdGenerator idGenerator = new UuidV7IdGenerator(fixedClock(NOW_MS), new Random(42));
+
+        // When
+        UUID id = idGenerator.generate();
+
+        // Then
+        assertEquals(NOW_MS, timestampMs(id));
+        assertEquals(0, counter(id));
+    }
+
+    @Test
+    public void generate_ShouldBeStrictlyIncreasing_WhenCalledWithinOneMillisecond() {
+        // Given
+        IdGenerator idGenerator = new UuidV7IdGenerator(fixedClock(NOW_MS), new Random(42));
+        UUID previous = idGenerator.generate();
+
+        for (int i = 1; i < COUNTER_VALUES; i++) {
+            // When
+            UUID next = idGenerator.generate();
+
+            // Then
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            assertEquals(NOW_MS, timestampMs(next));
+            assertEquals(i, counter(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    public void generate_ShouldCarryIntoTimestamp_WhenCounterRollsOver() {
+        // Given
+        IdGenerator idGenerator = new UuidV7IdGenerator(fixedClock(NOW_MS), new Random(42));
+        for (int i = 0; i < COUNTER_VALUES; i++) {
+            idGenerator.generate();
+        }
+
+        // When
+        UUID id = idGenerator.generate();
+
+        // Then
+        assertEquals(NOW_MS + 1, timestampMs(id));
+        assertEquals(0, counter(id));
+        assertEquals(7, id.version());
+    }
+
+    @Test
+    public void generate_ShouldStayIncreasing_WhenClockMovesBackwards() {
+        // Given
+        MutableClock clock = new MutableClock(NOW_MS);
+        IdGenerator idGenerator = new UuidV7IdGenerator(clock, new Random(42));
+        UUID before = idGenerator.generate();
+        clock.millis = NOW_MS - 1_000;
+
+        // When
+        UUID after = idGenerator.generate();
+
+        // Then
+        assertTrue(Long.compareUnsigned(after.getMostSignificantBits(), before.getMostSignificantBits()) > 0);
+        assertEquals(NOW_MS, timestampMs(after));
+    }
+
+    private static long timestampMs(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(UUID id) {
+        return id.getMostSignificantBits() & (COUNTER_VALUES - 1);
+    }
+
+    private static Clock fixedClock(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
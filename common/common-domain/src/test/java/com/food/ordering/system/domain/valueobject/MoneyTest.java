@@ -0,0 +1,144 @@
+package com.food.ordering.system.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void new_ShouldStoreAmountAsCents() {
+        // Given
+        BigDecimal amount = new BigDecimal("12.34");
+
+        // When
+        Money money = new Money(amount);
+
+        // Then
+        assertEquals(1234L, money.getCents());
+        assertEquals(new BigDecimal("12.34"), money.getAmount());
+        assertEquals("12.34", money.toString());
+    }
+
+    @Test
+    public void new_ShouldRoundHalfEven_WhenAmountHasMoreThanTwoDecimals() {
+        // Given / When
+        Money roundedDownToEven = new Money(new BigDecimal("0.125"));
+        Money roundedUpToEven = new Money(new BigDecimal("0.135"));
+        Money roundedUp = new Money(new BigDecimal("0.1251"));
+        Money negative = new Money(new BigDecimal("-0.125"));
+
+        // Then
+        assertEquals(12L, roundedDownToEven.getCents());
+        assertEquals(14L, roundedUpToEven.getCents());
+        assertEquals(13L, roundedUp.getCents());
+        assertEquals(-12L, negative.getCents());
+    }
+
+    @Test
+    public void new_ShouldThrowNullPointerException_WhenAmountIsNull() {
+        // When / Then
+        assertThrows(NullPointerException.class, () -> new Money(null));
+    }
+
+    @Test
+    public void new_ShouldThrowArithmeticException_WhenAmountDoesNotFitInLongCents() {
+        // Given
+        BigDecimal amount = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2).add(new BigDecimal("0.01"));
+
+        // When / Then
+        assertThrows(ArithmeticException.class, () -> new Money(amount));
+    }
+
+    @Test
+    public void add_ShouldAddCents() {
+        // Given
+        Money money = new Money(new BigDecimal("10.05"));
+
+        // When
+        Money sum = money.add(Money.ofCents(95));
+
+        // Then
+        assertEquals(Money.ofCents(1100), sum);
+    }
+
+    @Test
+    public void add_ShouldThrowArithmeticException_WhenSumOverflows() {
+        // Given
+        Money money = Money.ofCents(Long.MAX_VALUE);
+
+        // When / Then
+        assertThrows(ArithmeticException.class, () -> money.add(Money.ofCents(1)));
+    }
+
+    @Test
+    public void subtract_ShouldSubtractCents() {
+        // Given
+        Money money = Money.ofCents(500);
+
+        // When
+        Money difference = money.subtract(Money.ofCents(750));
+
+        // Then
+        assertEquals(Money.ofCents(-250), difference);
+        assertFalse(difference.isGreaterThanZero());
+    }
+
+    @Test
+    public void subtract_ShouldThrowArithmeticException_WhenDifferenceOverflows() {
+        // Given
+        Money money = Money.ofCents(Long.MIN_VALUE);
+
+        // When / Then
+        assertThrows(ArithmeticException.class, () -> money.subtract(Money.ofCents(1)));
+    }
+
+    @Test
+    public void multiply_ShouldMultiplyCents() {
+        // Given
+        Money money = new Money(new BigDecimal("2.50"));
+
+        // When
+        Money product = money.multiply(3);
+
+        // Then
+        assertEquals(new BigDecimal("7.50"), product.getAmount());
+    }
+
+    @Test
+    public void multiply_ShouldThrowArithmeticException_WhenProductOverflows() {
+        // Given
+        Money money = Money.ofCents(Long.MAX_VALUE / 2 + 1);
+
+        // When / Then
+        assertThrows(ArithmeticException.class, () -> money.multiply(2));
+    }
+
+    @Test
+    public void isGreater_ShouldCompareCents() {
+        // Given
+        Money money = Money.ofCents(101);
+
+        // When / Then
+        assertTrue(money.isGreater(Money.ofCents(100)));
+        assertFalse(money.isGreater(Money.ofCents(101)));
+        assertTrue(money.isGreaterThanZero());
+        assertFalse(Money.ZERO.isGreaterThanZero());
+    }
+
+    @Test
+    public void equals_ShouldIgnoreAmountScale() {
+        // Given
+        Money money = new Money(new BigDecimal("1.5"));
+
+        // When / Then
+        assertEquals(new Money(new BigDecimal("1.50")), money);
+        assertEquals(new Money(new BigDecimal("1.50")).hashCode(), money.hashCode());
+        assertNotEquals(Money.ofCents(151), money);
+    }
+}
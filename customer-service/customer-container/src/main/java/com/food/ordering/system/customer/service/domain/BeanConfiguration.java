@@ -0,0 +1,13 @@
+package com.food.ordering.system.customer.service.domain;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BeanConfiguration {
+
+    @Bean
+    public CustomerDomainService customerDomainService() {
+        return new CustomerDomainServiceImpl();
+    }
+}
@@ -0,0 +1,42 @@
+DROP SCHEMA IF EXISTS customer CASCADE;
+
+CREATE SCHEMA customer;
+
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+CREATE TABLE customer.customers
+(
+    id uuid NOT NULL,
+    username character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
+);
+
+DROP TABLE IF EXISTS customer.outbox CASCADE;
+
+DROP SEQUENCE IF EXISTS customer.outbox_id_seq;
+
+CREATE SEQUENCE customer.outbox_id_seq INCREMENT BY 1;
+
+CREATE TABLE customer.outbox
+(
+    id            bigint                                         NOT NULL,
+    topic         character varying COLLATE pg_catalog."default" NOT NULL,
+    message_key   character varying COLLATE pg_catalog."default" NOT NULL,
+    payload_type  character varying COLLATE pg_catalog."default" NOT NULL,
+    payload       bytea                                          NOT NULL,
+    headers       bytea,
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    outbox_status character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX outbox_started_id_idx
+    ON customer.outbox (id)
+    WHERE outbox_status = 'STARTED';
+
+DROP PUBLICATION IF EXISTS customer_outbox_publication;
+
+CREATE PUBLICATION customer_outbox_publication FOR TABLE customer.outbox WITH (publish = 'insert');
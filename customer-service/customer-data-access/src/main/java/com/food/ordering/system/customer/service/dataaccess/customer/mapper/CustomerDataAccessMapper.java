@@ -0,0 +1,28 @@
+package com.food.ordering.system.customer.service.dataaccess.customer.mapper;
+
+import com.food.ordering.system.customer.service.dataaccess.customer.entity.CustomerEntity;
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerDataAccessMapper {
+
+    public CustomerEntity customerToCustomerEntity(Customer customer) {
+        return CustomerEntity.builder()
+                .id(customer.getId().getValue())
+                .username(customer.getUsername())
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .build();
+    }
+
+    public Customer customerEntityToCustomer(CustomerEntity customerEntity) {
+        return Customer.builder()
+                .customerId(new CustomerId(customerEntity.getId()))
+                .username(customerEntity.getUsername())
+                .firstName(customerEntity.getFirstName())
+                .lastName(customerEntity.getLastName())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.customer.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "customer-service")
+public class CustomerServiceConfigData {
+
+    private String customerTopicName;
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.customer.service.domain.mapper;
+
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerCommand;
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerResponse;
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerDataMapper {
+
+    public Customer createCustomerCommandToCustomer(CreateCustomerCommand createCustomerCommand) {
+        return Customer.builder()
+                .customerId(new CustomerId(createCustomerCommand.getCustomerId()))
+                .username(createCustomerCommand.getUsername())
+                .firstName(createCustomerCommand.getFirstName())
+                .lastName(createCustomerCommand.getLastName())
+                .build();
+    }
+
+    public CreateCustomerResponse customerToCreateCustomerResponse(Customer customer, String message) {
+        return CreateCustomerResponse.builder()
+                .customerId(customer.getId().getValue())
+                .message(message)
+                .build();
+    }
+}
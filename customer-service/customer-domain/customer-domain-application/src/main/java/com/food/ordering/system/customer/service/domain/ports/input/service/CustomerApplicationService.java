@@ -0,0 +1,10 @@
+package com.food.ordering.system.customer.service.domain.ports.input.service;
+
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerCommand;
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerResponse;
+import jakarta.validation.Valid;
+
+public interface CustomerApplicationService {
+
+    CreateCustomerResponse createCustomer(@Valid CreateCustomerCommand createCustomerCommand);
+}
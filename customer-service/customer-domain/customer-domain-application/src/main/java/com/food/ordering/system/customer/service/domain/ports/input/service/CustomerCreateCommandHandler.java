@@ -0,0 +1,52 @@
+package com.food.ordering.system.customer.service.domain.ports.input.service;
+
+import com.food.ordering.system.customer.service.domain.CustomerDomainService;
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerCommand;
+import com.food.ordering.system.customer.service.domain.dto.create.CreateCustomerResponse;
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.customer.service.domain.exception.CustomerDomainException;
+import com.food.ordering.system.customer.service.domain.mapper.CustomerDataMapper;
+import com.food.ordering.system.customer.service.domain.ports.output.message.publisher.CustomerCreatedMessagePublisher;
+import com.food.ordering.system.customer.service.domain.ports.output.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerCreateCommandHandler {
+
+    private final CustomerDomainService customerDomainService;
+    private final CustomerRepository customerRepository;
+    private final CustomerDataMapper customerDataMapper;
+    private final CustomerCreatedMessagePublisher customerCreatedMessagePublisher;
+
+    @Transactional
+    public CreateCustomerResponse createCustomer(CreateCustomerCommand createCustomerCommand) {
+        Customer customer = customerDataMapper.createCustomerCommandToCustomer(createCustomerCommand);
+        CustomerCreatedEvent customerCreatedEvent = customerDomainService.validateAndInitiateCustomer(customer,
+                customerCreatedMessagePublisher);
+
+        if (customerRepository.existsCustomer(customer.getId().getValue())) {
+            log.warn("Customer with id [{}] already exists", customer.getId().getValue());
+            throw new CustomerDomainException(
+                    String.format("Customer with id [%s] already exists", customer.getId().getValue())
+            );
+        }
+
+        Customer savedCustomer = customerRepository.createCustomer(customer);
+        if (savedCustomer == null) {
+            log.error("Could not save customer with id [{}]", customer.getId().getValue());
+            throw new CustomerDomainException(
+                    String.format("Could not save customer with id [%s]", customer.getId().getValue())
+            );
+        }
+        customerCreatedEvent.fire();
+
+        log.info("Customer is created with id [{}]", savedCustomer.getId().getValue());
+        return customerDataMapper.customerToCreateCustomerResponse(savedCustomer, "Customer created successfully.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.customer.service.domain.ports.output.message.publisher;
+
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+
+public interface CustomerCreatedMessagePublisher extends DomainEventPublisher<CustomerCreatedEvent> {
+
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.customer.service.domain.ports.output.repository;
+
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+
+import java.util.UUID;
+
+public interface CustomerRepository {
+
+    Customer createCustomer(Customer customer);
+
+    boolean existsCustomer(UUID customerId);
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.customer.service.domain;
+
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+
+public interface CustomerDomainService {
+
+    CustomerCreatedEvent validateAndInitiateCustomer(Customer customer,
+                                                     DomainEventPublisher<CustomerCreatedEvent> customerCreatedEventPublisher);
+}
@@ -0,0 +1,86 @@
+package com.food.ordering.system.customer.service.domain.entity;
+
+import com.food.ordering.system.customer.service.domain.exception.CustomerDomainException;
+import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+
+public class Customer extends AggregateRoot<CustomerId> {
+
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+
+    public void validateCustomer() {
+        if (getId() == null) {
+            throw new CustomerDomainException("Customer id must be provided!");
+        }
+        if (isBlank(username)) {
+            throw new CustomerDomainException("Customer username must be provided!");
+        }
+        if (isBlank(firstName) || isBlank(lastName)) {
+            throw new CustomerDomainException("Customer first and last name must be provided!");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private Customer(Builder builder) {
+        setId(builder.customerId);
+        username = builder.username;
+        firstName = builder.firstName;
+        lastName = builder.lastName;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private CustomerId customerId;
+        private String username;
+        private String firstName;
+        private String lastName;
+
+        private Builder() {
+        }
+
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        public Builder username(String val) {
+            username = val;
+            return this;
+        }
+
+        public Builder firstName(String val) {
+            firstName = val;
+            return this;
+        }
+
+        public Builder lastName(String val) {
+            lastName = val;
+            return this;
+        }
+
+        public Customer build() {
+            return new Customer(this);
+        }
+    }
+}
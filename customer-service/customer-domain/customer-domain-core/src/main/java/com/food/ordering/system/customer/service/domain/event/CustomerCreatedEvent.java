@@ -0,0 +1,35 @@
+package com.food.ordering.system.customer.service.domain.event;
+
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.domain.event.DomainEvent;
+import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+
+import java.time.ZonedDateTime;
+
+public class CustomerCreatedEvent implements DomainEvent<Customer> {
+
+    private final Customer customer;
+    private final ZonedDateTime createdAt;
+    private final DomainEventPublisher<CustomerCreatedEvent> eventPublisher;
+
+    public CustomerCreatedEvent(Customer customer,
+                                ZonedDateTime createdAt,
+                                DomainEventPublisher<CustomerCreatedEvent> eventPublisher) {
+        this.customer = customer;
+        this.createdAt = createdAt;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public void fire() {
+        eventPublisher.publish(this);
+    }
+}
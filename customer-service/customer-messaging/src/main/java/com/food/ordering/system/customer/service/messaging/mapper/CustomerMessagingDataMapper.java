@@ -0,0 +1,21 @@
+package com.food.ordering.system.customer.service.messaging.mapper;
+
+import com.food.ordering.system.customer.service.domain.entity.Customer;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerMessagingDataMapper {
+
+    public CustomerAvroModel customerCreatedEventToCustomerAvroModel(CustomerCreatedEvent customerCreatedEvent) {
+        Customer customer = customerCreatedEvent.getCustomer();
+        return CustomerAvroModel.newBuilder()
+                .setId(customer.getId().getValue().toString())
+                .setUsername(customer.getUsername())
+                .setFirstName(customer.getFirstName())
+                .setLastName(customer.getLastName())
+                .setCreatedAt(customerCreatedEvent.getCreatedAt().toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.customer.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.customer.service.domain.config.CustomerServiceConfigData;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.customer.service.domain.ports.output.message.publisher.CustomerCreatedMessagePublisher;
+import com.food.ordering.system.customer.service.messaging.mapper.CustomerMessagingDataMapper;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.outbox.service.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerCreatedKafkaMessagePublisher implements CustomerCreatedMessagePublisher {
+
+    private final CustomerMessagingDataMapper customerMessagingDataMapper;
+    private final OutboxWriter outboxWriter;
+    private final CustomerServiceConfigData customerServiceConfigData;
+
+    @Override
+    public void publish(CustomerCreatedEvent customerCreatedEvent) {
+        String customerId = customerCreatedEvent.getCustomer().getId().getValue().toString();
+        log.info("Received CustomerCreatedEvent with customer id [{}]", customerId);
+
+        CustomerAvroModel customerAvroModel = customerMessagingDataMapper
+                .customerCreatedEventToCustomerAvroModel(customerCreatedEvent);
+
+        outboxWriter.save(customerServiceConfigData.getCustomerTopicName(), customerId, customerAvroModel);
+        log.info("CustomerAvroModel saved to outbox for customer id [{}]", customerId);
+    }
+}
@@ -1,12 +0,0 @@
-package com.food.ordering.system.cutomer.service;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication(scanBasePackages = "com.food.ordering.system")
-public class CustomerServiceApplication {
-
-    public static void main(String[] args) {
-        SpringApplication.run(CustomerServiceApplication.class, args);
-    }
-}
@@ -0,0 +1,49 @@
+package com.food.ordering.system.dedup.cache;
+
+import com.food.ordering.system.dataaccess.cache.UuidBloomFilter;
+import com.food.ordering.system.dedup.config.DedupConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class ProcessedMessageCache {
+
+    private final Cache<UUID, Boolean> cache;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private volatile UuidBloomFilter bloomFilter;
+    private volatile UuidBloomFilter previousBloomFilter;
+
+    public ProcessedMessageCache(DedupConfigData dedupConfigData) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(dedupConfigData.getCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(dedupConfigData.getCacheExpireAfterWriteMs()))
+                .build();
+        this.expectedInsertions = dedupConfigData.getBloomFilterExpectedInsertions();
+        this.falsePositiveProbability = dedupConfigData.getBloomFilterFalsePositiveProbability();
+        this.bloomFilter = new UuidBloomFilter(expectedInsertions, falsePositiveProbability);
+        this.previousBloomFilter = new UuidBloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    public boolean isProcessed(UUID messageId) {
+        return cache.getIfPresent(messageId) != null;
+    }
+
+    public boolean mightBeProcessed(UUID messageId) {
+        return bloomFilter.mightContain(messageId) || previousBloomFilter.mightContain(messageId);
+    }
+
+    public void put(UUID messageId) {
+        bloomFilter.put(messageId);
+        cache.put(messageId, Boolean.TRUE);
+    }
+
+    public synchronized void rotateBloomFilter() {
+        previousBloomFilter = bloomFilter;
+        bloomFilter = new UuidBloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.dedup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "dedup-config")
+public class DedupConfigData {
+
+    private Long cacheMaximumSize;
+    private Long cacheExpireAfterWriteMs;
+    private Long bloomFilterExpectedInsertions;
+    private Double bloomFilterFalsePositiveProbability;
+    private Long bloomFilterRotationFixedDelayMs;
+    private Integer partitionRetentionDays;
+    private Integer partitionPrecreateDays;
+    private Long partitionMaintenanceFixedDelayMs;
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.dedup.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProcessedMessageEntityId.class)
+@Table(name = "processed_messages")
+@Entity
+public class ProcessedMessageEntity {
+
+    @Id
+    private UUID messageId;
+    @Id
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProcessedMessageEntity that = (ProcessedMessageEntity) o;
+        return Objects.equals(messageId, that.messageId) && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(messageId, createdAt);
+    }
+}
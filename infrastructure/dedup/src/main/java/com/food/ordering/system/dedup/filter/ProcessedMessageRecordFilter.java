@@ -0,0 +1,22 @@
+package com.food.ordering.system.dedup.filter;
+
+import com.food.ordering.system.dedup.cache.ProcessedMessageCache;
+import com.food.ordering.system.kafka.producer.header.RoutingHeaders;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProcessedMessageRecordFilter implements RecordFilterStrategy<Object, Object> {
+
+    private final ProcessedMessageCache processedMessageCache;
+
+    @Override
+    public boolean filter(ConsumerRecord<Object, Object> consumerRecord) {
+        return RoutingHeaders.messageId(consumerRecord.headers())
+                .map(processedMessageCache::isProcessed)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.dedup.repository;
+
+import com.food.ordering.system.dedup.entity.ProcessedMessageEntity;
+import com.food.ordering.system.dedup.entity.ProcessedMessageEntityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedMessageJpaRepository extends JpaRepository<ProcessedMessageEntity, ProcessedMessageEntityId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO processed_messages (message_id, created_at, processed_at) " +
+            "VALUES (:messageId, :createdAt, :processedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("messageId") UUID messageId,
+                       @Param("createdAt") ZonedDateTime createdAt,
+                       @Param("processedAt") ZonedDateTime processedAt);
+
+    @Query(value = "SELECT message_id FROM processed_messages WHERE message_id IN (:messageIds)", nativeQuery = true)
+    List<UUID> findProcessedMessageIds(@Param("messageIds") Collection<UUID> messageIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM processed_messages WHERE message_id IN (:messageIds)", nativeQuery = true)
+    int deleteByMessageIdIn(@Param("messageIds") Collection<UUID> messageIds);
+
+    @Query(value = "SELECT maintain_processed_messages_partitions(:retentionDays, :precreateDays)", nativeQuery = true)
+    int maintainPartitions(@Param("retentionDays") int retentionDays,
+                           @Param("precreateDays") int precreateDays);
+}
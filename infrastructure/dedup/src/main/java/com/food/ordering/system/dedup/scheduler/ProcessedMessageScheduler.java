@@ -0,0 +1,37 @@
+package com.food.ordering.system.dedup.scheduler;
+
+import com.food.ordering.system.dedup.cache.ProcessedMessageCache;
+import com.food.ordering.system.dedup.config.DedupConfigData;
+import com.food.ordering.system.dedup.repository.ProcessedMessageJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedMessageScheduler {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final ProcessedMessageCache processedMessageCache;
+    private final DedupConfigData dedupConfigData;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${dedup-config.partition-maintenance-fixed-delay-ms}")
+    public void maintainPartitions() {
+        int dropped = processedMessageJpaRepository.maintainPartitions(dedupConfigData.getPartitionRetentionDays(),
+                dedupConfigData.getPartitionPrecreateDays());
+        if (dropped > 0) {
+            log.info("[{}] processed message partitions older than [{}] days dropped",
+                    dropped, dedupConfigData.getPartitionRetentionDays());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dedup-config.bloom-filter-rotation-fixed-delay-ms}",
+            initialDelayString = "${dedup-config.bloom-filter-rotation-fixed-delay-ms}")
+    public void rotateBloomFilter() {
+        processedMessageCache.rotateBloomFilter();
+    }
+}
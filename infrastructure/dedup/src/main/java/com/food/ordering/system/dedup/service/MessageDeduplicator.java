@@ -0,0 +1,21 @@
+package com.food.ordering.system.dedup.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public interface MessageDeduplicator {
+
+    <T> List<T> filterProcessed(List<T> messages, Function<T, String> messageIdExtractor);
+
+    <T> void processOnce(T message,
+                         Function<T, String> messageIdExtractor,
+                         Function<T, Instant> createdAtExtractor,
+                         Consumer<T> handler);
+
+    <T> List<T> processOnceInBatch(List<T> messages,
+                                   Function<T, String> messageIdExtractor,
+                                   Function<T, Instant> createdAtExtractor,
+                                   Function<List<T>, List<T>> batchHandler);
+}
@@ -0,0 +1,82 @@
+package com.food.ordering.system.dedup.service.impl;
+
+import com.food.ordering.system.dedup.cache.ProcessedMessageCache;
+import com.food.ordering.system.dedup.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageDeduplicatorImpl implements MessageDeduplicator {
+
+    private final ProcessedMessageCache processedMessageCache;
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final ProcessedMessageHelper processedMessageHelper;
+
+    @Override
+    public <T> List<T> filterProcessed(List<T> messages, Function<T, String> messageIdExtractor) {
+        List<T> candidates = new ArrayList<>(messages.size());
+        List<UUID> candidateIds = new ArrayList<>(messages.size());
+        Set<UUID> suspectedIds = new HashSet<>();
+        for (T message : messages) {
+            UUID messageId = UUID.fromString(messageIdExtractor.apply(message));
+            if (processedMessageCache.isProcessed(messageId)) {
+                continue;
+            }
+            if (processedMessageCache.mightBeProcessed(messageId)) {
+                suspectedIds.add(messageId);
+            }
+            candidates.add(message);
+            candidateIds.add(messageId);
+        }
+
+        Set<UUID> processedIds = suspectedIds.isEmpty() ? Set.of() :
+                new HashSet<>(processedMessageJpaRepository.findProcessedMessageIds(suspectedIds));
+        processedIds.forEach(processedMessageCache::put);
+
+        List<T> unprocessed = new ArrayList<>(candidates.size());
+        for (int index = 0; index < candidates.size(); index++) {
+            if (!processedIds.contains(candidateIds.get(index))) {
+                unprocessed.add(candidates.get(index));
+            }
+        }
+        if (unprocessed.size() < messages.size()) {
+            log.info("[{}] of [{}] messages are already processed and dropped",
+                    messages.size() - unprocessed.size(), messages.size());
+        }
+        return unprocessed;
+    }
+
+    @Override
+    public <T> void processOnce(T message,
+                                Function<T, String> messageIdExtractor,
+                                Function<T, Instant> createdAtExtractor,
+                                Consumer<T> handler) {
+        UUID messageId = UUID.fromString(messageIdExtractor.apply(message));
+        if (processedMessageCache.isProcessed(messageId)) {
+            log.info("Message with id [{}] is already processed and dropped", messageId);
+            return;
+        }
+        processedMessageHelper.processOnce(message, messageId, createdAtExtractor.apply(message), handler);
+    }
+
+    @Override
+    public <T> List<T> processOnceInBatch(List<T> messages,
+                                          Function<T, String> messageIdExtractor,
+                                          Function<T, Instant> createdAtExtractor,
+                                          Function<List<T>, List<T>> batchHandler) {
+        return processedMessageHelper.processOnceInBatch(messages, messageIdExtractor, createdAtExtractor, batchHandler);
+    }
+}
@@ -0,0 +1,90 @@
+package com.food.ordering.system.dedup.service.impl;
+
+import com.food.ordering.system.dedup.cache.ProcessedMessageCache;
+import com.food.ordering.system.dedup.repository.ProcessedMessageJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedMessageHelper {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final ProcessedMessageCache processedMessageCache;
+
+    @Transactional
+    public <T> void processOnce(T message, UUID messageId, Instant createdAt, Consumer<T> handler) {
+        if (!markProcessed(messageId, createdAt)) {
+            log.info("Message with id [{}] is already processed and dropped", messageId);
+            return;
+        }
+        handler.accept(message);
+        putAfterCommit(List.of(messageId));
+    }
+
+    @Transactional
+    public <T> List<T> processOnceInBatch(List<T> messages,
+                                          Function<T, String> messageIdExtractor,
+                                          Function<T, Instant> createdAtExtractor,
+                                          Function<List<T>, List<T>> batchHandler) {
+        List<T> unprocessed = new ArrayList<>(messages.size());
+        List<UUID> unprocessedIds = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            UUID messageId = UUID.fromString(messageIdExtractor.apply(message));
+            if (markProcessed(messageId, createdAtExtractor.apply(message))) {
+                unprocessed.add(message);
+                unprocessedIds.add(messageId);
+            }
+        }
+        if (unprocessed.size() < messages.size()) {
+            log.info("[{}] of [{}] messages are already processed and dropped",
+                    messages.size() - unprocessed.size(), messages.size());
+        }
+        if (unprocessed.isEmpty()) {
+            return List.of();
+        }
+
+        List<T> failed = batchHandler.apply(unprocessed);
+        if (!failed.isEmpty()) {
+            Set<UUID> failedIds = new HashSet<>();
+            failed.forEach(message -> failedIds.add(UUID.fromString(messageIdExtractor.apply(message))));
+            processedMessageJpaRepository.deleteByMessageIdIn(failedIds);
+            unprocessedIds.removeAll(failedIds);
+        }
+        putAfterCommit(unprocessedIds);
+        return failed;
+    }
+
+    private boolean markProcessed(UUID messageId, Instant createdAt) {
+        return processedMessageJpaRepository.insertIfAbsent(messageId,
+                ZonedDateTime.ofInstant(createdAt, ZoneId.of(UTC)),
+                ZonedDateTime.now(ZoneId.of(UTC))) > 0;
+    }
+
+    private void putAfterCommit(List<UUID> messageIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                messageIds.forEach(processedMessageCache::put);
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.food.ordering.system.dedup.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.food.ordering.system.dedup.config.DedupConfigData;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class ProcessedMessageCacheTest {
+
+    @Test
+    public void put_ShouldMarkMessageAsProcessed() {
+        // Given
+        ProcessedMessageCache processedMessageCache = newCache();
+        UUID messageId = UUID.randomUUID();
+
+        // When
+        processedMessageCache.put(messageId);
+
+        // Then
+        assertTrue(processedMessageCache.isProcessed(messageId));
+        assertTrue(processedMessageCache.mightBeProcessed(messageId));
+    }
+
+    @Test
+    public void isProcessed_ShouldReturnFalse_WhenMessageIsUnknown() {
+        // Given
+        ProcessedMessageCache processedMessageCache = newCache();
+        processedMessageCache.put(UUID.randomUUID());
+
+        // When
+        UUID messageId = UUID.randomUUID();
+
+        // Then
+        assertFalse(processedMessageCache.isProcessed(messageId));
+        assertFalse(processedMessageCache.mightBeProcessed(messageId));
+    }
+
+    @Test
+    public void mightBeProcessed_ShouldKeepMessage_WhenBloomFilterIsRotatedOnce() {
+        // Given
+        ProcessedMessageCache processedMessageCache = newCache();
+        UUID messageId = UUID.randomUUID();
+        processedMessageCache.put(messageId);
+
+        // When
+        processedMessageCache.rotateBloomFilter();
+
+        // Then
+        assertTrue(processedMessageCache.mightBeProcessed(messageId));
+    }
+
+    @Test
+    public void mightBeProcessed_ShouldForgetMessage_WhenBloomFilterIsRotatedTwice() {
+        // Given
+        ProcessedMessageCache processedMessageCache = newCache();
+        UUID messageId = UUID.randomUUID();
+        processedMessageCache.put(messageId);
+
+        // When
+        processedMessageCache.rotateBloomFilter();
+        processedMessageCache.rotateBloomFilter();
+
+        // Then
+        assertFalse(processedMessageCache.mightBeProcessed(messageId));
+        assertTrue(processedMessageCache.isProcessed(messageId));
+    }
+
+    private ProcessedMessageCache newCache() {
+        DedupConfigData dedupConfigData = new DedupConfigData();
+        dedupConfigData.setCacheMaximumSize(1_000L);
+        dedupConfigData.setCacheExpireAfterWriteMs(60_000L);
+        dedupConfigData.setBloomFilterExpectedInsertions(1_000L);
+        dedupConfigData.setBloomFilterFalsePositiveProbability(0.000_001);
+        return new ProcessedMessageCache(dedupConfigData);
+    }
+}
@@ -0,0 +1,101 @@
+package com.food.ordering.system.dedup.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.dedup.cache.ProcessedMessageCache;
+import com.food.ordering.system.dedup.repository.ProcessedMessageJpaRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class MessageDeduplicatorImplTest {
+
+    private static final UUID CACHED_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SUSPECTED_PROCESSED_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID SUSPECTED_NEW_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID NEW_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final Function<String, String> MESSAGE_ID = Function.identity();
+
+    private final ProcessedMessageCache processedMessageCache = mock(ProcessedMessageCache.class);
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository = mock(ProcessedMessageJpaRepository.class);
+    private final ProcessedMessageHelper processedMessageHelper = mock(ProcessedMessageHelper.class);
+    private final MessageDeduplicatorImpl messageDeduplicator =
+            new MessageDeduplicatorImpl(processedMessageCache, processedMessageJpaRepository, processedMessageHelper);
+
+    @Test
+    public void filterProcessed_ShouldDropCachedAndStoredMessages_WhenOthersAreNew() {
+        // Given
+        when(processedMessageCache.isProcessed(CACHED_ID)).thenReturn(true);
+        when(processedMessageCache.mightBeProcessed(SUSPECTED_PROCESSED_ID)).thenReturn(true);
+        when(processedMessageCache.mightBeProcessed(SUSPECTED_NEW_ID)).thenReturn(true);
+        when(processedMessageJpaRepository.findProcessedMessageIds(Set.of(SUSPECTED_PROCESSED_ID, SUSPECTED_NEW_ID)))
+                .thenReturn(List.of(SUSPECTED_PROCESSED_ID));
+        List<String> messages = ids(NEW_ID, CACHED_ID, SUSPECTED_PROCESSED_ID, SUSPECTED_NEW_ID);
+
+        // When
+        List<String> unprocessed = messageDeduplicator.filterProcessed(messages, MESSAGE_ID);
+
+        // Then
+        assertEquals(ids(NEW_ID, SUSPECTED_NEW_ID), unprocessed);
+        verify(processedMessageCache).put(SUSPECTED_PROCESSED_ID);
+        verify(processedMessageCache, never()).put(SUSPECTED_NEW_ID);
+    }
+
+    @Test
+    public void filterProcessed_ShouldNotQueryRepository_WhenNoMessageIsSuspected() {
+        // Given
+        when(processedMessageCache.isProcessed(CACHED_ID)).thenReturn(true);
+        List<String> messages = ids(CACHED_ID, NEW_ID);
+
+        // When
+        List<String> unprocessed = messageDeduplicator.filterProcessed(messages, MESSAGE_ID);
+
+        // Then
+        assertEquals(ids(NEW_ID), unprocessed);
+        verify(processedMessageJpaRepository, never()).findProcessedMessageIds(anyCollection());
+    }
+
+    @Test
+    public void processOnce_ShouldSkipHandler_WhenMessageIsCached() {
+        // Given
+        when(processedMessageCache.isProcessed(CACHED_ID)).thenReturn(true);
+        List<String> handled = new ArrayList<>();
+
+        // When
+        messageDeduplicator.processOnce(CACHED_ID.toString(), MESSAGE_ID, message -> Instant.EPOCH, handled::add);
+
+        // Then
+        assertTrue(handled.isEmpty());
+        verify(processedMessageHelper, never()).processOnce(any(), any(), any(), any());
+    }
+
+    @Test
+    public void processOnce_ShouldDelegateToHelper_WhenMessageIsNotCached() {
+        // Given
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<String> handled = new ArrayList<>();
+
+        // When
+        messageDeduplicator.processOnce(NEW_ID.toString(), MESSAGE_ID, message -> createdAt, handled::add);
+
+        // Then
+        verify(processedMessageHelper).processOnce(eq(NEW_ID.toString()), eq(NEW_ID), eq(createdAt), any());
+    }
+
+    private List<String> ids(UUID... messageIds) {
+        return Arrays.stream(messageIds).map(UUID::toString).toList();
+    }
+}
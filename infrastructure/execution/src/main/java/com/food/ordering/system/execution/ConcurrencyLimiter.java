@@ -0,0 +1,50 @@
+package com.food.ordering.system.execution;
+
+import com.food.ordering.system.execution.exception.ConcurrencyLimitException;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+public class ConcurrencyLimiter {
+
+    private final int permits;
+    private final Semaphore semaphore;
+
+    public ConcurrencyLimiter(int permits) {
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits);
+    }
+
+    public void run(Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        acquire();
+        try {
+            return supplier.get();
+        } finally {
+            release();
+        }
+    }
+
+    public void acquire() {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitException("Interrupted while waiting for a concurrency permit", e);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.execution;
+
+public enum ExecutionMode {
+    PLATFORM, VIRTUAL
+}
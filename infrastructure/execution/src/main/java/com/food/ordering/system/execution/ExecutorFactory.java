@@ -0,0 +1,58 @@
+package com.food.ordering.system.execution;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ExecutorFactory {
+
+    private final ExecutionMode executionMode;
+
+    public ExecutorFactory(ExecutionMode executionMode) {
+        if (executionMode == ExecutionMode.VIRTUAL && !isVirtualThreadSupported()) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, but the runtime is Java " +
+                    Runtime.version().feature());
+        }
+        this.executionMode = executionMode;
+        log.info("Executors are created in [{}] execution mode", executionMode);
+    }
+
+    public ExecutorService newExecutor(String name, int platformThreads) {
+        if (executionMode == ExecutionMode.VIRTUAL) {
+            return newVirtualThreadPerTaskExecutor(name);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(platformThreads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    private ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, name + "-", 1L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual thread executor could not be created", e);
+        }
+    }
+}
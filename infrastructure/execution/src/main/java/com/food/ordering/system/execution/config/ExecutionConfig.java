@@ -0,0 +1,28 @@
+package com.food.ordering.system.execution.config;
+
+import com.food.ordering.system.execution.ConcurrencyLimiter;
+import com.food.ordering.system.execution.ExecutionMode;
+import com.food.ordering.system.execution.ExecutorFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ExecutionConfig {
+
+    private static final String HIKARI_MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    private static final int HIKARI_DEFAULT_MAXIMUM_POOL_SIZE = 10;
+
+    @Bean
+    public ExecutorFactory executorFactory(ExecutionConfigData executionConfigData) {
+        return new ExecutorFactory(executionConfigData.getMode() == null ?
+                ExecutionMode.PLATFORM : executionConfigData.getMode());
+    }
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ExecutionConfigData executionConfigData, Environment environment) {
+        return new ConcurrencyLimiter(executionConfigData.getMaxConcurrency() != null ?
+                executionConfigData.getMaxConcurrency() :
+                environment.getProperty(HIKARI_MAXIMUM_POOL_SIZE, Integer.class, HIKARI_DEFAULT_MAXIMUM_POOL_SIZE));
+    }
+}
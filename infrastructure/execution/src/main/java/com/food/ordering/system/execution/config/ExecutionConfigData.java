@@ -0,0 +1,15 @@
+package com.food.ordering.system.execution.config;
+
+import com.food.ordering.system.execution.ExecutionMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "execution-config")
+public class ExecutionConfigData {
+
+    private ExecutionMode mode;
+    private Integer maxConcurrency;
+}
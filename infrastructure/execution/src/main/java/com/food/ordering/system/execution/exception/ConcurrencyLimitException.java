@@ -0,0 +1,8 @@
+package com.food.ordering.system.execution.exception;
+
+public class ConcurrencyLimitException extends RuntimeException {
+
+    public ConcurrencyLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.kafka.config.data;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka-backpressure-config")
+public class KafkaBackpressureConfigData {
+
+    private Boolean enabled;
+    private Long latencyBudgetMs;
+    private Integer minBatchSize;
+    private Integer batchSizeIncrement;
+    private Integer maxPendingConnections;
+    private Double maxPoolUtilization;
+    private Long evaluationFixedDelayMs;
+}
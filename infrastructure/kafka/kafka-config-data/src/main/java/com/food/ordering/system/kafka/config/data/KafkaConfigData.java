@@ -12,6 +12,7 @@ public class KafkaConfigData {
     private String bootstrapServers;
     private String schemaRegistryUrlKey;
     private String schemaRegistryUrl;
+    private Boolean localSchemaRegistry;
     private Integer numOfPartitions;
     private Short replicationFactor;
 }
@@ -11,7 +11,9 @@ public class KafkaConsumerConfigData {
 
     private String keyDeserializer;
     private String valueDeserializer;
+    private Boolean lazyDeserialization;
     private String autoOffsetReset;
+    private String isolationLevel;
     private String specificAvroReaderKey;
     private String specificAvroReader;
     private Boolean batchListener;
@@ -24,4 +26,6 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Integer dispatcherParallelism;
+    private Boolean exactlyOnce;
 }
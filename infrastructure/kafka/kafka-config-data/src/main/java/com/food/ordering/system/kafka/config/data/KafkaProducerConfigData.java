@@ -18,4 +18,6 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private Integer errorLogIntervalMs;
+    private String transactionIdPrefix;
 }
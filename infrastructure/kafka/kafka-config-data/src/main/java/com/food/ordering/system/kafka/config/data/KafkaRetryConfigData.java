@@ -0,0 +1,19 @@
+package com.food.ordering.system.kafka.config.data;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka-retry-config")
+public class KafkaRetryConfigData {
+
+    private Boolean enabled;
+    private List<Long> delaysMs;
+    private String retryTopicSuffix;
+    private String deadLetterTopicSuffix;
+    private Long sendTimeoutMs;
+}
@@ -0,0 +1,48 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+public class AdaptiveBatchSize {
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int increment;
+    private final long latencyBudgetNanos;
+
+    private volatile int batchSize;
+    private volatile boolean overloaded;
+
+    public AdaptiveBatchSize(int minBatchSize, int maxBatchSize, int increment, long latencyBudgetNanos) {
+        this.minBatchSize = Math.min(minBatchSize, maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+        this.increment = increment;
+        this.latencyBudgetNanos = latencyBudgetNanos;
+        this.batchSize = maxBatchSize;
+    }
+
+    public synchronized void record(int processed, long elapsedNanos, boolean poolSaturated) {
+        if (processed == 0) {
+            return;
+        }
+        if (elapsedNanos > latencyBudgetNanos || poolSaturated) {
+            overloaded = elapsedNanos > latencyBudgetNanos && batchSize == minBatchSize;
+            int fitting = (int) Math.min(Integer.MAX_VALUE, latencyBudgetNanos * processed / Math.max(1, elapsedNanos));
+            batchSize = Math.max(minBatchSize, Math.min(batchSize / 2, fitting));
+        } else if (processed >= batchSize && elapsedNanos < latencyBudgetNanos / 2) {
+            overloaded = false;
+            batchSize = Math.min(maxBatchSize, batchSize + increment);
+        } else {
+            overloaded = false;
+        }
+    }
+
+    public int get() {
+        return batchSize;
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    public void clearOverloaded() {
+        overloaded = false;
+    }
+}
@@ -0,0 +1,191 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import com.food.ordering.system.kafka.config.data.KafkaBackpressureConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class BackpressureController {
+
+    private static final String BATCH_SIZE = "kafka.consumer.backpressure.batch.size";
+    private static final String PAUSED_PARTITIONS = "kafka.consumer.backpressure.paused.partitions";
+
+    private final KafkaBackpressureConfigData kafkaBackpressureConfigData;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> kafkaListenerEndpointRegistry;
+    private final MeterRegistry meterRegistry;
+    private final int maxBatchSize;
+    private final long latencyBudgetNanos;
+    private final Map<String, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+    private final Map<MessageListenerContainer, Set<TopicPartition>> pausedPartitions = new ConcurrentHashMap<>();
+
+    private volatile boolean poolSaturated;
+
+    public BackpressureController(KafkaBackpressureConfigData kafkaBackpressureConfigData,
+                                  KafkaConsumerConfigData kafkaConsumerConfigData,
+                                  ConnectionPoolMonitor connectionPoolMonitor,
+                                  ObjectProvider<KafkaListenerEndpointRegistry> kafkaListenerEndpointRegistry,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.kafkaBackpressureConfigData = kafkaBackpressureConfigData;
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.maxBatchSize = kafkaConsumerConfigData.getMaxPollRecords();
+        long latencyBudgetMs = kafkaBackpressureConfigData.getLatencyBudgetMs();
+        long maxLatencyBudgetMs = kafkaConsumerConfigData.getMaxPollIntervalMs() / 2;
+        if (latencyBudgetMs > maxLatencyBudgetMs) {
+            log.warn("Latency budget of [{}] ms is capped to half of max.poll.interval.ms, [{}] ms",
+                    latencyBudgetMs, maxLatencyBudgetMs);
+            latencyBudgetMs = maxLatencyBudgetMs;
+        }
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMs);
+        Gauge.builder(PAUSED_PARTITIONS, pausedPartitions, paused -> paused.values().stream().mapToInt(Set::size).sum())
+                .register(this.meterRegistry);
+    }
+
+    public <K, V> ConsumerRecords<K, V> limit(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        if (!kafkaBackpressureConfigData.getEnabled() || records.isEmpty()) {
+            return records;
+        }
+        int batchSize = batchSizeOf(consumer.groupMetadata().groupId()).get();
+        if (records.count() <= batchSize) {
+            return records;
+        }
+        List<TopicPartition> partitions = new ArrayList<>(records.partitions());
+        Map<TopicPartition, Integer> quotas = new HashMap<>();
+        int remaining = batchSize;
+        while (remaining > 0) {
+            for (TopicPartition partition : partitions) {
+                int quota = quotas.getOrDefault(partition, 0);
+                if (remaining > 0 && quota < records.records(partition).size()) {
+                    quotas.put(partition, quota + 1);
+                    remaining--;
+                }
+            }
+        }
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> limitedRecords = new LinkedHashMap<>();
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<K, V>> partitionRecords = records.records(partition);
+            int quota = quotas.getOrDefault(partition, 0);
+            if (quota < partitionRecords.size()) {
+                consumer.seek(partition, partitionRecords.get(quota).offset());
+            }
+            if (quota > 0) {
+                limitedRecords.put(partition, partitionRecords.subList(0, quota));
+            }
+        }
+        log.debug("Poll of [{}] records is limited to the batch size of [{}] of consumer group [{}]",
+                records.count(), batchSize, consumer.groupMetadata().groupId());
+        return new ConsumerRecords<>(limitedRecords);
+    }
+
+    public void record(String groupId, int processed, long elapsedNanos) {
+        if (!kafkaBackpressureConfigData.getEnabled()) {
+            return;
+        }
+        AdaptiveBatchSize batchSize = batchSizeOf(groupId);
+        int previous = batchSize.get();
+        batchSize.record(processed, elapsedNanos, poolSaturated);
+        if (batchSize.get() != previous) {
+            log.debug("Batch size of consumer group [{}] changed from [{}] to [{}] after [{}] records in [{}] ms",
+                    groupId, previous, batchSize.get(), processed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kafka-backpressure-config.evaluation-fixed-delay-ms}",
+            initialDelayString = "${kafka-backpressure-config.evaluation-fixed-delay-ms}")
+    public void evaluate() {
+        if (!kafkaBackpressureConfigData.getEnabled()) {
+            return;
+        }
+        Optional<ConnectionPoolUsage> usage = connectionPoolMonitor.usage();
+        poolSaturated = usage.map(pool -> pool.getPending() > 0 ||
+                pool.utilization() >= kafkaBackpressureConfigData.getMaxPoolUtilization()).orElse(false);
+        boolean poolExhausted = usage.map(pool ->
+                pool.getPending() > kafkaBackpressureConfigData.getMaxPendingConnections()).orElse(false);
+
+        KafkaListenerEndpointRegistry registry = kafkaListenerEndpointRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            AdaptiveBatchSize batchSize = batchSizes.get(container.getGroupId());
+            boolean overloaded = batchSize != null && batchSize.isOverloaded();
+            if (poolExhausted || overloaded) {
+                pause(container, usage);
+                if (overloaded) {
+                    batchSize.clearOverloaded();
+                }
+            } else {
+                resume(container);
+            }
+        }
+    }
+
+    private AdaptiveBatchSize batchSizeOf(String groupId) {
+        return batchSizes.computeIfAbsent(groupId, id -> {
+            AdaptiveBatchSize batchSize = new AdaptiveBatchSize(kafkaBackpressureConfigData.getMinBatchSize(),
+                    maxBatchSize, kafkaBackpressureConfigData.getBatchSizeIncrement(), latencyBudgetNanos);
+            Gauge.builder(BATCH_SIZE, batchSize, AdaptiveBatchSize::get)
+                    .tag("group", id)
+                    .register(meterRegistry);
+            return batchSize;
+        });
+    }
+
+    private void pause(MessageListenerContainer container, Optional<ConnectionPoolUsage> usage) {
+        Collection<TopicPartition> assignedPartitions = container.getAssignedPartitions();
+        if (assignedPartitions == null || assignedPartitions.isEmpty()) {
+            return;
+        }
+        Set<TopicPartition> paused = pausedPartitions.computeIfAbsent(container, c -> ConcurrentHashMap.newKeySet());
+        Set<TopicPartition> toPause = new HashSet<>();
+        for (TopicPartition partition : assignedPartitions) {
+            if (!paused.contains(partition) && !container.isPartitionPauseRequested(partition)) {
+                toPause.add(partition);
+            }
+        }
+        if (toPause.isEmpty()) {
+            return;
+        }
+        toPause.forEach(container::pausePartition);
+        paused.addAll(toPause);
+        log.warn("Paused [{}] partitions of listener [{}], connection pool active [{}], pending [{}]",
+                toPause.size(), container.getListenerId(),
+                usage.map(ConnectionPoolUsage::getActive).orElse(0), usage.map(ConnectionPoolUsage::getPending).orElse(0));
+    }
+
+    private void resume(MessageListenerContainer container) {
+        Set<TopicPartition> paused = pausedPartitions.remove(container);
+        if (paused == null || paused.isEmpty()) {
+            return;
+        }
+        paused.forEach(container::resumePartition);
+        log.info("Resumed [{}] partitions of listener [{}]", paused.size(), container.getListenerId());
+    }
+}
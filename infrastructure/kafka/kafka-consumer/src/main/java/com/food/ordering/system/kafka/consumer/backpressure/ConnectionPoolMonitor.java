@@ -0,0 +1,37 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Component
+public class ConnectionPoolMonitor {
+
+    private static final String ACTIVE = "hikaricp.connections.active";
+    private static final String PENDING = "hikaricp.connections.pending";
+    private static final String MAX = "hikaricp.connections.max";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionPoolMonitor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public Optional<ConnectionPoolUsage> usage() {
+        Collection<Gauge> max = meterRegistry.find(MAX).gauges();
+        if (max.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ConnectionPoolUsage(sum(meterRegistry.find(ACTIVE).gauges()),
+                sum(meterRegistry.find(PENDING).gauges()), sum(max)));
+    }
+
+    private int sum(Collection<Gauge> gauges) {
+        return (int) gauges.stream().mapToDouble(Gauge::value).sum();
+    }
+}
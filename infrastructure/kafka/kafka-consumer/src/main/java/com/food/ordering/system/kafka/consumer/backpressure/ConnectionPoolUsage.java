@@ -0,0 +1,17 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ConnectionPoolUsage {
+
+    private final int active;
+    private final int pending;
+    private final int max;
+
+    public double utilization() {
+        return max == 0 ? 0 : (double) active / max;
+    }
+}
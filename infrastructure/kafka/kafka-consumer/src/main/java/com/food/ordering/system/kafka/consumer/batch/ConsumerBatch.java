@@ -0,0 +1,85 @@
+package com.food.ordering.system.kafka.consumer.batch;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+public class ConsumerBatch {
+
+    private final List<ConsumerRecord<?, ?>> records;
+    private final int polledCount;
+    private final Map<TopicPartition, OffsetAndMetadata> offsets;
+    private final ConsumerGroupMetadata groupMetadata;
+    private final long startedAtNanos;
+
+    @Getter(AccessLevel.NONE)
+    private volatile boolean[] completed;
+
+    public ConsumerBatch(List<ConsumerRecord<?, ?>> records,
+                         int polledCount,
+                         Map<TopicPartition, OffsetAndMetadata> offsets,
+                         ConsumerGroupMetadata groupMetadata,
+                         long startedAtNanos) {
+        this.records = records;
+        this.polledCount = polledCount;
+        this.offsets = offsets;
+        this.groupMetadata = groupMetadata;
+        this.startedAtNanos = startedAtNanos;
+    }
+
+    public void markCompleted(boolean[] completed) {
+        if (completed.length != records.size()) {
+            throw new IllegalArgumentException(String.format("[%d] completion flags given for a batch of [%d] records",
+                    completed.length, records.size()));
+        }
+        this.completed = completed.clone();
+    }
+
+    public boolean isCompletionTracked() {
+        return completed != null;
+    }
+
+    public Map<TopicPartition, OffsetAndMetadata> getCompletedOffsets() {
+        boolean[] completed = this.completed;
+        Map<TopicPartition, OffsetAndMetadata> completedOffsets = new LinkedHashMap<>();
+        Set<TopicPartition> incompletePartitions = new HashSet<>();
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<?, ?> record = records.get(index);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (completed == null || !completed[index]) {
+                incompletePartitions.add(partition);
+            } else if (!incompletePartitions.contains(partition)) {
+                completedOffsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+            }
+        }
+        return completedOffsets;
+    }
+
+    public List<ConsumerRecord<?, ?>> getIncompleteRecords() {
+        boolean[] completed = this.completed;
+        List<ConsumerRecord<?, ?>> incompleteRecords = new ArrayList<>();
+        Set<TopicPartition> incompletePartitions = new HashSet<>();
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<?, ?> record = records.get(index);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (completed == null || !completed[index]) {
+                incompletePartitions.add(partition);
+            }
+            if (incompletePartitions.contains(partition)) {
+                incompleteRecords.add(record);
+            }
+        }
+        return incompleteRecords;
+    }
+}
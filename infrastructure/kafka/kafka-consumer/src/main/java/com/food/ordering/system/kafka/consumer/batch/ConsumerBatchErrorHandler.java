@@ -0,0 +1,142 @@
+package com.food.ordering.system.kafka.consumer.batch;
+
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.SeekUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class ConsumerBatchErrorHandler extends DefaultErrorHandler {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final ConsumerBatchInterceptor<?, ?> consumerBatchInterceptor;
+    private final RetryTopicRouter retryTopicRouter;
+    private final boolean exactlyOnce;
+    private final Map<TopicPartition, FailedAttempt> failedAttempts = new ConcurrentHashMap<>();
+
+    public ConsumerBatchErrorHandler(ConsumerBatchInterceptor<?, ?> consumerBatchInterceptor,
+                                     RetryTopicRouter retryTopicRouter,
+                                     boolean exactlyOnce) {
+        this.consumerBatchInterceptor = consumerBatchInterceptor;
+        this.retryTopicRouter = retryTopicRouter;
+        this.exactlyOnce = exactlyOnce;
+    }
+
+    @Override
+    public void handleBatch(Exception thrownException, ConsumerRecords<?, ?> data, Consumer<?, ?> consumer,
+                            MessageListenerContainer container, Runnable invokeListener) {
+        Optional<ConsumerBatch> failedBatch = consumerBatchInterceptor.takeFailedBatch();
+        if (failedBatch.isEmpty()) {
+            super.handleBatch(thrownException, data, consumer, container, invokeListener);
+            return;
+        }
+        List<ConsumerRecord<?, ?>> records = failedBatch.get().getRecords();
+        Optional<BatchListenerFailedException> batchListenerFailedException = batchListenerFailedException(thrownException);
+        if (batchListenerFailedException.isPresent() && failedBatch.get().isCompletionTracked()) {
+            handleIncompleteRecords(thrownException, batchListenerFailedException.get(), failedBatch.get(), consumer,
+                    container, invokeListener);
+            return;
+        }
+        if (exactlyOnce && batchListenerFailedException.isPresent()) {
+            int failedIndex = Math.max(0, failedIndex(batchListenerFailedException.get(), records));
+            SeekUtils.seekOrRecover(thrownException, records.subList(failedIndex, records.size()), consumer, container,
+                    false, (record, exception) -> recover(record, exception, consumer), logger, getLogLevel());
+            return;
+        }
+        super.handleBatch(thrownException, toConsumerRecords(records), consumer, container,
+                () -> consumerBatchInterceptor.retry(failedBatch.get(), consumer, invokeListener));
+    }
+
+    private void handleIncompleteRecords(Exception thrownException,
+                                         BatchListenerFailedException batchListenerFailedException,
+                                         ConsumerBatch failedBatch,
+                                         Consumer<?, ?> consumer,
+                                         MessageListenerContainer container,
+                                         Runnable invokeListener) {
+        List<ConsumerRecord<?, ?>> incompleteRecords = failedBatch.getIncompleteRecords();
+        if (exactlyOnce) {
+            SeekUtils.seekOrRecover(thrownException, incompleteRecords, consumer, container,
+                    false, (record, exception) -> recover(record, exception, consumer), logger, getLogLevel());
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> completedOffsets = failedBatch.getCompletedOffsets();
+        if (!completedOffsets.isEmpty()) {
+            consumer.commitSync(completedOffsets);
+        }
+        super.handleBatch(new BatchListenerFailedException(batchListenerFailedException.getMessage(),
+                        batchListenerFailedException.getCause(), 0),
+                toConsumerRecords(incompleteRecords), consumer, container,
+                () -> consumerBatchInterceptor.retry(failedBatch, consumer, invokeListener));
+    }
+
+    private boolean recover(ConsumerRecord<?, ?> record, Exception exception, Consumer<?, ?> consumer) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        FailedAttempt failedAttempt = failedAttempts.compute(partition, (p, previous) ->
+                previous != null && previous.offset() == record.offset() ?
+                        new FailedAttempt(record.offset(), previous.attempts() + 1) : new FailedAttempt(record.offset(), 1));
+        if (failedAttempt.attempts() < MAX_ATTEMPTS) {
+            return false;
+        }
+        log.error("Message at partition [{}] and offset [{}] failed [{}] times and is routed to the dead letter topic",
+                partition, record.offset(), failedAttempt.attempts(), exception);
+        try {
+            retryTopicRouter.routeToDeadLetterTopic(record, exception, consumer.groupMetadata());
+        } catch (RuntimeException e) {
+            log.error("Message at partition [{}] and offset [{}] could not be routed to the dead letter topic",
+                    partition, record.offset(), e);
+            return false;
+        }
+        failedAttempts.remove(partition);
+        return true;
+    }
+
+    private Optional<BatchListenerFailedException> batchListenerFailedException(Throwable exception) {
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof BatchListenerFailedException)) {
+            cause = cause.getCause();
+        }
+        return Optional.ofNullable((BatchListenerFailedException) cause);
+    }
+
+    private int failedIndex(BatchListenerFailedException exception, List<ConsumerRecord<?, ?>> records) {
+        ConsumerRecord<?, ?> failedRecord = exception.getRecord();
+        if (failedRecord == null) {
+            return exception.getIndex() < records.size() ? exception.getIndex() : -1;
+        }
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<?, ?> record = records.get(index);
+            if (record.topic().equals(failedRecord.topic()) && record.partition() == failedRecord.partition()
+                    && record.offset() == failedRecord.offset()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private ConsumerRecords<Object, Object> toConsumerRecords(List<ConsumerRecord<?, ?>> records) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> recordsByPartition = new LinkedHashMap<>();
+        for (ConsumerRecord<?, ?> record : records) {
+            recordsByPartition.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                    partition -> new ArrayList<>()).add((ConsumerRecord<Object, Object>) record);
+        }
+        return new ConsumerRecords<>(recordsByPartition);
+    }
+
+    private record FailedAttempt(long offset, int attempts) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.food.ordering.system.kafka.consumer.batch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.backpressure.BackpressureController;
+import com.food.ordering.system.kafka.consumer.exception.KafkaConsumerException;
+import com.food.ordering.system.kafka.consumer.filter.RecordPreFilter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicBackoff;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsumerBatchInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final RetryTopicBackoff retryTopicBackoff;
+    private final BackpressureController backpressureController;
+    private final RecordPreFilter recordPreFilter;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final ThreadLocal<ConsumerBatch> currentBatch = new ThreadLocal<>();
+    private final ThreadLocal<ConsumerBatch> failedBatch = new ThreadLocal<>();
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> polledRecords, Consumer<K, V> consumer) {
+        failedBatch.remove();
+        ConsumerRecords<K, V> dueRecords = retryTopicBackoff.deferUntilDue(
+                backpressureController.limit(polledRecords, consumer), consumer);
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (ConsumerRecord<K, V> record : dueRecords) {
+            offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+        }
+        ConsumerRecords<K, V> records = preFilter(dueRecords, consumer);
+        if (records.isEmpty()) {
+            commitSkipped(offsets, consumer);
+            return null;
+        }
+        List<ConsumerRecord<?, ?>> batchRecords = new ArrayList<>(records.count());
+        records.forEach(batchRecords::add);
+        currentBatch.set(new ConsumerBatch(batchRecords, dueRecords.count(), offsets, consumer.groupMetadata(),
+                System.nanoTime()));
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        ConsumerBatch consumerBatch = currentBatch.get();
+        if (consumerBatch != null && !kafkaConsumerConfigData.getExactlyOnce()) {
+            consumer.commitSync(consumerBatch.getOffsets());
+        }
+        complete(consumer);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+        failedBatch.set(currentBatch.get());
+        complete(consumer);
+    }
+
+    public ConsumerBatch getCurrentBatch() {
+        ConsumerBatch consumerBatch = currentBatch.get();
+        if (consumerBatch == null) {
+            throw new IllegalStateException("No batch is being processed on thread " + Thread.currentThread().getName());
+        }
+        return consumerBatch;
+    }
+
+    public Optional<ConsumerBatch> findCurrentBatch() {
+        return Optional.ofNullable(currentBatch.get());
+    }
+
+    public void retry(ConsumerBatch consumerBatch, Consumer<?, ?> consumer, Runnable invokeListener) {
+        currentBatch.set(consumerBatch);
+        try {
+            invokeListener.run();
+            if (!kafkaConsumerConfigData.getExactlyOnce()) {
+                consumer.commitSync(consumerBatch.getOffsets());
+            }
+        } finally {
+            currentBatch.remove();
+        }
+    }
+
+    public Optional<ConsumerBatch> takeFailedBatch() {
+        ConsumerBatch consumerBatch = failedBatch.get();
+        failedBatch.remove();
+        return Optional.ofNullable(consumerBatch);
+    }
+
+    private void complete(Consumer<K, V> consumer) {
+        ConsumerBatch consumerBatch = currentBatch.get();
+        currentBatch.remove();
+        if (consumerBatch != null) {
+            backpressureController.record(consumer.groupMetadata().groupId(), consumerBatch.getPolledCount(),
+                    System.nanoTime() - consumerBatch.getStartedAtNanos());
+        }
+    }
+
+    private void commitSkipped(Map<TopicPartition, OffsetAndMetadata> offsets, Consumer<K, V> consumer) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        if (!kafkaConsumerConfigData.getExactlyOnce()) {
+            consumer.commitSync(offsets);
+            return;
+        }
+        try {
+            kafkaProducer.executeInTransaction(() -> {
+                kafkaProducer.sendOffsetsToTransaction(offsets, consumer.groupMetadata());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Offsets [{}] of skipped records could not be committed, they will be committed with the next batch",
+                    offsets, e);
+        }
+    }
+
+    private ConsumerRecords<K, V> preFilter(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        try {
+            return recordPreFilter.apply(records);
+        } catch (RuntimeException e) {
+            records.partitions().forEach(partition -> consumer.seek(partition, records.records(partition).get(0).offset()));
+            throw new KafkaConsumerException(String.format("Batch of [%d] records could not be pre-filtered",
+                    records.count()), e);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatchErrorHandler;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatchInterceptor;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import com.food.ordering.system.kafka.consumer.serialization.LazyDeserializer;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,21 +19,35 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
 
 @Configuration
 @RequiredArgsConstructor
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
+    private static final String LOCAL_VALUE_DESERIALIZER_CLASS =
+            "com.food.ordering.system.kafka.schema.registry.serializer.LocalKafkaAvroDeserializer";
+
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ConsumerBatchInterceptor<K, V> consumerBatchInterceptor;
+    private final RetryTopicRouter retryTopicRouter;
 
     @Bean
     public Map<String, Object> consumerConfig() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+        String valueDeserializer = kafkaConfigData.getLocalSchemaRegistry() ?
+                LOCAL_VALUE_DESERIALIZER_CLASS : kafkaConsumerConfigData.getValueDeserializer();
+        if (kafkaConsumerConfigData.getLazyDeserialization()) {
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, LazyDeserializer.class);
+            props.put(LazyDeserializer.VALUE_DELEGATE_CLASS, valueDeserializer);
+        } else {
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
+        }
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, kafkaConsumerConfigData.getIsolationLevel());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
         props.put(kafkaConsumerConfigData.getSpecificAvroReaderKey(), kafkaConsumerConfigData.getSpecificAvroReader());
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaConsumerConfigData.getSessionTimeoutMs());
@@ -55,6 +73,10 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.setBatchInterceptor(consumerBatchInterceptor);
+        factory.setCommonErrorHandler(new ConsumerBatchErrorHandler(consumerBatchInterceptor, retryTopicRouter,
+                kafkaConsumerConfigData.getExactlyOnce()));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
         return factory;
     }
@@ -0,0 +1,261 @@
+package com.food.ordering.system.kafka.consumer.dispatcher;
+
+import com.food.ordering.system.execution.ConcurrencyLimiter;
+import com.food.ordering.system.execution.ExecutorFactory;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatch;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatchInterceptor;
+import com.food.ordering.system.kafka.consumer.exception.KafkaConsumerException;
+import com.food.ordering.system.kafka.consumer.retry.RetryParking;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class KeyOrderedDispatcher {
+
+    private final int parallelism;
+    private final ExecutorService executorService;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final KafkaRetryConfigData kafkaRetryConfigData;
+    private final ConsumerBatchInterceptor<?, ?> consumerBatchInterceptor;
+    private final RetryTopicRouter retryTopicRouter;
+    private final RetryParking retryParking;
+
+    public KeyOrderedDispatcher(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                KafkaRetryConfigData kafkaRetryConfigData,
+                                ExecutorFactory executorFactory,
+                                ConcurrencyLimiter concurrencyLimiter,
+                                ConsumerBatchInterceptor<?, ?> consumerBatchInterceptor,
+                                RetryTopicRouter retryTopicRouter,
+                                RetryParking retryParking) {
+        this.parallelism = kafkaConsumerConfigData.getDispatcherParallelism();
+        this.executorService = executorFactory.newExecutor("kafka-dispatcher", parallelism);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.kafkaRetryConfigData = kafkaRetryConfigData;
+        this.consumerBatchInterceptor = consumerBatchInterceptor;
+        this.retryTopicRouter = retryTopicRouter;
+        this.retryParking = retryParking;
+    }
+
+    public <T> void dispatch(List<T> messages, List<Integer> partitions, List<Long> offsets,
+                             Function<T, String> keyExtractor, Consumer<T> handler) {
+        List<ConsumerRecord<?, ?>> records = retryableRecords(messages);
+        execute(messages, keyExtractor, (shard, completed) ->
+                processOneByOne(shard, messages, partitions, offsets, records, keyExtractor, handler, completed));
+    }
+
+    public <T> void dispatchInBatches(List<T> messages, List<Integer> partitions, List<Long> offsets,
+                                      Function<T, String> keyExtractor, Consumer<List<T>> handler) {
+        List<ConsumerRecord<?, ?>> records = retryableRecords(messages);
+        execute(messages, keyExtractor, (shard, completed) -> {
+            if (records != null && shard.stream()
+                    .anyMatch(index -> retryParking.parkingTopicName(records.get(index)).isPresent())) {
+                processOneByOne(shard, messages, partitions, offsets, records, keyExtractor,
+                        message -> handler.accept(List.of(message)), completed);
+                return;
+            }
+            try {
+                concurrencyLimiter.run(() -> handler.accept(shard.stream().map(messages::get).toList()));
+                shard.forEach(index -> completed[index] = true);
+                if (records != null) {
+                    shard.forEach(index -> retryParking.release(records.get(index)));
+                }
+            } catch (RuntimeException e) {
+                if (records == null) {
+                    throw e;
+                }
+                log.error("Batch of [{}] messages could not be processed, processing them one by one", shard.size(), e);
+                processOneByOne(shard, messages, partitions, offsets, records, keyExtractor,
+                        message -> handler.accept(List.of(message)), completed);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private <T> void execute(List<T> messages, Function<T, String> keyExtractor,
+                             BiConsumer<List<Integer>, boolean[]> shardTask) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<List<Integer>> shards = shardByKey(messages, keyExtractor);
+        boolean[] completed = new boolean[messages.size()];
+        RuntimeException failure = null;
+
+        if (shards.size() == 1) {
+            try {
+                shardTask.accept(shards.get(0), completed);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        } else {
+            List<CompletableFuture<Void>> futures = shards.stream()
+                    .map(shard -> CompletableFuture.runAsync(() -> shardTask.accept(shard, completed), executorService))
+                    .toList();
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException runtimeException ?
+                                runtimeException : e;
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            trackCompletion(completed);
+            throw new BatchListenerFailedException("Batch could not be processed completely",
+                    failure, firstIncompleteIndex(completed));
+        }
+    }
+
+    private <T> void processOneByOne(List<Integer> shard, List<T> messages, List<Integer> partitions, List<Long> offsets,
+                                     List<ConsumerRecord<?, ?>> records, Function<T, String> keyExtractor,
+                                     Consumer<T> handler, boolean[] completed) {
+        Map<String, RuntimeException> failedKeys = new HashMap<>();
+        Set<String> blockedKeys = new HashSet<>();
+        RuntimeException failure = null;
+        for (int index : shard) {
+            T message = messages.get(index);
+            String key = keyExtractor.apply(message);
+            if (blockedKeys.contains(key)) {
+                continue;
+            }
+            RuntimeException keyFailure = failedKeys.get(key);
+            Optional<String> parkingTopicName = keyFailure != null || records == null ?
+                    Optional.empty() : retryParking.parkingTopicName(records.get(index));
+            if (parkingTopicName.isPresent()) {
+                if (routeBehindParkedMessage(records.get(index), parkingTopicName.get())) {
+                    completed[index] = true;
+                } else {
+                    blockedKeys.add(key);
+                    if (failure == null) {
+                        failure = new KafkaConsumerException(String.format("Message with key [%s] at partition [%d] " +
+                                "and offset [%d] could not be parked behind an earlier message in [%s]",
+                                key, partitions.get(index), offsets.get(index), parkingTopicName.get()));
+                    }
+                }
+                continue;
+            }
+            if (keyFailure == null) {
+                try {
+                    concurrencyLimiter.run(() -> handler.accept(message));
+                    completed[index] = true;
+                    if (records != null) {
+                        retryParking.release(records.get(index));
+                    }
+                    continue;
+                } catch (RuntimeException e) {
+                    log.error("Message with key [{}] at partition [{}] and offset [{}] could not be processed",
+                            key, partitions.get(index), offsets.get(index), e);
+                    keyFailure = e;
+                    failedKeys.put(key, e);
+                }
+            }
+            if (records != null && routeToRetryTopic(records.get(index), keyFailure)) {
+                completed[index] = true;
+            } else {
+                blockedKeys.add(key);
+                if (failure == null) {
+                    failure = keyFailure;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean routeToRetryTopic(ConsumerRecord<?, ?> record, RuntimeException failure) {
+        try {
+            retryTopicRouter.route(record, failure);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Message with key [{}] at partition [{}] and offset [{}] could not be routed to a retry topic",
+                    record.key(), record.partition(), record.offset(), e);
+            return false;
+        }
+    }
+
+    private boolean routeBehindParkedMessage(ConsumerRecord<?, ?> record, String parkingTopicName) {
+        try {
+            retryTopicRouter.routeBehind(record, parkingTopicName);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Message with key [{}] at partition [{}] and offset [{}] could not be parked behind [{}]",
+                    record.key(), record.partition(), record.offset(), parkingTopicName, e);
+            return false;
+        }
+    }
+
+    private <T> List<ConsumerRecord<?, ?>> retryableRecords(List<T> messages) {
+        if (!kafkaRetryConfigData.getEnabled() || messages.isEmpty()) {
+            return null;
+        }
+        List<ConsumerRecord<?, ?>> records = consumerBatchInterceptor.getCurrentBatch().getRecords();
+        if (records.size() != messages.size()) {
+            log.warn("[{}] messages dispatched from a batch of [{}] records, failed messages will not be routed to retry topics",
+                    messages.size(), records.size());
+            return null;
+        }
+        return records;
+    }
+
+    private <T> List<List<Integer>> shardByKey(List<T> messages, Function<T, String> keyExtractor) {
+        Map<Integer, List<Integer>> shards = new LinkedHashMap<>();
+        for (int index = 0; index < messages.size(); index++) {
+            String key = keyExtractor.apply(messages.get(index));
+            int shard = Math.floorMod(key == null ? 0 : key.hashCode(), parallelism);
+            shards.computeIfAbsent(shard, s -> new ArrayList<>()).add(index);
+        }
+        return new ArrayList<>(shards.values());
+    }
+
+    private void trackCompletion(boolean[] completed) {
+        Optional<ConsumerBatch> consumerBatch = consumerBatchInterceptor.findCurrentBatch();
+        if (consumerBatch.isEmpty() || consumerBatch.get().getRecords().size() != completed.length) {
+            log.warn("Completion of a batch of [{}] messages is not tracked, completed messages after the first failed one " +
+                    "will be processed again", completed.length);
+            return;
+        }
+        consumerBatch.get().markCompleted(completed);
+        consumerBatch.get().getCompletedOffsets().forEach((partition, offset) ->
+                log.info("Partition [{}] is completed up to offset [{}]", partition, offset.offset() - 1));
+    }
+
+    private int firstIncompleteIndex(boolean[] completed) {
+        for (int index = 0; index < completed.length; index++) {
+            if (!completed[index]) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("Every message of the batch is completed");
+    }
+}
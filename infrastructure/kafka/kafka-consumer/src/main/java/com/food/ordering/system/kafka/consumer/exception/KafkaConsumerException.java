@@ -0,0 +1,12 @@
+package com.food.ordering.system.kafka.consumer.exception;
+
+public class KafkaConsumerException extends RuntimeException {
+
+    public KafkaConsumerException(String message) {
+        super(message);
+    }
+
+    public KafkaConsumerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
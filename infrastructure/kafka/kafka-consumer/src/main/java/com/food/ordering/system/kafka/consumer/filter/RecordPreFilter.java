@@ -0,0 +1,94 @@
+package com.food.ordering.system.kafka.consumer.filter;
+
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import com.food.ordering.system.kafka.consumer.serialization.LazyValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class RecordPreFilter {
+
+    private static final String FILTERED = "kafka.consumer.records.filtered";
+
+    private final List<RecordFilterStrategy<Object, Object>> recordFilterStrategies;
+    private final RetryTopicRouter retryTopicRouter;
+    private final MeterRegistry meterRegistry;
+
+    @SuppressWarnings("unchecked")
+    public RecordPreFilter(ObjectProvider<RecordFilterStrategy<?, ?>> recordFilterStrategies,
+                           RetryTopicRouter retryTopicRouter,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.recordFilterStrategies = recordFilterStrategies.orderedStream()
+                .map(strategy -> (RecordFilterStrategy<Object, Object>) strategy)
+                .toList();
+        this.retryTopicRouter = retryTopicRouter;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public <K, V> ConsumerRecords<K, V> apply(ConsumerRecords<K, V> records) {
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> kept = new LinkedHashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<K, V>> partitionRecords = new ArrayList<>();
+            for (ConsumerRecord<K, V> record : records.records(partition)) {
+                if (!isFiltered(record)) {
+                    decode(record).ifPresent(partitionRecords::add);
+                }
+            }
+            if (!partitionRecords.isEmpty()) {
+                kept.put(partition, partitionRecords);
+            }
+        }
+        return new ConsumerRecords<>(kept);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> boolean isFiltered(ConsumerRecord<K, V> record) {
+        for (RecordFilterStrategy<Object, Object> recordFilterStrategy : recordFilterStrategies) {
+            if (recordFilterStrategy.filter((ConsumerRecord<Object, Object>) record)) {
+                Counter.builder(FILTERED)
+                        .tags("topic", record.topic(), "filter", recordFilterStrategy.getClass().getSimpleName())
+                        .register(meterRegistry)
+                        .increment();
+                log.debug("Message with key [{}] at topic [{}], partition [{}] and offset [{}] filtered by [{}]",
+                        record.key(), record.topic(), record.partition(), record.offset(),
+                        recordFilterStrategy.getClass().getSimpleName());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Optional<ConsumerRecord<K, V>> decode(ConsumerRecord<K, V> record) {
+        if (!(record.value() instanceof LazyValue lazyValue)) {
+            return Optional.of(record);
+        }
+        V value;
+        try {
+            value = (V) lazyValue.get();
+        } catch (RuntimeException e) {
+            log.error("Message with key [{}] at topic [{}], partition [{}] and offset [{}] could not be decoded",
+                    record.key(), record.topic(), record.partition(), record.offset(), e);
+            retryTopicRouter.routeUndecodable(record, lazyValue.getData(), e);
+            return Optional.empty();
+        }
+        return Optional.of(new ConsumerRecord<>(record.topic(), record.partition(), record.offset(), record.timestamp(),
+                record.timestampType(), record.serializedKeySize(), record.serializedValueSize(), record.key(),
+                value, record.headers(), record.leaderEpoch()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.kafka.consumer.filter;
+
+import com.food.ordering.system.kafka.consumer.retry.RetryTopics;
+import com.food.ordering.system.kafka.producer.header.RoutingHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+import java.util.Set;
+
+public class RoutingHeaderRecordFilter implements RecordFilterStrategy<Object, Object> {
+
+    private final RetryTopics retryTopics;
+    private final String topicName;
+    private final Set<String> acceptedStatuses;
+
+    public RoutingHeaderRecordFilter(RetryTopics retryTopics, String topicName, Set<String> acceptedStatuses) {
+        this.retryTopics = retryTopics;
+        this.topicName = topicName;
+        this.acceptedStatuses = acceptedStatuses;
+    }
+
+    @Override
+    public boolean filter(ConsumerRecord<Object, Object> consumerRecord) {
+        if (!topicName.equals(retryTopics.originalTopicName(consumerRecord))) {
+            return false;
+        }
+        return RoutingHeaders.status(consumerRecord.headers())
+                .map(status -> !acceptedStatuses.contains(status))
+                .orElse(false);
+    }
+}
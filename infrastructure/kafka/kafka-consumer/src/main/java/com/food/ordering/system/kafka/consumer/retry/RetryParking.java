@@ -0,0 +1,88 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RetryParking {
+
+    private final RetryTopics retryTopics;
+    private final long expiryNanos;
+    private final Map<String, ParkedKey> parkedKeys = new ConcurrentHashMap<>();
+
+    public RetryParking(KafkaRetryConfigData kafkaRetryConfigData, RetryTopics retryTopics) {
+        this.retryTopics = retryTopics;
+        this.expiryNanos = TimeUnit.MILLISECONDS.toNanos(2 * kafkaRetryConfigData.getDelaysMs().stream()
+                .mapToLong(Long::longValue)
+                .sum());
+    }
+
+    public Optional<String> parkingTopicName(ConsumerRecord<?, ?> record) {
+        if (record.key() == null) {
+            return Optional.empty();
+        }
+        long nowNanos = System.nanoTime();
+        long originalOffset = retryTopics.originalOffset(record);
+        ParkedKey parkedKey = parkedKeys.get(parkingKey(record));
+        if (parkedKey == null) {
+            return Optional.empty();
+        }
+        synchronized (parkedKey) {
+            if (parkedKey.isExpired(nowNanos)) {
+                return Optional.empty();
+            }
+            Map.Entry<Long, String> earlier = parkedKey.topicNames.lowerEntry(originalOffset);
+            return earlier == null ? Optional.empty() : Optional.of(earlier.getValue());
+        }
+    }
+
+    public void park(ConsumerRecord<?, ?> record, String topicName) {
+        if (record.key() == null) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        parkedKeys.values().removeIf(parkedKey -> parkedKey.isExpired(nowNanos));
+        parkedKeys.compute(parkingKey(record), (parkingKey, parkedKey) -> {
+            ParkedKey parked = parkedKey == null || parkedKey.isExpired(nowNanos) ? new ParkedKey() : parkedKey;
+            synchronized (parked) {
+                parked.topicNames.put(retryTopics.originalOffset(record), topicName);
+                parked.expiresAtNanos = nowNanos + expiryNanos;
+            }
+            return parked;
+        });
+    }
+
+    public void release(ConsumerRecord<?, ?> record) {
+        if (record.key() == null) {
+            return;
+        }
+        parkedKeys.computeIfPresent(parkingKey(record), (parkingKey, parkedKey) -> {
+            synchronized (parkedKey) {
+                parkedKey.topicNames.remove(retryTopics.originalOffset(record));
+                return parkedKey.topicNames.isEmpty() ? null : parkedKey;
+            }
+        });
+    }
+
+    private String parkingKey(ConsumerRecord<?, ?> record) {
+        return retryTopics.originalTopicName(record) + "/" + record.key();
+    }
+
+    private static class ParkedKey {
+
+        private final NavigableMap<Long, String> topicNames = new TreeMap<>();
+        private long expiresAtNanos;
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class RetryTopicBackoff {
+
+    private final RetryTopics retryTopics;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> kafkaListenerEndpointRegistry;
+    private final ObjectProvider<TaskScheduler> taskScheduler;
+
+    public RetryTopicBackoff(RetryTopics retryTopics,
+                             ObjectProvider<KafkaListenerEndpointRegistry> kafkaListenerEndpointRegistry,
+                             ObjectProvider<TaskScheduler> taskScheduler) {
+        this.retryTopics = retryTopics;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.taskScheduler = taskScheduler;
+    }
+
+    public <K, V> ConsumerRecords<K, V> deferUntilDue(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        long nowMs = System.currentTimeMillis();
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> due = new LinkedHashMap<>();
+        boolean deferred = false;
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<K, V>> partitionRecords = records.records(partition);
+            Optional<Long> delayMs = retryTopics.delayMs(partition.topic());
+            int dueCount = delayMs.map(delay -> dueCount(partitionRecords, delay, nowMs))
+                    .orElse(partitionRecords.size());
+            if (dueCount > 0) {
+                due.put(partition, dueCount == partitionRecords.size() ?
+                        partitionRecords : new ArrayList<>(partitionRecords.subList(0, dueCount)));
+            }
+            if (dueCount < partitionRecords.size()) {
+                ConsumerRecord<K, V> next = partitionRecords.get(dueCount);
+                consumer.seek(partition, next.offset());
+                pause(consumer.groupMetadata().groupId(), partition, next.timestamp() + delayMs.get());
+                deferred = true;
+            }
+        }
+        return deferred ? new ConsumerRecords<>(due) : records;
+    }
+
+    private <K, V> int dueCount(List<ConsumerRecord<K, V>> partitionRecords, long delayMs, long nowMs) {
+        int dueCount = 0;
+        while (dueCount < partitionRecords.size() && partitionRecords.get(dueCount).timestamp() + delayMs <= nowMs) {
+            dueCount++;
+        }
+        return dueCount;
+    }
+
+    private void pause(String groupId, TopicPartition partition, long dueAtMs) {
+        KafkaListenerEndpointRegistry registry = kafkaListenerEndpointRegistry.getIfAvailable();
+        TaskScheduler scheduler = taskScheduler.getIfAvailable();
+        if (registry == null || scheduler == null) {
+            return;
+        }
+        registry.getListenerContainers().stream()
+                .filter(container -> groupId.equals(container.getGroupId()))
+                .findFirst()
+                .filter(container -> !container.isPartitionPauseRequested(partition))
+                .ifPresent(container -> {
+                    container.pausePartition(partition);
+                    scheduler.schedule(() -> resume(container, partition), Instant.ofEpochMilli(dueAtMs));
+                    log.debug("Partition [{}] of listener [{}] is paused until its retried messages are due in [{}] ms",
+                            partition, container.getListenerId(), dueAtMs - System.currentTimeMillis());
+                });
+    }
+
+    private void resume(MessageListenerContainer container, TopicPartition partition) {
+        container.resumePartition(partition);
+        log.debug("Partition [{}] of listener [{}] is resumed", partition, container.getListenerId());
+    }
+}
@@ -0,0 +1,189 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import com.food.ordering.system.kafka.consumer.exception.KafkaConsumerException;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class RetryTopicRouter {
+
+    private static final String ROUTED = "kafka.consumer.retry.routed";
+    private static final String UNDECODABLE_TRANSACTION_ID_SUFFIX = "undecodable-";
+
+    private final KafkaRetryConfigData kafkaRetryConfigData;
+    private final RetryTopics retryTopics;
+    private final RetryParking retryParking;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final DefaultKafkaProducerFactory<String, byte[]> undecodableProducerFactory;
+    private final KafkaTemplate<String, byte[]> undecodableKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public RetryTopicRouter(KafkaRetryConfigData kafkaRetryConfigData,
+                            RetryTopics retryTopics,
+                            RetryParking retryParking,
+                            KafkaProducer<String, SpecificRecordBase> kafkaProducer,
+                            ProducerFactory<String, SpecificRecordBase> producerFactory,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.kafkaRetryConfigData = kafkaRetryConfigData;
+        this.retryTopics = retryTopics;
+        this.retryParking = retryParking;
+        this.kafkaProducer = kafkaProducer;
+        this.undecodableProducerFactory = new DefaultKafkaProducerFactory<>(producerFactory.getConfigurationProperties(),
+                null, new ByteArraySerializer());
+        if (producerFactory.transactionCapable()) {
+            undecodableProducerFactory.setTransactionIdPrefix(producerFactory.getTransactionIdPrefix() +
+                    UNDECODABLE_TRANSACTION_ID_SUFFIX);
+        }
+        this.undecodableKafkaTemplate = new KafkaTemplate<>(undecodableProducerFactory);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public void route(ConsumerRecord<?, ?> record, Exception exception) {
+        String originalTopicName = retryTopics.originalTopicName(record);
+        String destinationTopicName = retryTopics.nextTopicName(originalTopicName, record.topic());
+        route(record, exception, originalTopicName, destinationTopicName, Map.of(), null);
+        if (destinationTopicName.equals(retryTopics.deadLetterTopicName(originalTopicName))) {
+            retryParking.release(record);
+        } else {
+            retryParking.park(record, destinationTopicName);
+        }
+    }
+
+    public void routeBehind(ConsumerRecord<?, ?> record, String parkingTopicName) {
+        route(record, new KafkaConsumerException(String.format("An earlier message with key [%s] is parked in [%s]",
+                record.key(), parkingTopicName)), retryTopics.originalTopicName(record), parkingTopicName, Map.of(), null);
+        retryParking.park(record, parkingTopicName);
+    }
+
+    public void routeToDeadLetterTopic(ConsumerRecord<?, ?> record, Exception exception,
+                                       ConsumerGroupMetadata groupMetadata) {
+        String originalTopicName = retryTopics.originalTopicName(record);
+        route(record, exception, originalTopicName, retryTopics.deadLetterTopicName(originalTopicName),
+                Map.of(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1)),
+                groupMetadata);
+        retryParking.release(record);
+    }
+
+    public void routeUndecodable(ConsumerRecord<?, ?> record, byte[] data, Exception exception) {
+        String originalTopicName = retryTopics.originalTopicName(record);
+        String destinationTopicName = retryTopics.deadLetterTopicName(originalTopicName);
+        ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(destinationTopicName, null,
+                (String) record.key(), data, headers(record, exception));
+
+        try {
+            CompletableFuture<SendResult<String, byte[]>> sendResult = undecodableKafkaTemplate.isTransactional() ?
+                    undecodableKafkaTemplate.executeInTransaction(operations -> operations.send(producerRecord)) :
+                    undecodableKafkaTemplate.send(producerRecord);
+            sendResult.get(kafkaRetryConfigData.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            throw new KafkaConsumerException(String.format("Undecodable message with key [%s] at topic [%s], partition [%d] " +
+                    "and offset [%d] could not be routed to [%s]", record.key(), record.topic(), record.partition(),
+                    record.offset(), destinationTopicName), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaConsumerException(String.format("Routing of undecodable message with key [%s] to [%s] was interrupted",
+                    record.key(), destinationTopicName), e);
+        }
+
+        routed(record, exception, originalTopicName, destinationTopicName);
+    }
+
+    @PreDestroy
+    public void close() {
+        undecodableProducerFactory.destroy();
+    }
+
+    private void route(ConsumerRecord<?, ?> record, Exception exception, String originalTopicName,
+                       String destinationTopicName, Map<TopicPartition, OffsetAndMetadata> offsets,
+                       ConsumerGroupMetadata groupMetadata) {
+        ProducerRecord<String, SpecificRecordBase> producerRecord = new ProducerRecord<>(destinationTopicName, null,
+                (String) record.key(), (SpecificRecordBase) record.value(), headers(record, exception));
+
+        CompletableFuture<SendResult<String, SpecificRecordBase>> sendResult = new CompletableFuture<>();
+        try {
+            kafkaProducer.executeInTransaction(() -> {
+                kafkaProducer.send(producerRecord, (result, ex) -> {
+                    if (ex == null) {
+                        sendResult.complete(result);
+                    } else {
+                        sendResult.completeExceptionally(ex);
+                    }
+                });
+                if (!offsets.isEmpty()) {
+                    kafkaProducer.sendOffsetsToTransaction(offsets, groupMetadata);
+                }
+                return null;
+            });
+            sendResult.get(kafkaRetryConfigData.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            throw new KafkaConsumerException(String.format("Message with key [%s] at topic [%s], partition [%d] and offset [%d] " +
+                    "could not be routed to [%s]", record.key(), record.topic(), record.partition(), record.offset(),
+                    destinationTopicName), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaConsumerException(String.format("Routing of message with key [%s] to [%s] was interrupted",
+                    record.key(), destinationTopicName), e);
+        }
+
+        routed(record, exception, originalTopicName, destinationTopicName);
+    }
+
+    private void routed(ConsumerRecord<?, ?> record, Exception exception, String originalTopicName,
+                        String destinationTopicName) {
+        Counter.builder(ROUTED)
+                .tags("topic", originalTopicName,
+                        "tier", destinationTopicName.substring(originalTopicName.length()),
+                        "exception", exception.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        log.warn("Message with key [{}] at topic [{}], partition [{}] and offset [{}] routed to [{}]",
+                record.key(), record.topic(), record.partition(), record.offset(), destinationTopicName);
+    }
+
+    private Headers headers(ConsumerRecord<?, ?> record, Exception exception) {
+        Headers headers = new RecordHeaders(record.headers().toArray());
+        if (headers.lastHeader(KafkaHeaders.ORIGINAL_TOPIC) == null) {
+            headers.add(KafkaHeaders.ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+            headers.add(KafkaHeaders.ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(record.partition()).array());
+            headers.add(KafkaHeaders.ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(record.offset()).array());
+            headers.add(KafkaHeaders.ORIGINAL_TIMESTAMP, ByteBuffer.allocate(Long.BYTES).putLong(record.timestamp()).array());
+            headers.add(KafkaHeaders.ORIGINAL_TIMESTAMP_TYPE, record.timestampType().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        headers.remove(KafkaHeaders.EXCEPTION_FQCN);
+        headers.remove(KafkaHeaders.EXCEPTION_MESSAGE);
+        headers.add(KafkaHeaders.EXCEPTION_FQCN, exception.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.EXCEPTION_MESSAGE,
+                String.valueOf(exception.getMessage()).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
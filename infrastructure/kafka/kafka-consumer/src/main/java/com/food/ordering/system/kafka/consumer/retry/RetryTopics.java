@@ -0,0 +1,67 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class RetryTopics {
+
+    private final KafkaRetryConfigData kafkaRetryConfigData;
+
+    public String[] retryTopicNames(String topicName) {
+        return kafkaRetryConfigData.getDelaysMs().stream()
+                .map(delayMs -> retryTopicName(topicName, delayMs))
+                .toArray(String[]::new);
+    }
+
+    public String deadLetterTopicName(String topicName) {
+        return topicName + kafkaRetryConfigData.getDeadLetterTopicSuffix();
+    }
+
+    public String nextTopicName(String originalTopicName, String currentTopicName) {
+        List<Long> delaysMs = kafkaRetryConfigData.getDelaysMs();
+        int nextTier = 0;
+        for (int tier = 0; tier < delaysMs.size(); tier++) {
+            if (retryTopicName(originalTopicName, delaysMs.get(tier)).equals(currentTopicName)) {
+                nextTier = tier + 1;
+            }
+        }
+        return nextTier < delaysMs.size() ?
+                retryTopicName(originalTopicName, delaysMs.get(nextTier)) : deadLetterTopicName(originalTopicName);
+    }
+
+    public String originalTopicName(ConsumerRecord<?, ?> record) {
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.ORIGINAL_TOPIC);
+        return originalTopic == null ? record.topic() : new String(originalTopic.value(), StandardCharsets.UTF_8);
+    }
+
+    public long originalOffset(ConsumerRecord<?, ?> record) {
+        Header originalOffset = record.headers().lastHeader(KafkaHeaders.ORIGINAL_OFFSET);
+        return originalOffset == null ? record.offset() : ByteBuffer.wrap(originalOffset.value()).getLong();
+    }
+
+    public Optional<Long> delayMs(String topicName) {
+        int suffixIndex = topicName.lastIndexOf(kafkaRetryConfigData.getRetryTopicSuffix());
+        if (suffixIndex < 0) {
+            return Optional.empty();
+        }
+        String delay = topicName.substring(suffixIndex + kafkaRetryConfigData.getRetryTopicSuffix().length());
+        return kafkaRetryConfigData.getDelaysMs().stream()
+                .filter(delayMs -> delayMs.toString().equals(delay))
+                .findFirst();
+    }
+
+    private String retryTopicName(String topicName, Long delayMs) {
+        return topicName + kafkaRetryConfigData.getRetryTopicSuffix() + delayMs;
+    }
+}
@@ -0,0 +1,48 @@
+package com.food.ordering.system.kafka.consumer.serialization;
+
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
+
+import java.util.Map;
+
+public class LazyDeserializer implements Deserializer<Object> {
+
+    public static final String VALUE_DELEGATE_CLASS = "lazy.deserializer.value.delegate.class";
+
+    private Deserializer<?> delegate;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object delegateClass = configs.get(VALUE_DELEGATE_CLASS);
+        if (delegateClass == null) {
+            throw new ConfigException(VALUE_DELEGATE_CLASS + " must be set for " + getClass().getSimpleName());
+        }
+        try {
+            delegate = delegateClass instanceof Class<?> type ?
+                    (Deserializer<?>) Utils.newInstance(type) :
+                    Utils.newInstance(delegateClass.toString(), Deserializer.class);
+        } catch (ClassNotFoundException e) {
+            throw new ConfigException(VALUE_DELEGATE_CLASS, delegateClass, "Class could not be found");
+        }
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        return data == null ? null : new LazyValue(delegate, topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.kafka.consumer.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class LazyValue {
+
+    private final Deserializer<?> deserializer;
+    private final String topic;
+    private final Headers headers;
+    private final byte[] data;
+
+    private Object value;
+    private boolean decoded;
+
+    public LazyValue(Deserializer<?> deserializer, String topic, Headers headers, byte[] data) {
+        this.deserializer = deserializer;
+        this.topic = topic;
+        this.headers = headers;
+        this.data = data;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public Object get() {
+        if (!decoded) {
+            value = deserializer.deserialize(topic, headers, data);
+            decoded = true;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveBatchSizeTest {
+
+    private static final int MIN_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int INCREMENT = 10;
+    private static final long LATENCY_BUDGET_NANOS = 1_000;
+
+    @Test
+    public void record_ShouldHalveBatchSize_WhenBatchIsOverBudget() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+
+        // When
+        batchSize.record(100, 1_500, false);
+
+        // Then
+        assertEquals(50, batchSize.get());
+        assertFalse(batchSize.isOverloaded());
+    }
+
+    @Test
+    public void record_ShouldCutToFittingSize_WhenBatchIsFarOverBudget() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+
+        // When
+        batchSize.record(100, 4_000, false);
+
+        // Then
+        assertEquals(25, batchSize.get());
+    }
+
+    @Test
+    public void record_ShouldHalveBatchSize_WhenPoolIsSaturated() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+
+        // When
+        batchSize.record(100, 100, true);
+
+        // Then
+        assertEquals(50, batchSize.get());
+    }
+
+    @Test
+    public void record_ShouldGrowUpToMaxBatchSize_WhenFullBatchesAreFast() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+        batchSize.record(100, 1_500, false);
+
+        // When
+        batchSize.record(50, 100, false);
+        int grown = batchSize.get();
+        for (int i = 0; i < 10; i++) {
+            batchSize.record(batchSize.get(), 100, false);
+        }
+
+        // Then
+        assertEquals(60, grown);
+        assertEquals(MAX_BATCH_SIZE, batchSize.get());
+    }
+
+    @Test
+    public void record_ShouldNotGrow_WhenBatchIsNotFull() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+        batchSize.record(100, 1_500, false);
+
+        // When
+        batchSize.record(20, 100, false);
+
+        // Then
+        assertEquals(50, batchSize.get());
+    }
+
+    @Test
+    public void record_ShouldIgnoreEmptyBatches() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+
+        // When
+        batchSize.record(0, 10_000, true);
+
+        // Then
+        assertEquals(MAX_BATCH_SIZE, batchSize.get());
+    }
+
+    @Test
+    public void record_ShouldReportOverload_WhenMinBatchSizeIsStillOverBudget() {
+        // Given
+        AdaptiveBatchSize batchSize = newBatchSize();
+        batchSize.record(100, 100_000, false);
+
+        // When
+        batchSize.record(MIN_BATCH_SIZE, 2_000, false);
+
+        // Then
+        assertEquals(MIN_BATCH_SIZE, batchSize.get());
+        assertTrue(batchSize.isOverloaded());
+        batchSize.clearOverloaded();
+        assertFalse(batchSize.isOverloaded());
+    }
+
+    private AdaptiveBatchSize newBatchSize() {
+        return new AdaptiveBatchSize(MIN_BATCH_SIZE, MAX_BATCH_SIZE, INCREMENT, LATENCY_BUDGET_NANOS);
+    }
+}
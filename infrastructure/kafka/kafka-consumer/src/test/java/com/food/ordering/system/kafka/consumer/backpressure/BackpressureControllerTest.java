@@ -0,0 +1,98 @@
+package com.food.ordering.system.kafka.consumer.backpressure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.kafka.config.data.KafkaBackpressureConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+public class BackpressureControllerTest {
+
+    private static final String TOPIC_NAME = "payment-request";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC_NAME, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC_NAME, 1);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<String, String> consumer = mock(Consumer.class);
+
+    @Test
+    public void limit_ShouldHandOverBatchSizeRecordsAndSeekBackTheRest_WhenPollIsLargerThanBatchSize() {
+        // Given
+        BackpressureController backpressureController = newBackpressureController(true, 5);
+        backpressureController.record("payment", 10, 2_000_000_000L);
+        ConsumerRecords<String, String> records = records(Map.of(PARTITION_0, 8, PARTITION_1, 2));
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("payment"));
+
+        // When
+        ConsumerRecords<String, String> limited = backpressureController.limit(records, consumer);
+
+        // Then
+        assertEquals(5, limited.count());
+        assertEquals(List.of(0L, 1L, 2L), offsets(limited, PARTITION_0));
+        assertEquals(List.of(0L, 1L), offsets(limited, PARTITION_1));
+        verify(consumer).seek(PARTITION_0, 3L);
+        verify(consumer, never()).seek(PARTITION_1, 2L);
+    }
+
+    @Test
+    public void limit_ShouldHandOverEveryRecord_WhenBackpressureIsDisabled() {
+        // Given
+        BackpressureController backpressureController = newBackpressureController(false, 5);
+        ConsumerRecords<String, String> records = records(Map.of(PARTITION_0, 8, PARTITION_1, 2));
+
+        // When
+        ConsumerRecords<String, String> limited = backpressureController.limit(records, consumer);
+
+        // Then
+        assertSame(records, limited);
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private BackpressureController newBackpressureController(boolean enabled, int minBatchSize) {
+        KafkaBackpressureConfigData kafkaBackpressureConfigData = new KafkaBackpressureConfigData();
+        kafkaBackpressureConfigData.setEnabled(enabled);
+        kafkaBackpressureConfigData.setLatencyBudgetMs(1_000L);
+        kafkaBackpressureConfigData.setMinBatchSize(minBatchSize);
+        kafkaBackpressureConfigData.setBatchSizeIncrement(1);
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setMaxPollRecords(10);
+        kafkaConsumerConfigData.setMaxPollIntervalMs(300_000);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        return new BackpressureController(kafkaBackpressureConfigData, kafkaConsumerConfigData,
+                mock(ConnectionPoolMonitor.class), mock(ObjectProvider.class), meterRegistry);
+    }
+
+    private ConsumerRecords<String, String> records(Map<TopicPartition, Integer> counts) {
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> records = new LinkedHashMap<>();
+        counts.forEach((partition, count) -> records.put(partition, LongStream.range(0, count)
+                .mapToObj(offset -> new ConsumerRecord<>(TOPIC_NAME, partition.partition(), offset, "key", "value"))
+                .toList()));
+        return new ConsumerRecords<>(records);
+    }
+
+    private List<Long> offsets(ConsumerRecords<String, String> records, TopicPartition partition) {
+        return records.records(partition).stream().map(ConsumerRecord::offset).toList();
+    }
+}
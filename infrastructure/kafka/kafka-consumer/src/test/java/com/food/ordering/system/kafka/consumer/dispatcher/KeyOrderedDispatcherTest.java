@@ -0,0 +1,331 @@
+package com.food.ordering.system.kafka.consumer.dispatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.execution.ConcurrencyLimiter;
+import com.food.ordering.system.execution.ExecutionMode;
+import com.food.ordering.system.execution.ExecutorFactory;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatch;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatchInterceptor;
+import com.food.ordering.system.kafka.consumer.retry.RetryParking;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+public class KeyOrderedDispatcherTest {
+
+    private static final String TOPIC_NAME = "payment-request";
+    private static final String RETRY_TOPIC_NAME = "payment-request-retry-1000";
+
+    private final ConsumerBatchInterceptor<?, ?> consumerBatchInterceptor = mock(ConsumerBatchInterceptor.class);
+    private final RetryTopicRouter retryTopicRouter = mock(RetryTopicRouter.class);
+    private RetryParking retryParking;
+    private KeyOrderedDispatcher keyOrderedDispatcher;
+
+    @AfterEach
+    public void tearDown() {
+        if (keyOrderedDispatcher != null) {
+            keyOrderedDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void dispatch_ShouldProcessMessagesOfEachKeyInOffsetOrder_WhenKeysAreSpreadOverShards() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(4, false);
+        List<String> messages = IntStream.range(0, 200).mapToObj(index -> "key-" + index % 10 + ":" + index).toList();
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+
+        // When
+        keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages), KeyOrderedDispatcherTest::key,
+                message -> processed.computeIfAbsent(key(message), key -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(sequence(message)));
+
+        // Then
+        assertEquals(10, processed.size());
+        processed.forEach((key, sequences) -> {
+            assertEquals(20, sequences.size());
+            assertEquals(sequences.stream().sorted().toList(), sequences);
+        });
+    }
+
+    @Test
+    public void dispatch_ShouldSkipLaterMessagesOfFailedKeyAndReportFirstIncompleteIndex_WhenRetryIsDisabled() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, false);
+        List<String> messages = List.of("a:0", "b:1", "a:2", "b:3");
+        List<String> processed = new ArrayList<>();
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages),
+                        KeyOrderedDispatcherTest::key, message -> {
+                            if (message.equals("a:0")) {
+                                throw new IllegalStateException("Processing failed");
+                            }
+                            processed.add(message);
+                        }));
+
+        // Then
+        assertEquals(List.of("b:1", "b:3"), processed);
+        assertEquals(0, exception.getIndex());
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void dispatch_ShouldTrackCompletedOffsetsOfEachPartition_WhenMessageFailsAndRetryIsDisabled() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(2, false);
+        List<String> messages = List.of("a:0", "a:1", "a:2", "b:0", "b:1");
+        List<Integer> partitions = List.of(0, 0, 0, 1, 1);
+        List<ConsumerRecord<?, ?>> records = new ArrayList<>();
+        for (int index = 0; index < messages.size(); index++) {
+            records.add(new ConsumerRecord<>(TOPIC_NAME, partitions.get(index), sequence(messages.get(index)),
+                    key(messages.get(index)), messages.get(index)));
+        }
+        ConsumerBatch consumerBatch = new ConsumerBatch(records, records.size(), Map.of(), new ConsumerGroupMetadata("payment"),
+                System.nanoTime());
+        when(consumerBatchInterceptor.findCurrentBatch()).thenReturn(Optional.of(consumerBatch));
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(messages, partitions, offsets(messages), KeyOrderedDispatcherTest::key,
+                        message -> {
+                            if (message.equals("a:1")) {
+                                throw new IllegalStateException("Processing failed");
+                            }
+                        }));
+
+        // Then
+        assertEquals(1, exception.getIndex());
+        assertTrue(consumerBatch.isCompletionTracked());
+        assertEquals(Map.of(new TopicPartition(TOPIC_NAME, 0), new OffsetAndMetadata(1),
+                        new TopicPartition(TOPIC_NAME, 1), new OffsetAndMetadata(2)),
+                consumerBatch.getCompletedOffsets());
+        assertEquals(records.subList(1, 3), consumerBatch.getIncompleteRecords());
+    }
+
+    @Test
+    public void dispatch_ShouldRouteFailedMessageAndLaterMessagesOfSameKey_WhenRetryIsEnabled() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        List<String> messages = List.of("a:0", "b:1", "a:2");
+        List<ConsumerRecord<?, ?>> records = givenCurrentBatch(messages);
+        List<String> processed = new ArrayList<>();
+
+        // When
+        keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages), KeyOrderedDispatcherTest::key,
+                message -> {
+                    if (message.equals("a:0")) {
+                        throw new IllegalStateException("Processing failed");
+                    }
+                    processed.add(message);
+                });
+
+        // Then
+        assertEquals(List.of("b:1"), processed);
+        verify(retryTopicRouter).route(eq(records.get(0)), any());
+        verify(retryTopicRouter).route(eq(records.get(2)), any());
+        verify(retryTopicRouter, never()).route(eq(records.get(1)), any());
+    }
+
+    @Test
+    public void dispatch_ShouldThrowBatchListenerFailedException_WhenFailedMessageCannotBeRouted() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        List<String> messages = List.of("a:0", "a:1");
+        givenCurrentBatch(messages);
+        doThrow(new IllegalStateException("Retry topic unavailable")).when(retryTopicRouter).route(any(), any());
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages),
+                        KeyOrderedDispatcherTest::key, message -> {
+                            throw new IllegalArgumentException("Processing failed");
+                        }));
+
+        // Then
+        assertEquals(0, exception.getIndex());
+        verify(retryTopicRouter, times(1)).route(any(), any());
+    }
+
+    @Test
+    public void dispatchInBatches_ShouldProcessFailedShardOneByOne_WhenRetryIsEnabled() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        List<String> messages = List.of("a:0", "b:1", "c:2");
+        List<ConsumerRecord<?, ?>> records = givenCurrentBatch(messages);
+        List<List<String>> handled = new ArrayList<>();
+
+        // When
+        keyOrderedDispatcher.dispatchInBatches(messages, partitions(messages), offsets(messages),
+                KeyOrderedDispatcherTest::key, batch -> {
+                    if (batch.contains("b:1")) {
+                        throw new IllegalStateException("Processing failed");
+                    }
+                    handled.add(batch);
+                });
+
+        // Then
+        assertEquals(List.of(List.of("a:0"), List.of("c:2")), handled);
+        verify(retryTopicRouter).route(eq(records.get(1)), any());
+        verify(retryTopicRouter, times(1)).route(any(), any());
+    }
+
+    @Test
+    public void dispatchInBatches_ShouldThrowBatchListenerFailedException_WhenShardFailsAndRetryIsDisabled() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, false);
+        List<String> messages = List.of("a:0", "b:1");
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatchInBatches(messages, partitions(messages), offsets(messages),
+                        KeyOrderedDispatcherTest::key, batch -> {
+                            throw new IllegalStateException("Processing failed");
+                        }));
+
+        // Then
+        assertEquals(0, exception.getIndex());
+    }
+
+    @Test
+    public void dispatchInBatches_ShouldRouteMessageBehindParkedMessageOfSameKey_WhenEarlierPollParkedItsKey() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        retryParking.park(new ConsumerRecord<>(TOPIC_NAME, 0, -1, "a", "a:-1"), RETRY_TOPIC_NAME);
+        List<String> messages = List.of("a:0", "b:1");
+        List<ConsumerRecord<?, ?>> records = givenCurrentBatch(messages);
+        List<List<String>> handled = new ArrayList<>();
+
+        // When
+        keyOrderedDispatcher.dispatchInBatches(messages, partitions(messages), offsets(messages),
+                KeyOrderedDispatcherTest::key, handled::add);
+
+        // Then
+        assertEquals(List.of(List.of("b:1")), handled);
+        verify(retryTopicRouter).routeBehind(records.get(0), RETRY_TOPIC_NAME);
+        verify(retryTopicRouter, never()).route(any(), any());
+    }
+
+    @Test
+    public void dispatch_ShouldProcessMessage_WhenParkedMessageOfSameKeyWasReleased() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        ConsumerRecord<String, String> parkedRecord = new ConsumerRecord<>(TOPIC_NAME, 0, -1, "a", "a:-1");
+        retryParking.park(parkedRecord, RETRY_TOPIC_NAME);
+        retryParking.release(parkedRecord);
+        List<String> messages = List.of("a:0");
+        givenCurrentBatch(messages);
+        List<String> processed = new ArrayList<>();
+
+        // When
+        keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages), KeyOrderedDispatcherTest::key,
+                processed::add);
+
+        // Then
+        assertEquals(List.of("a:0"), processed);
+        verify(retryTopicRouter, never()).routeBehind(any(), any());
+    }
+
+    @Test
+    public void dispatch_ShouldThrowBatchListenerFailedException_WhenMessageCannotBeParkedBehindItsKey() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(1, true);
+        retryParking.park(new ConsumerRecord<>(TOPIC_NAME, 0, -1, "a", "a:-1"), RETRY_TOPIC_NAME);
+        List<String> messages = List.of("a:0", "a:1");
+        givenCurrentBatch(messages);
+        doThrow(new IllegalStateException("Retry topic unavailable")).when(retryTopicRouter).routeBehind(any(), any());
+        List<String> processed = new ArrayList<>();
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(messages, partitions(messages), offsets(messages),
+                        KeyOrderedDispatcherTest::key, processed::add));
+
+        // Then
+        assertEquals(0, exception.getIndex());
+        assertTrue(processed.isEmpty());
+        verify(retryTopicRouter, times(1)).routeBehind(any(), any());
+    }
+
+    @Test
+    public void dispatch_ShouldDoNothing_WhenThereAreNoMessages() {
+        // Given
+        keyOrderedDispatcher = newDispatcher(4, true);
+        List<String> processed = new ArrayList<>();
+
+        // When
+        keyOrderedDispatcher.dispatch(List.<String>of(), List.of(), List.of(), KeyOrderedDispatcherTest::key,
+                processed::add);
+
+        // Then
+        assertTrue(processed.isEmpty());
+        verify(consumerBatchInterceptor, never()).getCurrentBatch();
+    }
+
+    private KeyOrderedDispatcher newDispatcher(int parallelism, boolean retryEnabled) {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setDispatcherParallelism(parallelism);
+        KafkaRetryConfigData kafkaRetryConfigData = new KafkaRetryConfigData();
+        kafkaRetryConfigData.setEnabled(retryEnabled);
+        kafkaRetryConfigData.setDelaysMs(List.of(1_000L, 10_000L));
+        kafkaRetryConfigData.setRetryTopicSuffix("-retry-");
+        kafkaRetryConfigData.setDeadLetterTopicSuffix("-dlt");
+        retryParking = new RetryParking(kafkaRetryConfigData, new RetryTopics(kafkaRetryConfigData));
+        return new KeyOrderedDispatcher(kafkaConsumerConfigData, kafkaRetryConfigData,
+                new ExecutorFactory(ExecutionMode.PLATFORM), new ConcurrencyLimiter(parallelism),
+                consumerBatchInterceptor, retryTopicRouter, retryParking);
+    }
+
+    private List<ConsumerRecord<?, ?>> givenCurrentBatch(List<String> messages) {
+        List<ConsumerRecord<?, ?>> records = new ArrayList<>();
+        for (int index = 0; index < messages.size(); index++) {
+            records.add(new ConsumerRecord<>(TOPIC_NAME, 0, index, key(messages.get(index)), messages.get(index)));
+        }
+        when(consumerBatchInterceptor.getCurrentBatch())
+                .thenReturn(new ConsumerBatch(records, records.size(), Map.of(), new ConsumerGroupMetadata("payment"), System.nanoTime()));
+        return records;
+    }
+
+    private static List<Integer> partitions(List<String> messages) {
+        return messages.stream().map(message -> 0).toList();
+    }
+
+    private static List<Long> offsets(List<String> messages) {
+        return messages.stream().map(message -> (long) sequence(message)).toList();
+    }
+
+    private static String key(String message) {
+        return message.substring(0, message.indexOf(':'));
+    }
+
+    private static int sequence(String message) {
+        return Integer.parseInt(message.substring(message.indexOf(':') + 1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.food.ordering.system.kafka.consumer.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.kafka.consumer.exception.KafkaConsumerException;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicRouter;
+import com.food.ordering.system.kafka.consumer.serialization.LazyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+public class RecordPreFilterTest {
+
+    private static final String TOPIC_NAME = "payment-request";
+    private static final byte[] POISON = "poison".getBytes(StandardCharsets.UTF_8);
+
+    private final RetryTopicRouter retryTopicRouter = mock(RetryTopicRouter.class);
+    private final Deserializer<String> deserializer = (topic, data) -> {
+        if (new String(data, StandardCharsets.UTF_8).equals("poison")) {
+            throw new SerializationException("Unknown magic byte");
+        }
+        return new String(data, StandardCharsets.UTF_8);
+    };
+
+    @Test
+    public void apply_ShouldRouteUndecodableRecordAndKeepTheOthers_WhenOneRecordCannotBeDecoded() {
+        // Given
+        RecordPreFilter recordPreFilter = newRecordPreFilter();
+        ConsumerRecords<String, Object> records = records(value("first"), POISON, value("third"));
+
+        // When
+        ConsumerRecords<String, Object> decoded = recordPreFilter.apply(records);
+
+        // Then
+        List<ConsumerRecord<String, Object>> kept = decoded.records(new TopicPartition(TOPIC_NAME, 0));
+        assertEquals(List.of(0L, 2L), kept.stream().map(ConsumerRecord::offset).toList());
+        assertEquals(List.of("first", "third"), kept.stream().map(ConsumerRecord::value).toList());
+        verify(retryTopicRouter).routeUndecodable(eq(records.records(new TopicPartition(TOPIC_NAME, 0)).get(1)),
+                eq(POISON), any(SerializationException.class));
+    }
+
+    @Test
+    public void apply_ShouldThrow_WhenUndecodableRecordCannotBeRouted() {
+        // Given
+        RecordPreFilter recordPreFilter = newRecordPreFilter();
+        doThrow(new KafkaConsumerException("Dead letter topic unavailable"))
+                .when(retryTopicRouter).routeUndecodable(any(), any(), any());
+        ConsumerRecords<String, Object> records = records(POISON);
+
+        // When / Then
+        assertThrows(KafkaConsumerException.class, () -> recordPreFilter.apply(records));
+    }
+
+    @Test
+    public void apply_ShouldKeepRecordsAsTheyAre_WhenValuesAreNotLazy() {
+        // Given
+        RecordPreFilter recordPreFilter = newRecordPreFilter();
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(TOPIC_NAME, 0, 0L, "key", "value");
+        ConsumerRecords<String, Object> records = new ConsumerRecords<>(
+                Map.of(new TopicPartition(TOPIC_NAME, 0), List.of(record)));
+
+        // When
+        ConsumerRecords<String, Object> decoded = recordPreFilter.apply(records);
+
+        // Then
+        assertEquals(List.of(record), decoded.records(new TopicPartition(TOPIC_NAME, 0)));
+    }
+
+    private byte[] value(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ConsumerRecords<String, Object> records(byte[]... values) {
+        List<ConsumerRecord<String, Object>> records = Stream.iterate(0, index -> index + 1)
+                .limit(values.length)
+                .map(index -> new ConsumerRecord<String, Object>(TOPIC_NAME, 0, index, "key-" + index,
+                        new LazyValue(deserializer, TOPIC_NAME, null, values[index])))
+                .toList();
+        return new ConsumerRecords<>(Map.of(new TopicPartition(TOPIC_NAME, 0), records));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RecordPreFilter newRecordPreFilter() {
+        ObjectProvider<RecordFilterStrategy<?, ?>> recordFilterStrategies = mock(ObjectProvider.class);
+        when(recordFilterStrategies.orderedStream()).thenReturn(Stream.empty());
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        return new RecordPreFilter(recordFilterStrategies, retryTopicRouter, meterRegistry);
+    }
+}
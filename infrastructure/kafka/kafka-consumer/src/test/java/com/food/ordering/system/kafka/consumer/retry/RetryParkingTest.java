@@ -0,0 +1,66 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.food.ordering.system.kafka.config.data.KafkaRetryConfigData;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+public class RetryParkingTest {
+
+    private static final String TOPIC_NAME = "payment-request";
+    private static final String FIRST_RETRY_TOPIC_NAME = "payment-request-retry-1000";
+    private static final String SECOND_RETRY_TOPIC_NAME = "payment-request-retry-10000";
+
+    private final RetryParking retryParking = newRetryParking();
+
+    @Test
+    public void parkingTopicName_ShouldReturnTierOfEarlierMessage_WhenRetriedMessageOfSameKeyIsBehindIt() {
+        // Given
+        retryParking.park(retried(FIRST_RETRY_TOPIC_NAME, 5), SECOND_RETRY_TOPIC_NAME);
+        retryParking.park(retried(FIRST_RETRY_TOPIC_NAME, 7), FIRST_RETRY_TOPIC_NAME);
+
+        // When
+        Optional<String> earlier = retryParking.parkingTopicName(retried(FIRST_RETRY_TOPIC_NAME, 7));
+        Optional<String> first = retryParking.parkingTopicName(retried(SECOND_RETRY_TOPIC_NAME, 5));
+
+        // Then
+        assertEquals(Optional.of(SECOND_RETRY_TOPIC_NAME), earlier);
+        assertEquals(Optional.empty(), first);
+    }
+
+    @Test
+    public void parkingTopicName_ShouldReturnEmpty_WhenEveryEarlierMessageWasReleased() {
+        // Given
+        retryParking.park(retried(FIRST_RETRY_TOPIC_NAME, 5), FIRST_RETRY_TOPIC_NAME);
+        retryParking.release(retried(FIRST_RETRY_TOPIC_NAME, 5));
+
+        // When
+        Optional<String> parkingTopicName = retryParking.parkingTopicName(
+                new ConsumerRecord<>(TOPIC_NAME, 0, 9, "a", "a:9"));
+
+        // Then
+        assertEquals(Optional.empty(), parkingTopicName);
+    }
+
+    private ConsumerRecord<String, String> retried(String topicName, long originalOffset) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(topicName, 0, 0, "a", "a:" + originalOffset);
+        record.headers().add(KafkaHeaders.ORIGINAL_TOPIC, TOPIC_NAME.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.ORIGINAL_OFFSET,
+                ByteBuffer.allocate(Long.BYTES).putLong(originalOffset).array());
+        return record;
+    }
+
+    private static RetryParking newRetryParking() {
+        KafkaRetryConfigData kafkaRetryConfigData = new KafkaRetryConfigData();
+        kafkaRetryConfigData.setDelaysMs(List.of(1_000L, 10_000L));
+        kafkaRetryConfigData.setRetryTopicSuffix("-retry-");
+        kafkaRetryConfigData.setDeadLetterTopicSuffix("-dlt");
+        return new RetryParking(kafkaRetryConfigData, new RetryTopics(kafkaRetryConfigData));
+    }
+}
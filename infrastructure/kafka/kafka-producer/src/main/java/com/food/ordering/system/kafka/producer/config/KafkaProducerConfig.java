@@ -2,6 +2,7 @@ package com.food.ordering.system.kafka.producer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,14 +13,20 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @RequiredArgsConstructor
 public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
+    private static final String LOCAL_VALUE_SERIALIZER_CLASS =
+            "com.food.ordering.system.kafka.schema.registry.serializer.LocalKafkaAvroSerializer";
+
     private final KafkaConfigData kafkaConfigData;
     private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final KafkaProducerMetrics kafkaProducerMetrics;
 
     @Bean
     public Map<String, Object> producerConfig() {
@@ -27,20 +34,29 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaConfigData.getLocalSchemaRegistry() ?
+                LOCAL_VALUE_SERIALIZER_CLASS : kafkaProducerConfigData.getValueSerializerClass());
         props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() * kafkaProducerConfigData.getBatchSizeBoostFactor());
         props.put(ProducerConfig.LINGER_MS_CONFIG, kafkaProducerConfigData.getLingerMs());
         props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, kafkaProducerConfigData.getCompressionType());
         props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
         props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
         props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        if (StringUtils.hasText(kafkaProducerConfigData.getTransactionIdPrefix())) {
+            props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        }
 
         return props;
     }
 
     @Bean
     public ProducerFactory<K, V> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfig());
+        DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(producerConfig());
+        producerFactory.addListener(new MicrometerProducerListener<>(kafkaProducerMetrics.getMeterRegistry()));
+        if (StringUtils.hasText(kafkaProducerConfigData.getTransactionIdPrefix())) {
+            producerFactory.setTransactionIdPrefix(kafkaProducerConfigData.getTransactionIdPrefix());
+        }
+        return producerFactory;
     }
 
     @Bean
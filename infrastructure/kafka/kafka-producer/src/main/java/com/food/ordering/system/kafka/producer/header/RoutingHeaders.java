@@ -0,0 +1,71 @@
+package com.food.ordering.system.kafka.producer.header;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class RoutingHeaders {
+
+    public static final String MESSAGE_ID = "message-id";
+    public static final String EVENT_TYPE = "event-type";
+    public static final String STATUS = "status";
+    public static final String ORDER_ID = "order-id";
+
+    private static final int UUID_SIZE = 2 * Long.BYTES;
+
+    private final UUID messageId;
+    private final String eventType;
+    private final String status;
+    private final UUID orderId;
+
+    public Headers toHeaders() {
+        Headers headers = new RecordHeaders();
+        headers.add(MESSAGE_ID, uuidToBytes(messageId));
+        headers.add(EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        headers.add(STATUS, status.getBytes(StandardCharsets.UTF_8));
+        headers.add(ORDER_ID, uuidToBytes(orderId));
+        return headers;
+    }
+
+    public static Optional<UUID> messageId(Headers headers) {
+        return lastValue(headers, MESSAGE_ID).filter(value -> value.length == UUID_SIZE).map(RoutingHeaders::bytesToUuid);
+    }
+
+    public static Optional<String> eventType(Headers headers) {
+        return lastValue(headers, EVENT_TYPE).map(value -> new String(value, StandardCharsets.UTF_8));
+    }
+
+    public static Optional<String> status(Headers headers) {
+        return lastValue(headers, STATUS).map(value -> new String(value, StandardCharsets.UTF_8));
+    }
+
+    public static Optional<UUID> orderId(Headers headers) {
+        return lastValue(headers, ORDER_ID).filter(value -> value.length == UUID_SIZE).map(RoutingHeaders::bytesToUuid);
+    }
+
+    private static Optional<byte[]> lastValue(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null || header.value() == null ? Optional.empty() : Optional.of(header.value());
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(UUID_SIZE)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID bytesToUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
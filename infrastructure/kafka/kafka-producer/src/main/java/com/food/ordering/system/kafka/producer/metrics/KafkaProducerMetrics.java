@@ -0,0 +1,72 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class KafkaProducerMetrics {
+
+    private static final String SEND = "kafka.producer.send";
+    private static final String IN_FLIGHT = "kafka.producer.in.flight";
+    private static final String ERRORS = "kafka.producer.errors";
+    private static final String RECORD_SIZE = "kafka.producer.record.size";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlightByTopic = new ConcurrentHashMap<>();
+
+    public KafkaProducerMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public long sendStarted(String topicName) {
+        inFlight(topicName).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void sendAcknowledged(String topicName, long startedAtNanos, RecordMetadata metadata) {
+        inFlight(topicName).decrementAndGet();
+        Timer.builder(SEND)
+                .tags("topic", topicName, "partition", String.valueOf(metadata.partition()))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(RECORD_SIZE)
+                .baseUnit("bytes")
+                .tags("topic", topicName)
+                .register(meterRegistry)
+                .record(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+    }
+
+    public void sendFailed(String topicName, Throwable ex) {
+        inFlight(topicName).decrementAndGet();
+        Counter.builder(ERRORS)
+                .tags("topic", topicName, "exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private AtomicInteger inFlight(String topicName) {
+        return inFlightByTopic.computeIfAbsent(topicName, topic -> {
+            AtomicInteger inFlight = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+                    .tags("topic", topic)
+                    .register(meterRegistry);
+            return inFlight;
+        });
+    }
+}
@@ -1,11 +1,25 @@
 package com.food.ordering.system.kafka.producer.service;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.support.SendResult;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
 
     void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback);
+
+    void send(ProducerRecord<K, V> producerRecord, BiConsumer<SendResult<K, V>, Throwable> callback);
+
+    boolean isTransactional();
+
+    <T> T executeInTransaction(Supplier<T> callback);
+
+    void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata);
 }
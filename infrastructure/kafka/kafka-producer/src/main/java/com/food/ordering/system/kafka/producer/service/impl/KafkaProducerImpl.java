@@ -2,18 +2,26 @@ package com.food.ordering.system.kafka.producer.service.impl;
 
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.util.KafkaMessageHelper;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -21,19 +29,58 @@ import java.util.function.BiConsumer;
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ThreadLocal<Boolean> localTransaction = new ThreadLocal<>();
 
     @Override
     public void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback) {
-        log.info("Sending message [{}] to topic [{}]", message, topicName);
+        send(new ProducerRecord<>(topicName, key, message), callback);
+    }
+
+    @Override
+    public void send(ProducerRecord<K, V> producerRecord, BiConsumer<SendResult<K, V>, Throwable> callback) {
+        String topicName = producerRecord.topic();
+        K key = producerRecord.key();
+        log.debug("Sending message with key [{}] to topic [{}]", key, topicName);
+        BiConsumer<SendResult<K, V>, Throwable> deliveryCallback = kafkaMessageHelper.getKafkaCallback(topicName, key, callback);
         try {
-            CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
-            kafkaResultFuture.whenComplete(callback);
+            CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(producerRecord);
+            kafkaResultFuture.whenComplete(deliveryCallback);
         } catch (KafkaException e) {
-            log.error("Error on kafka producer with key [{}], message [{}] and exception [{}]", key, message, e.getMessage());
-            throw new KafkaProducerException(String.format("Error on kafka producer with key [%s], message [%s]", key, message));
+            kafkaMessageHelper.sendFailed(topicName, key, e);
+            String schemaName = producerRecord.value() == null ? null : producerRecord.value().getSchema().getFullName();
+            throw new KafkaProducerException(String.format(
+                    "Error on kafka producer with key [%s], topic [%s] and schema [%s]", key, topicName, schemaName));
         }
     }
 
+    @Override
+    public boolean isTransactional() {
+        return kafkaTemplate.isTransactional();
+    }
+
+    @Override
+    public <T> T executeInTransaction(Supplier<T> callback) {
+        if (!kafkaTemplate.isTransactional() || localTransaction.get() != null
+                || TransactionSynchronizationManager.getResource(kafkaTemplate.getProducerFactory()) != null) {
+            return callback.get();
+        }
+        return kafkaTemplate.executeInTransaction(operations -> {
+            localTransaction.set(Boolean.TRUE);
+            try {
+                return callback.get();
+            } finally {
+                localTransaction.remove();
+            }
+        });
+    }
+
+    @Override
+    public void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata) {
+        log.debug("Sending offsets [{}] of group [{}] to transaction", offsets, groupMetadata.groupId());
+        kafkaTemplate.sendOffsetsToTransaction(offsets, groupMetadata);
+    }
+
     @PreDestroy
     public void close() {
         if (kafkaTemplate != null) {
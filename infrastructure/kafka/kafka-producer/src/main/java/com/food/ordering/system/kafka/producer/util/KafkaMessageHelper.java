@@ -1,33 +1,73 @@
 package com.food.ordering.system.kafka.producer.util;
 
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class KafkaMessageHelper {
 
-    public <T> BiConsumer<SendResult<String, T>, Throwable> getKafkaCallback(String topicName,
-                                                                             String orderId,
-                                                                             T avroModel,
-                                                                             String avroModelName) {
+    private final KafkaProducerMetrics kafkaProducerMetrics;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final Map<String, ErrorLogWindow> errorLogWindows = new ConcurrentHashMap<>();
+
+    public <K, V> BiConsumer<SendResult<K, V>, Throwable> getKafkaCallback(String topicName,
+                                                                           K key,
+                                                                           BiConsumer<SendResult<K, V>, Throwable> callback) {
+        long startedAtNanos = kafkaProducerMetrics.sendStarted(topicName);
         return (result, ex) -> {
             if (ex == null) {
                 RecordMetadata metadata = result.getRecordMetadata();
-                log.info("Received successful response from Kafka for order id [{}] topic [{}] partition [{}] offset [{}] timestamp [{}]",
-                        orderId,
-                        metadata.topic(),
-                        metadata.partition(),
-                        metadata.offset(),
-                        metadata.timestamp());
+                kafkaProducerMetrics.sendAcknowledged(topicName, startedAtNanos, metadata);
+                log.debug("Received successful response from Kafka for key [{}] topic [{}] partition [{}] offset [{}]",
+                        key, metadata.topic(), metadata.partition(), metadata.offset());
             } else {
-                log.error("Error while sending {} message [{}] to topic [{}]",
-                        avroModelName, avroModel.toString(), topicName, ex);
+                kafkaProducerMetrics.sendFailed(topicName, ex);
+                logError(topicName, key, ex);
             }
+            callback.accept(result, ex);
         };
     }
+
+    public void sendFailed(String topicName, Object key, Throwable ex) {
+        kafkaProducerMetrics.sendFailed(topicName, ex);
+        logError(topicName, key, ex);
+    }
+
+    private void logError(String topicName, Object key, Throwable ex) {
+        long suppressed = errorLogWindows.computeIfAbsent(topicName, topic -> new ErrorLogWindow())
+                .tryAcquire(TimeUnit.MILLISECONDS.toNanos(kafkaProducerConfigData.getErrorLogIntervalMs()));
+        if (suppressed >= 0) {
+            log.error("Error while sending message with key [{}] to topic [{}], [{}] similar errors suppressed",
+                    key, topicName, suppressed, ex);
+        }
+    }
+
+    private static class ErrorLogWindow {
+
+        private final AtomicLong nextLogAtNanos = new AtomicLong(System.nanoTime());
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private long tryAcquire(long intervalNanos) {
+            long now = System.nanoTime();
+            long nextLogAt = nextLogAtNanos.get();
+            if (now - nextLogAt >= 0 && nextLogAtNanos.compareAndSet(nextLogAt, now + intervalNanos)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
 }
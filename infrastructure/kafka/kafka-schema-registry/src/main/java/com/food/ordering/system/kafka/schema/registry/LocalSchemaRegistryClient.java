@@ -0,0 +1,58 @@
+package com.food.ordering.system.kafka.schema.registry;
+
+import com.food.ordering.system.kafka.schema.registry.exception.SchemaRegistryException;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+public class LocalSchemaRegistryClient extends MockSchemaRegistryClient {
+
+    public static final String DEFAULT_SCHEMA_LOCATION = "classpath*:avro/*.avsc";
+
+    public LocalSchemaRegistryClient(String schemaLocation) {
+        seed(schemaLocation);
+    }
+
+    public static LocalSchemaRegistryClient getInstance() {
+        return DefaultClientHolder.INSTANCE;
+    }
+
+    private void seed(String schemaLocation) {
+        List<Schema> schemas = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(schemaLocation)) {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    schemas.add(new Schema.Parser().parse(inputStream));
+                }
+            }
+        } catch (IOException e) {
+            throw new SchemaRegistryException(String.format("Schemas at [%s] could not be read", schemaLocation), e);
+        }
+
+        schemas.sort(Comparator.comparing(Schema::getFullName));
+        for (Schema schema : schemas) {
+            try {
+                log.info("Schema [{}] registered with id [{}]", schema.getFullName(),
+                        register(schema.getFullName(), new AvroSchema(schema)));
+            } catch (IOException | RestClientException e) {
+                throw new SchemaRegistryException(String.format("Schema [%s] could not be registered",
+                        schema.getFullName()), e);
+            }
+        }
+    }
+
+    private static class DefaultClientHolder {
+        private static final LocalSchemaRegistryClient INSTANCE = new LocalSchemaRegistryClient(DEFAULT_SCHEMA_LOCATION);
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.kafka.schema.registry.exception;
+
+public class SchemaRegistryException extends RuntimeException {
+
+    public SchemaRegistryException(String message) {
+        super(message);
+    }
+
+    public SchemaRegistryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
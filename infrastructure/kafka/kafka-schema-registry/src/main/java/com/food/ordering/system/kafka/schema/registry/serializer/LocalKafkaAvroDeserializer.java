@@ -0,0 +1,16 @@
+package com.food.ordering.system.kafka.schema.registry.serializer;
+
+import com.food.ordering.system.kafka.schema.registry.LocalSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+
+public class LocalKafkaAvroDeserializer extends KafkaAvroDeserializer {
+
+    public LocalKafkaAvroDeserializer() {
+        this(LocalSchemaRegistryClient.getInstance());
+    }
+
+    public LocalKafkaAvroDeserializer(SchemaRegistryClient schemaRegistryClient) {
+        super(schemaRegistryClient);
+    }
+}
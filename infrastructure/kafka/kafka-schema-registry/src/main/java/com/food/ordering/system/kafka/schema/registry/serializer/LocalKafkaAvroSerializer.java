@@ -0,0 +1,30 @@
+package com.food.ordering.system.kafka.schema.registry.serializer;
+
+import com.food.ordering.system.kafka.schema.registry.LocalSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.subject.RecordNameStrategy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LocalKafkaAvroSerializer extends KafkaAvroSerializer {
+
+    public LocalKafkaAvroSerializer() {
+        this(LocalSchemaRegistryClient.getInstance());
+    }
+
+    public LocalKafkaAvroSerializer(SchemaRegistryClient schemaRegistryClient) {
+        super(schemaRegistryClient);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Map<String, Object> localConfigs = new HashMap<>(configs);
+        localConfigs.put(AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, false);
+        localConfigs.put(isKey ? AbstractKafkaSchemaSerDeConfig.KEY_SUBJECT_NAME_STRATEGY :
+                AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY, RecordNameStrategy.class);
+        super.configure(localConfigs, isKey);
+    }
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.kafka.schema.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+public class LocalSchemaRegistryClientTest {
+
+    private static final List<Schema> SCHEMAS = List.of(
+            CustomerAvroModel.getClassSchema(),
+            PaymentRequestAvroModel.getClassSchema(),
+            PaymentResponseAvroModel.getClassSchema(),
+            RestaurantApprovalRequestAvroModel.getClassSchema(),
+            RestaurantApprovalResponseAvroModel.getClassSchema());
+
+    @Test
+    public void getAllSubjects_ShouldContainEveryAvroModel_WhenSeededFromClasspath() throws IOException, RestClientException {
+        // Given
+        LocalSchemaRegistryClient client = new LocalSchemaRegistryClient(LocalSchemaRegistryClient.DEFAULT_SCHEMA_LOCATION);
+
+        // When
+        Collection<String> subjects = client.getAllSubjects();
+
+        // Then
+        SCHEMAS.forEach(schema -> assertTrue(subjects.contains(schema.getFullName()),
+                schema.getFullName() + " is not seeded"));
+    }
+
+    @Test
+    public void getId_ShouldResolveGeneratedSchema_WhenSchemaIsSeeded() throws IOException, RestClientException {
+        // Given
+        LocalSchemaRegistryClient client = new LocalSchemaRegistryClient(LocalSchemaRegistryClient.DEFAULT_SCHEMA_LOCATION);
+        AvroSchema schema = new AvroSchema(PaymentRequestAvroModel.getClassSchema());
+
+        // When
+        int id = client.getId(PaymentRequestAvroModel.getClassSchema().getFullName(), schema);
+
+        // Then
+        assertEquals(schema.canonicalString(), client.getSchemaById(id).canonicalString());
+    }
+
+    @Test
+    public void getId_ShouldReturnSameIds_WhenSeededTwice() throws IOException, RestClientException {
+        // Given
+        LocalSchemaRegistryClient first = new LocalSchemaRegistryClient(LocalSchemaRegistryClient.DEFAULT_SCHEMA_LOCATION);
+        LocalSchemaRegistryClient second = new LocalSchemaRegistryClient(LocalSchemaRegistryClient.DEFAULT_SCHEMA_LOCATION);
+
+        // When / Then
+        for (Schema schema : SCHEMAS) {
+            assertEquals(first.getId(schema.getFullName(), new AvroSchema(schema)),
+                    second.getId(schema.getFullName(), new AvroSchema(schema)));
+        }
+    }
+}
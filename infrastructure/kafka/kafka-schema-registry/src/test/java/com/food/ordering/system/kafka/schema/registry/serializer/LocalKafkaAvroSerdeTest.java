@@ -0,0 +1,88 @@
+package com.food.ordering.system.kafka.schema.registry.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.schema.registry.LocalSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public class LocalKafkaAvroSerdeTest {
+
+    private static final String TOPIC = "customer";
+    private static final Map<String, Object> CONFIGS = Map.of(
+            AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://local-kafka-avro-serde-test",
+            KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+
+    private final LocalSchemaRegistryClient client =
+            new LocalSchemaRegistryClient(LocalSchemaRegistryClient.DEFAULT_SCHEMA_LOCATION);
+
+    @Test
+    public void serialize_ShouldWriteSeededSchemaId_WhenSchemaIsSeeded() throws IOException, RestClientException {
+        // Given
+        LocalKafkaAvroSerializer serializer = new LocalKafkaAvroSerializer(client);
+        serializer.configure(CONFIGS, false);
+        int seededId = client.getId(CustomerAvroModel.getClassSchema().getFullName(),
+                new AvroSchema(CustomerAvroModel.getClassSchema()));
+
+        // When
+        ByteBuffer buffer = ByteBuffer.wrap(serializer.serialize(TOPIC, customer()));
+
+        // Then
+        assertEquals(0, buffer.get());
+        assertEquals(seededId, buffer.getInt());
+    }
+
+    @Test
+    public void deserialize_ShouldReadRecord_WhenWrittenByLocalSerializer() {
+        // Given
+        LocalKafkaAvroSerializer serializer = new LocalKafkaAvroSerializer(client);
+        KafkaAvroDeserializer deserializer = new KafkaAvroDeserializer(client);
+        serializer.configure(CONFIGS, false);
+        deserializer.configure(CONFIGS, false);
+        CustomerAvroModel customer = customer();
+
+        // When
+        Object deserialized = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, customer));
+
+        // Then
+        assertEquals(customer, deserialized);
+    }
+
+    @Test
+    public void deserialize_ShouldReadRecord_WhenWrittenByKafkaAvroSerializer() {
+        // Given
+        KafkaAvroSerializer serializer = new KafkaAvroSerializer(client);
+        LocalKafkaAvroDeserializer deserializer = new LocalKafkaAvroDeserializer(client);
+        serializer.configure(CONFIGS, false);
+        deserializer.configure(CONFIGS, false);
+        CustomerAvroModel customer = customer();
+
+        // When
+        Object deserialized = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, customer));
+
+        // Then
+        assertEquals(customer, deserialized);
+    }
+
+    private CustomerAvroModel customer() {
+        return CustomerAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setUsername("user_1")
+                .setFirstName("First")
+                .setLastName("User")
+                .setCreatedAt(Instant.ofEpochMilli(System.currentTimeMillis()))
+                .build();
+    }
+}
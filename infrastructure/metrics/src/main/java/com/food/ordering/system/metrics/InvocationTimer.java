@@ -0,0 +1,38 @@
+package com.food.ordering.system.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class InvocationTimer {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public Object time(ProceedingJoinPoint joinPoint, String name, Tags tags) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timer(name, tags, OUTCOME_SUCCESS, NO_EXCEPTION));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(name, tags, OUTCOME_FAILURE, e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(String name, Tags tags, String outcome, String exception) {
+        return Timer.builder(name)
+                .tags(tags.and("outcome", outcome, "exception", exception))
+                .register(meterRegistry);
+    }
+}
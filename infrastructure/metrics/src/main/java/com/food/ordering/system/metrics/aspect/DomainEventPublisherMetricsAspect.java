@@ -0,0 +1,27 @@
+package com.food.ordering.system.metrics.aspect;
+
+import com.food.ordering.system.metrics.InvocationTimer;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisherMetricsAspect {
+
+    private static final String DOMAIN_EVENT_PUBLISH = "domain.event.publish";
+
+    private final InvocationTimer invocationTimer;
+
+    @Around("execution(* com.food.ordering.system.domain.event.publisher.DomainEventPublisher+.publish(..)) && args(event)")
+    public Object timePublish(ProceedingJoinPoint joinPoint, Object event) throws Throwable {
+        return invocationTimer.time(joinPoint, DOMAIN_EVENT_PUBLISH, Tags.of(
+                "publisher", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName(),
+                "event", event == null ? "null" : event.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.food.ordering.system.metrics.aspect;
+
+import com.food.ordering.system.metrics.InvocationTimer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Aspect
+@Component
+@ConditionalOnClass(name = "com.food.ordering.system.kafka.consumer.service.KafkaConsumer")
+@RequiredArgsConstructor
+public class KafkaConsumerMetricsAspect {
+
+    private static final String KAFKA_CONSUMER_BATCH = "kafka.consumer.batch";
+    private static final String KAFKA_CONSUMER_BATCH_SIZE = "kafka.consumer.batch.size";
+    private static final String ORDER_LIFECYCLE = "order.lifecycle";
+    private static final String CREATED_AT = "createdAt";
+
+    private final InvocationTimer invocationTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.food.ordering.system.kafka.consumer.service.KafkaConsumer+.receive(..)) && args(messages, ..)")
+    public Object timeBatch(ProceedingJoinPoint joinPoint, List<?> messages) throws Throwable {
+        Tags tags = Tags.of("consumer", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName());
+        DistributionSummary.builder(KAFKA_CONSUMER_BATCH_SIZE)
+                .baseUnit("messages")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(messages.size());
+        Object result = invocationTimer.time(joinPoint, KAFKA_CONSUMER_BATCH, tags);
+        recordLifecycle(tags, messages);
+        return result;
+    }
+
+    private void recordLifecycle(Tags tags, List<?> messages) {
+        Instant now = Instant.now();
+        for (Object element : messages) {
+            SpecificRecordBase message = (SpecificRecordBase) element;
+            Schema.Field createdAtField = message.getSchema().getField(CREATED_AT);
+            if (createdAtField != null && message.get(createdAtField.pos()) instanceof Instant createdAt) {
+                Timer.builder(ORDER_LIFECYCLE)
+                        .tags(tags.and("stage", message.getSchema().getName()))
+                        .register(meterRegistry)
+                        .record(Duration.between(createdAt, now));
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.metrics.aspect;
+
+import com.food.ordering.system.metrics.InvocationTimer;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private static final String REPOSITORY_CALL = "repository.call";
+
+    private final InvocationTimer invocationTimer;
+
+    @Around("execution(* com.food.ordering.system..ports.output.repository.*+.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return invocationTimer.time(joinPoint, REPOSITORY_CALL, Tags.of(
+                "repository", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                "method", joinPoint.getSignature().getName()));
+    }
+}
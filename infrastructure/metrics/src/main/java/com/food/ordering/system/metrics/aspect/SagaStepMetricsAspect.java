@@ -0,0 +1,44 @@
+package com.food.ordering.system.metrics.aspect;
+
+import com.food.ordering.system.metrics.InvocationTimer;
+import com.food.ordering.system.saga.SagaBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SagaStepMetricsAspect {
+
+    private static final String SAGA_STEP = "saga.step";
+    private static final String SAGA_STEP_ITEMS = "saga.step.items";
+
+    private final InvocationTimer invocationTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.food.ordering.system.saga.SagaStep+.*(..))")
+    public Object timeSagaStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of(
+                "step", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName(),
+                "operation", joinPoint.getSignature().getName());
+        Object result = invocationTimer.time(joinPoint, SAGA_STEP, tags);
+        if (result instanceof SagaBatchResult<?, ?> sagaBatchResult) {
+            items(tags, InvocationTimer.OUTCOME_SUCCESS).increment(sagaBatchResult.getEvents().size());
+            items(tags, InvocationTimer.OUTCOME_FAILURE).increment(sagaBatchResult.getFailed().size());
+        }
+        return result;
+    }
+
+    private Counter items(Tags tags, String outcome) {
+        return Counter.builder(SAGA_STEP_ITEMS)
+                .tags(tags.and("outcome", outcome))
+                .register(meterRegistry);
+    }
+}
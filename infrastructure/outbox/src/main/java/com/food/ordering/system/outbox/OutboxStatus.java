@@ -0,0 +1,5 @@
+package com.food.ordering.system.outbox;
+
+public enum OutboxStatus {
+    STARTED, COMPLETED
+}
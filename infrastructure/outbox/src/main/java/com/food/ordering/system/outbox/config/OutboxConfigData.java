@@ -0,0 +1,23 @@
+package com.food.ordering.system.outbox.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox-config")
+public class OutboxConfigData {
+
+    private Integer batchSize;
+    private Long relayFixedDelayMs;
+    private Long cleanerFixedDelayMs;
+    private Long sendTimeoutMs;
+    private Long claimTimeoutMs;
+    private String relayMode;
+    private String replicationSlotName;
+    private String replicationPublicationName;
+    private Long replicationStatusIntervalMs;
+    private Long replicationIdleWaitMs;
+    private Long replicationRetryDelayMs;
+}
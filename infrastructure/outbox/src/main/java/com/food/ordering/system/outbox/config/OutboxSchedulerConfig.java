@@ -0,0 +1,10 @@
+package com.food.ordering.system.outbox.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class OutboxSchedulerConfig {
+
+}
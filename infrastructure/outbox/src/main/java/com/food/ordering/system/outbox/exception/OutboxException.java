@@ -0,0 +1,12 @@
+package com.food.ordering.system.outbox.exception;
+
+public class OutboxException extends RuntimeException {
+
+    public OutboxException(String message) {
+        super(message);
+    }
+
+    public OutboxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
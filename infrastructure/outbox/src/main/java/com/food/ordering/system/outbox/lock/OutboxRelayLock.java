@@ -0,0 +1,72 @@
+package com.food.ordering.system.outbox.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayLock {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(hashtext(current_schema() || '.outbox'))";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private Connection connection;
+    private boolean held;
+
+    public synchronized boolean tryAcquire() {
+        try {
+            if (connection == null || !connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                closeConnection();
+                connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+            }
+            if (!held) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(TRY_LOCK_QUERY)) {
+                    held = resultSet.next() && resultSet.getBoolean(1);
+                }
+                if (held) {
+                    log.info("Outbox relay lock acquired, this instance relays the outbox");
+                }
+            }
+            return held;
+        } catch (SQLException e) {
+            log.warn("Outbox relay lock could not be acquired", e);
+            closeConnection();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        closeConnection();
+    }
+
+    private void closeConnection() {
+        if (held) {
+            log.info("Outbox relay lock released");
+        }
+        held = false;
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Outbox relay lock connection could not be closed", e);
+        }
+        connection = null;
+    }
+}
@@ -0,0 +1,277 @@
+package com.food.ordering.system.outbox.replication;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import com.food.ordering.system.outbox.exception.OutboxException;
+import com.food.ordering.system.outbox.lock.OutboxRelayLock;
+import com.food.ordering.system.outbox.repository.OutboxJpaRepository;
+import com.food.ordering.system.outbox.service.OutboxMessageSender;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox-config", name = "relay-mode", havingValue = "replication")
+public class OutboxReplicationRelay {
+
+    private static final String OUTBOX_TABLE_NAME = "outbox";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxConfigData outboxConfigData;
+    private final OutboxMessageSender outboxMessageSender;
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayLock outboxRelayLock;
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-replication-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executorService.submit(this::run);
+        log.info("Outbox replication relay started on slot [{}]", outboxConfigData.getReplicationSlotName());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        executorService.shutdown();
+        executorService.awaitTermination(outboxConfigData.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        while (running) {
+            if (!outboxRelayLock.tryAcquire()) {
+                sleep(outboxConfigData.getReplicationRetryDelayMs());
+                continue;
+            }
+            try (Connection connection = openReplicationConnection()) {
+                if (createReplicationSlotIfNotExists(connection)) {
+                    drainBacklog();
+                }
+                stream(connection.unwrap(PGConnection.class));
+            } catch (Exception e) {
+                log.error("Outbox replication relay on slot [{}] failed, reconnecting in [{}] ms",
+                        outboxConfigData.getReplicationSlotName(), outboxConfigData.getReplicationRetryDelayMs(), e);
+                sleep(outboxConfigData.getReplicationRetryDelayMs());
+            }
+        }
+    }
+
+    private void stream(PGConnection connection) throws SQLException {
+        PGReplicationStream stream = connection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withSlotName(outboxConfigData.getReplicationSlotName())
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", outboxConfigData.getReplicationPublicationName())
+                .withStatusInterval(outboxConfigData.getReplicationStatusIntervalMs().intValue(), TimeUnit.MILLISECONDS)
+                .start();
+
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        List<OutboxEntity> transactionEntities = new ArrayList<>();
+        List<OutboxEntity> pendingEntities = new ArrayList<>();
+        LogSequenceNumber pendingLsn = null;
+
+        try (stream) {
+            while (running) {
+                ByteBuffer buffer = stream.readPending();
+                if (buffer == null) {
+                    if (pendingLsn != null) {
+                        flush(stream, pendingEntities, pendingLsn);
+                        pendingLsn = null;
+                    } else {
+                        sleep(outboxConfigData.getReplicationIdleWaitMs());
+                    }
+                    continue;
+                }
+
+                PgOutputMessage message = decoder.decode(buffer);
+                switch (message.getType()) {
+                    case BEGIN -> transactionEntities.clear();
+                    case INSERT -> {
+                        if (OUTBOX_TABLE_NAME.equals(message.getTableName())) {
+                            transactionEntities.add(toOutboxEntity(message));
+                        }
+                    }
+                    case COMMIT -> {
+                        pendingEntities.addAll(transactionEntities);
+                        transactionEntities.clear();
+                        pendingLsn = message.getEndLsn();
+                        if (pendingEntities.size() >= outboxConfigData.getBatchSize()) {
+                            flush(stream, pendingEntities, pendingLsn);
+                            pendingLsn = null;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    private void flush(PGReplicationStream stream, List<OutboxEntity> pendingEntities, LogSequenceNumber lsn) throws SQLException {
+        if (!pendingEntities.isEmpty()) {
+            Set<Long> alreadyCompletedIds = new HashSet<>(outboxJpaRepository.findIdsByIdInAndOutboxStatus(
+                    pendingEntities.stream().map(OutboxEntity::getId).toList(), OutboxStatus.COMPLETED));
+            if (!alreadyCompletedIds.isEmpty()) {
+                pendingEntities.removeIf(outboxEntity -> alreadyCompletedIds.contains(outboxEntity.getId()));
+                log.info("[{}] outbox messages up to lsn [{}] were already sent to Kafka, skipping them",
+                        alreadyCompletedIds.size(), lsn.asString());
+            }
+        }
+
+        if (!pendingEntities.isEmpty()) {
+            List<Long> completedIds = outboxMessageSender.send(pendingEntities);
+            if (completedIds.size() != pendingEntities.size()) {
+                throw new OutboxException(String.format("[%d] of [%d] outbox messages could not be sent to Kafka before lsn [%s]",
+                        pendingEntities.size() - completedIds.size(), pendingEntities.size(), lsn.asString()));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> outboxJpaRepository
+                    .updateOutboxStatusByIdIn(OutboxStatus.COMPLETED, ZonedDateTime.now(ZoneId.of(UTC)), completedIds));
+            log.info("[{}] outbox messages sent to Kafka from replication slot up to lsn [{}]", completedIds.size(), lsn.asString());
+            pendingEntities.clear();
+        }
+
+        stream.setAppliedLSN(lsn);
+        stream.setFlushedLSN(lsn);
+        stream.forceUpdateStatus();
+    }
+
+    private void drainBacklog() {
+        int drained = 0;
+        while (running) {
+            ZonedDateTime claimedAt = ZonedDateTime.now(ZoneId.of(UTC));
+            List<OutboxEntity> outboxEntities = transactionTemplate.execute(status -> {
+                List<OutboxEntity> claimedEntities = outboxJpaRepository.findUnclaimedByOutboxStatus(OutboxStatus.STARTED,
+                        claimedAt.minus(outboxConfigData.getClaimTimeoutMs(), ChronoUnit.MILLIS),
+                        PageRequest.of(0, outboxConfigData.getBatchSize()));
+                if (!claimedEntities.isEmpty()) {
+                    outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, claimedAt,
+                            claimedEntities.stream().map(OutboxEntity::getId).toList());
+                }
+                return claimedEntities;
+            });
+            if (outboxEntities == null || outboxEntities.isEmpty()) {
+                break;
+            }
+
+            List<Long> completedIds = outboxMessageSender.send(outboxEntities);
+            Set<Long> completed = new HashSet<>(completedIds);
+            List<Long> failedIds = outboxEntities.stream()
+                    .map(OutboxEntity::getId)
+                    .filter(id -> !completed.contains(id))
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!completedIds.isEmpty()) {
+                    outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.COMPLETED, ZonedDateTime.now(ZoneId.of(UTC)), completedIds);
+                }
+                if (!failedIds.isEmpty()) {
+                    outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, null, failedIds);
+                }
+            });
+            drained += completedIds.size();
+            if (!failedIds.isEmpty()) {
+                throw new OutboxException(String.format("[%d] of [%d] pending outbox messages could not be sent to Kafka before streaming",
+                        failedIds.size(), outboxEntities.size()));
+            }
+        }
+        log.info("[{}] pending outbox messages sent to Kafka before streaming from replication slot [{}]",
+                drained, outboxConfigData.getReplicationSlotName());
+    }
+
+    private OutboxEntity toOutboxEntity(PgOutputMessage message) {
+        String payload = message.getColumns().get("payload");
+        String headers = message.getColumns().get("headers");
+        return OutboxEntity.builder()
+                .id(Long.valueOf(message.getColumns().get("id")))
+                .topic(message.getColumns().get("topic"))
+                .messageKey(message.getColumns().get("message_key"))
+                .payloadType(message.getColumns().get("payload_type"))
+                .payload(HexFormat.of().parseHex(payload, 2, payload.length()))
+                .headers(headers == null ? null : HexFormat.of().parseHex(headers, 2, headers.length()))
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        Properties properties = new Properties();
+        PGProperty.USER.set(properties, dataSourceProperties.determineUsername());
+        PGProperty.PASSWORD.set(properties, dataSourceProperties.determinePassword());
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private boolean createReplicationSlotIfNotExists(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM pg_replication_slots WHERE slot_name = ?")) {
+            statement.setString(1, outboxConfigData.getReplicationSlotName());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return false;
+                }
+            }
+        }
+
+        connection.unwrap(PGConnection.class).getReplicationAPI()
+                .createReplicationSlot()
+                .logical()
+                .withSlotName(outboxConfigData.getReplicationSlotName())
+                .withOutputPlugin("pgoutput")
+                .make();
+        log.info("Replication slot [{}] created", outboxConfigData.getReplicationSlotName());
+        return true;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
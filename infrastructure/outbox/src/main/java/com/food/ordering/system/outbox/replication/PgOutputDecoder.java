@@ -0,0 +1,101 @@
+package com.food.ordering.system.outbox.replication;
+
+import com.food.ordering.system.outbox.exception.OutboxException;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PgOutputDecoder {
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public PgOutputMessage decode(ByteBuffer buffer) {
+        char messageType = (char) buffer.get();
+        switch (messageType) {
+            case 'B':
+                return PgOutputMessage.of(PgOutputMessage.Type.BEGIN);
+            case 'C':
+                buffer.get();
+                buffer.getLong();
+                LogSequenceNumber endLsn = LogSequenceNumber.valueOf(buffer.getLong());
+                return new PgOutputMessage(PgOutputMessage.Type.COMMIT, null, null, Map.of(), endLsn);
+            case 'R':
+                decodeRelation(buffer);
+                return PgOutputMessage.of(PgOutputMessage.Type.OTHER);
+            case 'I':
+                return decodeInsert(buffer);
+            default:
+                return PgOutputMessage.of(PgOutputMessage.Type.OTHER);
+        }
+    }
+
+    private void decodeRelation(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        String schemaName = readString(buffer);
+        String tableName = readString(buffer);
+        buffer.get();
+        short columnCount = buffer.getShort();
+
+        List<String> columnNames = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();
+            columnNames.add(readString(buffer));
+            buffer.getInt();
+            buffer.getInt();
+        }
+
+        relations.put(relationId, new Relation(schemaName, tableName, columnNames));
+    }
+
+    private PgOutputMessage decodeInsert(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        Relation relation = relations.get(relationId);
+        if (relation == null) {
+            throw new OutboxException(String.format("Insert received for unknown relation id [%d]", relationId));
+        }
+
+        buffer.get();
+        short columnCount = buffer.getShort();
+        Map<String, String> columns = new HashMap<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.get();
+            if (kind == 't') {
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                columns.put(relation.columnNames.get(i), new String(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        return new PgOutputMessage(PgOutputMessage.Type.INSERT, relation.schemaName, relation.tableName, columns, null);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int end = buffer.position();
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+
+        byte[] value = new byte[end - buffer.position()];
+        buffer.get(value);
+        buffer.get();
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Relation {
+
+        private final String schemaName;
+        private final String tableName;
+        private final List<String> columnNames;
+
+        private Relation(String schemaName, String tableName, List<String> columnNames) {
+            this.schemaName = schemaName;
+            this.tableName = tableName;
+            this.columnNames = columnNames;
+        }
+    }
+}
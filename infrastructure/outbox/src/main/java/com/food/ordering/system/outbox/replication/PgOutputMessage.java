@@ -0,0 +1,26 @@
+package com.food.ordering.system.outbox.replication;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PgOutputMessage {
+
+    public enum Type {
+        BEGIN, INSERT, COMMIT, OTHER
+    }
+
+    private final Type type;
+    private final String schemaName;
+    private final String tableName;
+    private final Map<String, String> columns;
+    private final LogSequenceNumber endLsn;
+
+    static PgOutputMessage of(Type type) {
+        return new PgOutputMessage(type, null, null, Map.of(), null);
+    }
+}
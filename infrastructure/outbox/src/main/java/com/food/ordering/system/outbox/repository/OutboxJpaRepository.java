@@ -0,0 +1,51 @@
+package com.food.ordering.system.outbox.repository;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEntity o where o.outboxStatus = :outboxStatus " +
+            "and (o.processedAt is null or o.processedAt < :claimedBefore) order by o.id")
+    List<OutboxEntity> findUnclaimedByOutboxStatus(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                                   @Param("claimedBefore") ZonedDateTime claimedBefore,
+                                                   Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEntity o where o.id in :ids and o.outboxStatus = :outboxStatus " +
+            "and (o.processedAt is null or o.processedAt < :claimedBefore) order by o.id")
+    List<OutboxEntity> findUnclaimedByIdInAndOutboxStatus(@Param("ids") List<Long> ids,
+                                                          @Param("outboxStatus") OutboxStatus outboxStatus,
+                                                          @Param("claimedBefore") ZonedDateTime claimedBefore);
+
+    @Query("select o.id from OutboxEntity o where o.id in :ids and o.outboxStatus = :outboxStatus")
+    List<Long> findIdsByIdInAndOutboxStatus(@Param("ids") List<Long> ids,
+                                            @Param("outboxStatus") OutboxStatus outboxStatus);
+
+    @Modifying
+    @Query("update OutboxEntity o set o.outboxStatus = :outboxStatus, o.processedAt = :processedAt where o.id in :ids")
+    int updateOutboxStatusByIdIn(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                 @Param("processedAt") ZonedDateTime processedAt,
+                                 @Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from OutboxEntity o where o.outboxStatus = :outboxStatus")
+    int deleteByOutboxStatus(@Param("outboxStatus") OutboxStatus outboxStatus);
+}
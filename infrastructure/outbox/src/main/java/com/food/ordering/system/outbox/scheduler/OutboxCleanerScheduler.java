@@ -0,0 +1,27 @@
+package com.food.ordering.system.outbox.scheduler;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.repository.OutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxCleanerScheduler {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox-config.cleaner-fixed-delay-ms}",
+            initialDelayString = "${outbox-config.cleaner-fixed-delay-ms}")
+    public void processOutboxMessages() {
+        int deleted = outboxJpaRepository.deleteByOutboxStatus(OutboxStatus.COMPLETED);
+        if (deleted > 0) {
+            log.info("[{}] completed outbox messages deleted", deleted);
+        }
+    }
+}
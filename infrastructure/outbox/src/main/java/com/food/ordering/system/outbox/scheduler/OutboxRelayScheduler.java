@@ -0,0 +1,83 @@
+package com.food.ordering.system.outbox.scheduler;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import com.food.ordering.system.outbox.lock.OutboxRelayLock;
+import com.food.ordering.system.outbox.repository.OutboxJpaRepository;
+import com.food.ordering.system.outbox.service.OutboxMessageSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox-config", name = "relay-mode", havingValue = "polling", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxMessageSender outboxMessageSender;
+    private final OutboxConfigData outboxConfigData;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayLock outboxRelayLock;
+
+    @Scheduled(fixedDelayString = "${outbox-config.relay-fixed-delay-ms}",
+            initialDelayString = "${outbox-config.relay-fixed-delay-ms}")
+    public void processOutboxMessages() {
+        if (!outboxRelayLock.tryAcquire()) {
+            return;
+        }
+
+        List<OutboxEntity> outboxEntities = transactionTemplate.execute(status -> claimOutboxMessages());
+
+        if (outboxEntities == null || outboxEntities.isEmpty()) {
+            return;
+        }
+
+        log.info("Received [{}] outbox messages to send to Kafka", outboxEntities.size());
+
+        List<Long> completedIds = outboxMessageSender.send(outboxEntities);
+        Set<Long> completed = new HashSet<>(completedIds);
+        List<Long> failedIds = outboxEntities.stream()
+                .map(OutboxEntity::getId)
+                .filter(id -> !completed.contains(id))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.COMPLETED, ZonedDateTime.now(ZoneId.of(UTC)), completedIds);
+            }
+            if (!failedIds.isEmpty()) {
+                outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, null, failedIds);
+            }
+        });
+
+        log.info("[{}] of [{}] outbox messages sent to Kafka, the rest will be retried",
+                completedIds.size(), outboxEntities.size());
+    }
+
+    private List<OutboxEntity> claimOutboxMessages() {
+        ZonedDateTime claimedAt = ZonedDateTime.now(ZoneId.of(UTC));
+        List<OutboxEntity> outboxEntities = outboxJpaRepository.findUnclaimedByOutboxStatus(OutboxStatus.STARTED,
+                claimedAt.minus(outboxConfigData.getClaimTimeoutMs(), ChronoUnit.MILLIS),
+                PageRequest.of(0, outboxConfigData.getBatchSize()));
+        if (!outboxEntities.isEmpty()) {
+            outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, claimedAt,
+                    outboxEntities.stream().map(OutboxEntity::getId).toList());
+        }
+        return outboxEntities;
+    }
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.outbox.serializer;
+
+import com.food.ordering.system.outbox.exception.OutboxException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class OutboxHeadersSerializer {
+
+    private static final int NULL_VALUE_LENGTH = -1;
+
+    public byte[] serialize(Headers headers) {
+        if (headers == null) {
+            return null;
+        }
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            for (Header header : headers) {
+                byte[] key = header.key().getBytes(StandardCharsets.UTF_8);
+                dataOutputStream.writeShort(key.length);
+                dataOutputStream.write(key);
+                if (header.value() == null) {
+                    dataOutputStream.writeInt(NULL_VALUE_LENGTH);
+                } else {
+                    dataOutputStream.writeInt(header.value().length);
+                    dataOutputStream.write(header.value());
+                }
+            }
+            dataOutputStream.flush();
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new OutboxException("Could not serialize outbox headers", e);
+        }
+    }
+
+    public Headers deserialize(byte[] serializedHeaders) {
+        Headers headers = new RecordHeaders();
+        if (serializedHeaders == null) {
+            return headers;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(serializedHeaders);
+            while (buffer.hasRemaining()) {
+                byte[] key = new byte[buffer.getShort()];
+                buffer.get(key);
+                int valueLength = buffer.getInt();
+                byte[] value = null;
+                if (valueLength != NULL_VALUE_LENGTH) {
+                    value = new byte[valueLength];
+                    buffer.get(value);
+                }
+                headers.add(new String(key, StandardCharsets.UTF_8), value);
+            }
+            return headers;
+        } catch (BufferUnderflowException e) {
+            throw new OutboxException("Could not deserialize outbox headers", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.outbox.serializer;
+
+import com.food.ordering.system.outbox.exception.OutboxException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OutboxPayloadSerializer {
+
+    private final Map<String, SpecificDatumWriter<SpecificRecordBase>> writers = new ConcurrentHashMap<>();
+    private final Map<String, SpecificDatumReader<SpecificRecordBase>> readers = new ConcurrentHashMap<>();
+
+    public byte[] serialize(SpecificRecordBase message) {
+        SpecificDatumWriter<SpecificRecordBase> writer = writers.computeIfAbsent(message.getClass().getName(),
+                type -> new SpecificDatumWriter<>(message.getSchema(), SpecificData.getForClass(message.getClass())));
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+            writer.write(message, encoder);
+            encoder.flush();
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new OutboxException(String.format("Could not serialize outbox payload of type [%s]",
+                    message.getClass().getName()), e);
+        }
+    }
+
+    public SpecificRecordBase deserialize(String payloadType, byte[] payload) {
+        SpecificDatumReader<SpecificRecordBase> reader = readers.computeIfAbsent(payloadType, this::createReader);
+
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, null);
+            return reader.read(null, decoder);
+        } catch (IOException e) {
+            throw new OutboxException(String.format("Could not deserialize outbox payload of type [%s]", payloadType), e);
+        }
+    }
+
+    private SpecificDatumReader<SpecificRecordBase> createReader(String payloadType) {
+        try {
+            Class<?> payloadClass = Class.forName(payloadType);
+            SpecificData specificData = SpecificData.getForClass(payloadClass);
+            Schema schema = specificData.getSchema(payloadClass);
+            return new SpecificDatumReader<>(schema, schema, specificData);
+        } catch (ClassNotFoundException e) {
+            throw new OutboxException(String.format("Unknown outbox payload type [%s]", payloadType), e);
+        }
+    }
+}
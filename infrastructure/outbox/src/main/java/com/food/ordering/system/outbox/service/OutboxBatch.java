@@ -0,0 +1,50 @@
+package com.food.ordering.system.outbox.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OutboxBatch {
+
+    private static final ThreadLocal<OutboxBatch> CURRENT = new ThreadLocal<>();
+
+    private final Set<Long> outboxIds = ConcurrentHashMap.newKeySet();
+
+    public void run(Runnable work) {
+        OutboxBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public List<Long> getOutboxIds() {
+        return outboxIds.stream().sorted().toList();
+    }
+
+    public static void written(Long outboxId) {
+        OutboxBatch outboxBatch = CURRENT.get();
+        if (outboxBatch == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxBatch.outboxIds.add(outboxId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxBatch.outboxIds.add(outboxId);
+            }
+        });
+    }
+}
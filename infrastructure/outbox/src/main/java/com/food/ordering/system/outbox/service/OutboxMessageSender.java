@@ -0,0 +1,18 @@
+package com.food.ordering.system.outbox.service;
+
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxMessageSender {
+
+    List<Long> send(List<OutboxEntity> outboxEntities);
+
+    List<Long> send(List<OutboxEntity> outboxEntities,
+                    Map<TopicPartition, OffsetAndMetadata> offsets,
+                    ConsumerGroupMetadata groupMetadata);
+}
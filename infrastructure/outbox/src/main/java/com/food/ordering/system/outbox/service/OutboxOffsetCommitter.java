@@ -0,0 +1,12 @@
+package com.food.ordering.system.outbox.service;
+
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+
+public interface OutboxOffsetCommitter {
+
+    void commit(OutboxBatch outboxBatch, Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata);
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.outbox.service;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.header.Headers;
+
+public interface OutboxWriter {
+
+    void save(String topicName, String key, SpecificRecordBase message);
+
+    void save(String topicName, String key, SpecificRecordBase message, Headers headers);
+}
@@ -0,0 +1,132 @@
+package com.food.ordering.system.outbox.service.impl;
+
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import com.food.ordering.system.outbox.exception.OutboxException;
+import com.food.ordering.system.outbox.serializer.OutboxHeadersSerializer;
+import com.food.ordering.system.outbox.serializer.OutboxPayloadSerializer;
+import com.food.ordering.system.outbox.service.OutboxMessageSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxMessageSenderImpl implements OutboxMessageSender {
+
+    private final OutboxPayloadSerializer outboxPayloadSerializer;
+    private final OutboxHeadersSerializer outboxHeadersSerializer;
+    private final OutboxConfigData outboxConfigData;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+
+    @Override
+    public List<Long> send(List<OutboxEntity> outboxEntities) {
+        if (!kafkaProducer.isTransactional()) {
+            return sendAndAwait(outboxEntities);
+        }
+
+        try {
+            return kafkaProducer.executeInTransaction(() -> sendAllOrNothing(outboxEntities));
+        } catch (RuntimeException e) {
+            log.error("Transaction of [{}] outbox messages could not be committed to Kafka", outboxEntities.size(), e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Long> send(List<OutboxEntity> outboxEntities,
+                           Map<TopicPartition, OffsetAndMetadata> offsets,
+                           ConsumerGroupMetadata groupMetadata) {
+        if (!kafkaProducer.isTransactional()) {
+            throw new OutboxException("Consumer offsets can only be sent with a transactional Kafka producer");
+        }
+
+        return kafkaProducer.executeInTransaction(() -> {
+            List<Long> completedIds = sendAllOrNothing(outboxEntities);
+            kafkaProducer.sendOffsetsToTransaction(offsets, groupMetadata);
+            return completedIds;
+        });
+    }
+
+    private List<Long> sendAllOrNothing(List<OutboxEntity> outboxEntities) {
+        List<Long> completedIds = sendAndAwait(outboxEntities);
+        if (completedIds.size() != outboxEntities.size()) {
+            throw new OutboxException(String.format("[%d] of [%d] outbox messages could not be sent to Kafka, aborting transaction",
+                    outboxEntities.size() - completedIds.size(), outboxEntities.size()));
+        }
+        return completedIds;
+    }
+
+    private List<Long> sendAndAwait(List<OutboxEntity> outboxEntities) {
+        Map<List<String>, Deque<OutboxEntity>> pendingByKey = new LinkedHashMap<>();
+        outboxEntities.forEach(outboxEntity -> pendingByKey.computeIfAbsent(
+                List.of(outboxEntity.getTopic(), outboxEntity.getMessageKey()), key -> new ArrayDeque<>()).add(outboxEntity));
+
+        List<Long> completedIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(outboxConfigData.getSendTimeoutMs());
+        while (!pendingByKey.isEmpty()) {
+            List<OutboxEntity> nextByKey = pendingByKey.values().stream().map(Deque::poll).toList();
+            List<CompletableFuture<SendResult<String, SpecificRecordBase>>> sendResults = nextByKey.stream()
+                    .map(this::send)
+                    .toList();
+            for (int index = 0; index < nextByKey.size(); index++) {
+                OutboxEntity outboxEntity = nextByKey.get(index);
+                List<String> key = List.of(outboxEntity.getTopic(), outboxEntity.getMessageKey());
+                try {
+                    sendResults.get(index).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    completedIds.add(outboxEntity.getId());
+                    if (pendingByKey.get(key).isEmpty()) {
+                        pendingByKey.remove(key);
+                    }
+                } catch (Exception e) {
+                    log.error("Outbox message with id [{}] could not be sent to Kafka", outboxEntity.getId(), e);
+                    Deque<OutboxEntity> remaining = pendingByKey.remove(key);
+                    if (!remaining.isEmpty()) {
+                        log.warn("[{}] outbox messages following the failed message with key [{}] are not sent until it is sent",
+                                remaining.size(), outboxEntity.getMessageKey());
+                    }
+                }
+            }
+        }
+
+        return completedIds;
+    }
+
+    private CompletableFuture<SendResult<String, SpecificRecordBase>> send(OutboxEntity outboxEntity) {
+        CompletableFuture<SendResult<String, SpecificRecordBase>> sendResult = new CompletableFuture<>();
+
+        try {
+            SpecificRecordBase message = outboxPayloadSerializer.deserialize(outboxEntity.getPayloadType(), outboxEntity.getPayload());
+            ProducerRecord<String, SpecificRecordBase> producerRecord = new ProducerRecord<>(outboxEntity.getTopic(), null,
+                    outboxEntity.getMessageKey(), message, outboxHeadersSerializer.deserialize(outboxEntity.getHeaders()));
+            kafkaProducer.send(producerRecord, (result, ex) -> {
+                if (ex == null) {
+                    sendResult.complete(result);
+                } else {
+                    sendResult.completeExceptionally(ex);
+                }
+            });
+        } catch (Exception e) {
+            sendResult.completeExceptionally(e);
+        }
+
+        return sendResult;
+    }
+}
@@ -0,0 +1,76 @@
+package com.food.ordering.system.outbox.service.impl;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import com.food.ordering.system.outbox.repository.OutboxJpaRepository;
+import com.food.ordering.system.outbox.service.OutboxBatch;
+import com.food.ordering.system.outbox.service.OutboxMessageSender;
+import com.food.ordering.system.outbox.service.OutboxOffsetCommitter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxOffsetCommitterImpl implements OutboxOffsetCommitter {
+
+    private static final String REPLICATION_RELAY_MODE = "replication";
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxMessageSender outboxMessageSender;
+    private final OutboxConfigData outboxConfigData;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void commit(OutboxBatch outboxBatch, Map<TopicPartition, OffsetAndMetadata> offsets,
+                       ConsumerGroupMetadata groupMetadata) {
+        List<Long> outboxIds = outboxBatch.getOutboxIds();
+        List<OutboxEntity> outboxEntities = outboxIds.isEmpty() || REPLICATION_RELAY_MODE.equals(outboxConfigData.getRelayMode()) ?
+                List.of() : transactionTemplate.execute(status -> claimOutboxMessages(outboxIds));
+        List<Long> claimedIds = outboxEntities.stream().map(OutboxEntity::getId).toList();
+
+        List<Long> completedIds;
+        try {
+            completedIds = outboxMessageSender.send(outboxEntities, offsets, groupMetadata);
+        } catch (RuntimeException e) {
+            if (!claimedIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, null, claimedIds));
+            }
+            throw e;
+        }
+        if (!completedIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.COMPLETED, ZonedDateTime.now(ZoneId.of(UTC)),
+                            completedIds));
+        }
+
+        log.info("[{}] outbox messages and offsets [{}] of group [{}] committed to Kafka in one transaction",
+                completedIds.size(), offsets, groupMetadata.groupId());
+    }
+
+    private List<OutboxEntity> claimOutboxMessages(List<Long> outboxIds) {
+        ZonedDateTime claimedAt = ZonedDateTime.now(ZoneId.of(UTC));
+        List<OutboxEntity> outboxEntities = outboxJpaRepository.findUnclaimedByIdInAndOutboxStatus(outboxIds,
+                OutboxStatus.STARTED, claimedAt.minus(outboxConfigData.getClaimTimeoutMs(), ChronoUnit.MILLIS));
+        if (!outboxEntities.isEmpty()) {
+            outboxJpaRepository.updateOutboxStatusByIdIn(OutboxStatus.STARTED, claimedAt,
+                    outboxEntities.stream().map(OutboxEntity::getId).toList());
+        }
+        return outboxEntities;
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.outbox.service.impl;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.entity.OutboxEntity;
+import com.food.ordering.system.outbox.repository.OutboxJpaRepository;
+import com.food.ordering.system.outbox.serializer.OutboxHeadersSerializer;
+import com.food.ordering.system.outbox.serializer.OutboxPayloadSerializer;
+import com.food.ordering.system.outbox.service.OutboxBatch;
+import com.food.ordering.system.outbox.service.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxWriterImpl implements OutboxWriter {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxPayloadSerializer outboxPayloadSerializer;
+    private final OutboxHeadersSerializer outboxHeadersSerializer;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(String topicName, String key, SpecificRecordBase message) {
+        save(topicName, key, message, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(String topicName, String key, SpecificRecordBase message, Headers headers) {
+        OutboxEntity outboxEntity = outboxJpaRepository.save(OutboxEntity.builder()
+                .topic(topicName)
+                .messageKey(key)
+                .payloadType(message.getClass().getName())
+                .payload(outboxPayloadSerializer.serialize(message))
+                .headers(outboxHeadersSerializer.serialize(headers))
+                .createdAt(ZonedDateTime.now(ZoneId.of(UTC)))
+                .outboxStatus(OutboxStatus.STARTED)
+                .build());
+        OutboxBatch.written(outboxEntity.getId());
+
+        log.info("Outbox message with id [{}] saved for topic [{}] and key [{}]", outboxEntity.getId(), topicName, key);
+    }
+}
@@ -0,0 +1,156 @@
+package com.food.ordering.system.outbox.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.food.ordering.system.outbox.exception.OutboxException;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class PgOutputDecoderTest {
+
+    private static final int RELATION_ID = 16384;
+
+    private final PgOutputDecoder decoder = new PgOutputDecoder();
+
+    @Test
+    public void decode_ShouldReturnBegin_WhenMessageIsBegin() throws IOException {
+        // Given
+        ByteBuffer begin = message(out -> {
+            out.writeByte('B');
+            out.writeLong(100L);
+            out.writeLong(0L);
+            out.writeInt(1);
+        });
+
+        // When
+        PgOutputMessage message = decoder.decode(begin);
+
+        // Then
+        assertEquals(PgOutputMessage.Type.BEGIN, message.getType());
+    }
+
+    @Test
+    public void decode_ShouldReturnEndLsn_WhenMessageIsCommit() throws IOException {
+        // Given
+        ByteBuffer commit = message(out -> {
+            out.writeByte('C');
+            out.writeByte(0);
+            out.writeLong(100L);
+            out.writeLong(200L);
+            out.writeLong(0L);
+        });
+
+        // When
+        PgOutputMessage message = decoder.decode(commit);
+
+        // Then
+        assertEquals(PgOutputMessage.Type.COMMIT, message.getType());
+        assertEquals(LogSequenceNumber.valueOf(200L), message.getEndLsn());
+    }
+
+    @Test
+    public void decode_ShouldMapColumnsByName_WhenInsertFollowsRelation() throws IOException {
+        // Given
+        PgOutputMessage relation = decoder.decode(relation("payment", "outbox", "id", "message_key", "headers"));
+
+        // When
+        PgOutputMessage message = decoder.decode(message(out -> {
+            out.writeByte('I');
+            out.writeInt(RELATION_ID);
+            out.writeByte('N');
+            out.writeShort(3);
+            writeText(out, "42");
+            writeText(out, "order-1");
+            out.writeByte('n');
+        }));
+
+        // Then
+        assertEquals(PgOutputMessage.Type.OTHER, relation.getType());
+        assertEquals(PgOutputMessage.Type.INSERT, message.getType());
+        assertEquals("payment", message.getSchemaName());
+        assertEquals("outbox", message.getTableName());
+        assertEquals("42", message.getColumns().get("id"));
+        assertEquals("order-1", message.getColumns().get("message_key"));
+        assertFalse(message.getColumns().containsKey("headers"));
+        assertNull(message.getEndLsn());
+    }
+
+    @Test
+    public void decode_ShouldThrowOutboxException_WhenRelationIsUnknown() throws IOException {
+        // Given
+        ByteBuffer insert = message(out -> {
+            out.writeByte('I');
+            out.writeInt(RELATION_ID);
+            out.writeByte('N');
+            out.writeShort(0);
+        });
+
+        // When / Then
+        assertThrows(OutboxException.class, () -> decoder.decode(insert));
+    }
+
+    @Test
+    public void decode_ShouldReturnOther_WhenMessageTypeIsNotHandled() throws IOException {
+        // Given
+        ByteBuffer update = message(out -> out.writeByte('U'));
+
+        // When
+        PgOutputMessage message = decoder.decode(update);
+
+        // Then
+        assertEquals(PgOutputMessage.Type.OTHER, message.getType());
+        assertTrue(message.getColumns().isEmpty());
+    }
+
+    private ByteBuffer relation(String schemaName, String tableName, String... columnNames) throws IOException {
+        return message(out -> {
+            out.writeByte('R');
+            out.writeInt(RELATION_ID);
+            writeString(out, schemaName);
+            writeString(out, tableName);
+            out.writeByte('d');
+            out.writeShort(columnNames.length);
+            for (String columnName : columnNames) {
+                out.writeByte(0);
+                writeString(out, columnName);
+                out.writeInt(25);
+                out.writeInt(-1);
+            }
+        });
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+
+    private void writeText(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte('t');
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private ByteBuffer message(MessageWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @FunctionalInterface
+    private interface MessageWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
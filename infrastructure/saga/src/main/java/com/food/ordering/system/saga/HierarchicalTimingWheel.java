@@ -0,0 +1,150 @@
+package com.food.ordering.system.saga;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Deque<Entry<K>>[]> levels = new ArrayList<>();
+    private final Map<K, Long> scheduled = new HashMap<>();
+    private final List<K> expired = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTimeMs;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size must be at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTimeMs = startMs - startMs % tickMs;
+        addLevel();
+    }
+
+    public void add(K key, long deadlineMs) {
+        lock.lock();
+        try {
+            long expirationMs = roundUpToTick(deadlineMs);
+            Long scheduledExpirationMs = scheduled.put(key, expirationMs);
+            if (scheduledExpirationMs != null && scheduledExpirationMs == expirationMs) {
+                return;
+            }
+            place(new Entry<>(key, expirationMs));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean cancel(K key) {
+        lock.lock();
+        try {
+            return scheduled.remove(key) != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<K> advance(long nowMs) {
+        lock.lock();
+        try {
+            while (currentTimeMs + tickMs <= nowMs) {
+                currentTimeMs += tickMs;
+                for (int level = levels.size() - 1; level > 0; level--) {
+                    long levelTickMs = levelTickMs(level);
+                    if (currentTimeMs % levelTickMs == 0) {
+                        drain(levels.get(level)[bucketIndex(currentTimeMs, levelTickMs)]).forEach(this::place);
+                    }
+                }
+                drain(levels.get(0)[bucketIndex(currentTimeMs, tickMs)]).forEach(this::expire);
+            }
+            List<K> expiredKeys = new ArrayList<>(expired);
+            expired.clear();
+            return expiredKeys;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        if (!isCurrent(entry)) {
+            return;
+        }
+        long delayMs = entry.expirationMs - currentTimeMs;
+        if (delayMs <= 0) {
+            expire(entry);
+            return;
+        }
+        int level = 0;
+        while (delayMs >= levelTickMs(level) * wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                addLevel();
+            }
+        }
+        long levelTickMs = levelTickMs(level);
+        levels.get(level)[bucketIndex(entry.expirationMs, levelTickMs)].add(entry);
+    }
+
+    private void expire(Entry<K> entry) {
+        if (isCurrent(entry)) {
+            scheduled.remove(entry.key);
+            expired.add(entry.key);
+        }
+    }
+
+    private boolean isCurrent(Entry<K> entry) {
+        Long expirationMs = scheduled.get(entry.key);
+        return expirationMs != null && expirationMs == entry.expirationMs;
+    }
+
+    private List<Entry<K>> drain(Deque<Entry<K>> bucket) {
+        List<Entry<K>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        return entries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        Deque<Entry<K>>[] buckets = new Deque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        levels.add(buckets);
+    }
+
+    private long levelTickMs(int level) {
+        long levelTickMs = tickMs;
+        for (int i = 0; i < level; i++) {
+            levelTickMs = Math.multiplyExact(levelTickMs, wheelSize);
+        }
+        return levelTickMs;
+    }
+
+    private int bucketIndex(long timeMs, long levelTickMs) {
+        return (int) ((timeMs / levelTickMs) % wheelSize);
+    }
+
+    private long roundUpToTick(long timeMs) {
+        long remainder = timeMs % tickMs;
+        return remainder == 0 ? timeMs : timeMs - remainder + tickMs;
+    }
+
+    private record Entry<K>(K key, long expirationMs) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.saga;
+
+import com.food.ordering.system.domain.event.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SagaBatchResult<T, E extends DomainEvent> {
+
+    private final List<E> events;
+    private final List<T> failed;
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.saga;
+
+public enum SagaStatus {
+    STARTED, PROCESSING, SUCCEEDED, COMPENSATING, COMPENSATED
+}
@@ -1,10 +1,36 @@
 package com.food.ordering.system.saga;
 
 import com.food.ordering.system.domain.event.DomainEvent;
+import com.food.ordering.system.domain.exception.DomainException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 public interface SagaStep<T, S extends DomainEvent, U extends DomainEvent> {
 
     S process(T data);
 
     U rollback(T data);
-}
\ No newline at end of file
+
+    default SagaBatchResult<T, S> processBatch(List<T> data) {
+        return applyEach(data, this::process);
+    }
+
+    default SagaBatchResult<T, U> rollbackBatch(List<T> data) {
+        return applyEach(data, this::rollback);
+    }
+
+    private <E extends DomainEvent> SagaBatchResult<T, E> applyEach(List<T> data, Function<T, E> step) {
+        List<E> events = new ArrayList<>(data.size());
+        List<T> failed = new ArrayList<>();
+        for (T item : data) {
+            try {
+                events.add(step.apply(item));
+            } catch (DomainException e) {
+                failed.add(item);
+            }
+        }
+        return new SagaBatchResult<>(events, failed);
+    }
+}
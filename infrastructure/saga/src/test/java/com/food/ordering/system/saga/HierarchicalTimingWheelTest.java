@@ -0,0 +1,119 @@
+package com.food.ordering.system.saga;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+    private static final long START_MS = 1_000;
+
+    @Test
+    public void advance_ShouldExpireKey_WhenDeadlineIsReached() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("order", START_MS + 35);
+
+        // When
+        List<String> early = timingWheel.advance(START_MS + 39);
+        List<String> due = timingWheel.advance(START_MS + 40);
+
+        // Then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("order"), due);
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    public void advance_ShouldExpireEachKeyOnItsTick_WhenKeysCascadeFromHigherLevels() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        Map<String, Long> deadlines = Map.of(
+                "level-0", START_MS + 50,
+                "level-1", START_MS + 370,
+                "level-2", START_MS + 2_930,
+                "level-3", START_MS + 9_990);
+        deadlines.forEach(timingWheel::add);
+        Map<String, Long> expiredAt = new HashMap<>();
+
+        // When
+        for (long nowMs = START_MS; nowMs <= START_MS + 10_000; nowMs += TICK_MS) {
+            for (String key : timingWheel.advance(nowMs)) {
+                expiredAt.put(key, nowMs);
+            }
+        }
+
+        // Then
+        assertEquals(deadlines, expiredAt);
+    }
+
+    @Test
+    public void advance_ShouldExpireKey_WhenDeadlineOverflowsAllLevels() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        long deadlineMs = START_MS + TICK_MS * WHEEL_SIZE * WHEEL_SIZE * WHEEL_SIZE * WHEEL_SIZE * 3;
+        timingWheel.add("order", deadlineMs);
+
+        // When
+        List<String> early = timingWheel.advance(deadlineMs - 1);
+        List<String> due = timingWheel.advance(deadlineMs);
+
+        // Then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("order"), due);
+    }
+
+    @Test
+    public void advance_ShouldExpireKey_WhenDeadlineHasAlreadyPassed() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("order", START_MS - 500);
+
+        // When
+        List<String> due = timingWheel.advance(START_MS);
+
+        // Then
+        assertEquals(List.of("order"), due);
+    }
+
+    @Test
+    public void add_ShouldReplaceDeadline_WhenKeyIsScheduledAgain() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("order", START_MS + 100);
+        timingWheel.add("order", START_MS + 300);
+
+        // When
+        List<String> oldDeadline = timingWheel.advance(START_MS + 100);
+        List<String> newDeadline = timingWheel.advance(START_MS + 300);
+
+        // Then
+        assertTrue(oldDeadline.isEmpty());
+        assertEquals(List.of("order"), newDeadline);
+    }
+
+    @Test
+    public void cancel_ShouldNotExpireKey_WhenDeadlineIsCancelled() {
+        // Given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("cancelled", START_MS + 700);
+        timingWheel.add("kept", START_MS + 700);
+
+        // When
+        boolean cancelled = timingWheel.cancel("cancelled");
+        List<String> due = timingWheel.advance(START_MS + 700);
+
+        // Then
+        assertTrue(cancelled);
+        assertFalse(timingWheel.cancel("cancelled"));
+        assertEquals(List.of("kept"), due);
+        assertEquals(0, timingWheel.size());
+    }
+}
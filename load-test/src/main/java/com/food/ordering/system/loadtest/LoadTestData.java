@@ -0,0 +1,25 @@
+package com.food.ordering.system.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public final class LoadTestData {
+
+    public static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    public static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    public static final String PRODUCT_NAME = "product_2";
+    public static final BigDecimal PRODUCT_PRICE = new BigDecimal("50.00");
+
+    private static final UUID SEED_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    private LoadTestData() {
+    }
+
+    public static UUID customerId(int index) {
+        if (index == 0) {
+            return SEED_CUSTOMER_ID;
+        }
+        return UUID.nameUUIDFromBytes(("load-test-customer-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = {
+        "com.food.ordering.system.loadtest.config",
+        "com.food.ordering.system.loadtest.runner"
+})
+public class SagaLoadTestApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.exit(SpringApplication.run(SagaLoadTestApplication.class, args));
+    }
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.loadtest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "load-test-config")
+public class LoadTestConfigData {
+
+    private String repositoryMode;
+    private List<Integer> orderRates;
+    private Long warmupDurationMs;
+    private Long stepDurationMs;
+    private Long completionTimeoutMs;
+    private Integer orderCreatorThreads;
+    private Integer brokerCount;
+    private Integer numOfPartitions;
+    private List<String> topicNames;
+    private Integer customerCount;
+    private BigDecimal customerCredit;
+}
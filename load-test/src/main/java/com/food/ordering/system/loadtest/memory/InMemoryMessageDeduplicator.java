@@ -0,0 +1,68 @@
+package com.food.ordering.system.loadtest.memory;
+
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+public class InMemoryMessageDeduplicator implements MessageDeduplicator {
+
+    private final Set<String> processedMessageIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public <T> List<T> filterProcessed(List<T> messages, Function<T, String> messageIdExtractor) {
+        return messages.stream()
+                .filter(message -> !processedMessageIds.contains(messageIdExtractor.apply(message)))
+                .toList();
+    }
+
+    @Override
+    public <T> void processOnce(T message,
+                                Function<T, String> messageIdExtractor,
+                                Function<T, Instant> createdAtExtractor,
+                                Consumer<T> handler) {
+        String messageId = messageIdExtractor.apply(message);
+        if (!processedMessageIds.add(messageId)) {
+            return;
+        }
+        try {
+            handler.accept(message);
+        } catch (RuntimeException e) {
+            processedMessageIds.remove(messageId);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> List<T> processOnceInBatch(List<T> messages,
+                                          Function<T, String> messageIdExtractor,
+                                          Function<T, Instant> createdAtExtractor,
+                                          Function<List<T>, List<T>> batchHandler) {
+        List<T> unprocessed = new ArrayList<>(messages.size());
+        messages.forEach(message -> {
+            if (processedMessageIds.add(messageIdExtractor.apply(message))) {
+                unprocessed.add(message);
+            }
+        });
+        if (unprocessed.isEmpty()) {
+            return List.of();
+        }
+
+        List<T> failed;
+        try {
+            failed = batchHandler.apply(unprocessed);
+        } catch (RuntimeException e) {
+            unprocessed.forEach(message -> processedMessageIds.remove(messageIdExtractor.apply(message)));
+            throw e;
+        }
+        failed.forEach(message -> processedMessageIds.remove(messageIdExtractor.apply(message)));
+        return failed;
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.loadtest.memory;
+
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.outbox.service.OutboxBatch;
+import com.food.ordering.system.outbox.service.OutboxOffsetCommitter;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class InMemoryOutboxOffsetCommitter implements OutboxOffsetCommitter {
+
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+
+    @Override
+    public void commit(OutboxBatch outboxBatch, Map<TopicPartition, OffsetAndMetadata> offsets,
+                       ConsumerGroupMetadata groupMetadata) {
+        kafkaProducer.executeInTransaction(() -> {
+            kafkaProducer.sendOffsetsToTransaction(offsets, groupMetadata);
+            return null;
+        });
+    }
+}
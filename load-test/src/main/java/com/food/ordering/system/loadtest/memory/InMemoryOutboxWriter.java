@@ -0,0 +1,53 @@
+package com.food.ordering.system.loadtest.memory;
+
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.outbox.service.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryOutboxWriter implements OutboxWriter {
+
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+
+    @Override
+    public void save(String topicName, String key, SpecificRecordBase message) {
+        save(topicName, key, message, null);
+    }
+
+    @Override
+    public void save(String topicName, String key, SpecificRecordBase message, Headers headers) {
+        ProducerRecord<String, SpecificRecordBase> producerRecord =
+                new ProducerRecord<>(topicName, null, key, message, headers);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(producerRecord);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(producerRecord);
+            }
+        });
+    }
+
+    private void send(ProducerRecord<String, SpecificRecordBase> producerRecord) {
+        kafkaProducer.executeInTransaction(() -> {
+            kafkaProducer.send(producerRecord, (result, ex) -> {
+                if (ex != null) {
+                    log.error("Message with key [{}] could not be sent to topic [{}]",
+                            producerRecord.key(), producerRecord.topic(), ex);
+                }
+            });
+            return null;
+        });
+    }
+}
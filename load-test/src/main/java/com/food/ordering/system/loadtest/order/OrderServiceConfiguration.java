@@ -0,0 +1,84 @@
+package com.food.ordering.system.loadtest.order;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.loadtest.recorder.SagaLatencyRecorder;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableAutoConfiguration
+@ComponentScan(basePackages = {
+        "com.food.ordering.system.order.service.domain",
+        "com.food.ordering.system.order.service.messaging",
+        "com.food.ordering.system.kafka",
+        "com.food.ordering.system.execution"
+})
+public class OrderServiceConfiguration {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+        return new OrderDomainServiceImpl(idGenerator);
+    }
+
+    @Bean
+    public static BeanPostProcessor sagaCompletionRecordingPostProcessor(SagaLatencyRecorder sagaLatencyRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof OrderTrackingViewRepository orderTrackingViewRepository) {
+                    return new SagaCompletionRecordingRepository(orderTrackingViewRepository, sagaLatencyRecorder);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Configuration
+    @Profile("in-memory")
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.loadtest.order.memory",
+            "com.food.ordering.system.loadtest.memory"
+    })
+    static class InMemoryRepositoryConfiguration {
+    }
+
+    @Configuration
+    @Profile("postgres")
+    @EntityScan(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.order.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @EnableJpaRepositories(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.order.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.order.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    static class PostgresRepositoryConfiguration {
+    }
+}
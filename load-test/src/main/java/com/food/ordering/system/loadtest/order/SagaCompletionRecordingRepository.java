@@ -0,0 +1,62 @@
+package com.food.ordering.system.loadtest.order;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.loadtest.recorder.SagaLatencyRecorder;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class SagaCompletionRecordingRepository implements OrderTrackingViewRepository {
+
+    private final OrderTrackingViewRepository orderTrackingViewRepository;
+    private final SagaLatencyRecorder sagaLatencyRecorder;
+
+    @Override
+    public void save(OrderTrackingView orderTrackingView) {
+        orderTrackingViewRepository.save(orderTrackingView);
+        recordAfterCommit(List.of(orderTrackingView));
+    }
+
+    @Override
+    public void saveAll(List<OrderTrackingView> orderTrackingViews) {
+        orderTrackingViewRepository.saveAll(orderTrackingViews);
+        recordAfterCommit(orderTrackingViews);
+    }
+
+    @Override
+    public Optional<OrderTrackingView> findByTrackingId(UUID trackingId) {
+        return orderTrackingViewRepository.findByTrackingId(trackingId);
+    }
+
+    private void recordAfterCommit(List<OrderTrackingView> orderTrackingViews) {
+        List<OrderTrackingView> completed = orderTrackingViews.stream()
+                .filter(orderTrackingView -> orderTrackingView.getOrderStatus() == OrderStatus.APPROVED
+                        || orderTrackingView.getOrderStatus() == OrderStatus.CANCELLED)
+                .toList();
+        if (completed.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(completed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(completed);
+            }
+        });
+    }
+
+    private void record(List<OrderTrackingView> completed) {
+        completed.forEach(orderTrackingView -> sagaLatencyRecorder.recordCompletion(
+                orderTrackingView.getTrackingId(), orderTrackingView.getOrderStatus()));
+    }
+}
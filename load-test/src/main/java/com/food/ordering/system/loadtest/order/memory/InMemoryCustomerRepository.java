@@ -0,0 +1,37 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private final Map<UUID, Customer> customers = new ConcurrentHashMap<>();
+
+    public InMemoryCustomerRepository(LoadTestConfigData loadTestConfigData) {
+        for (int i = 0; i < loadTestConfigData.getCustomerCount(); i++) {
+            UUID customerId = LoadTestData.customerId(i);
+            customers.put(customerId, new Customer(new CustomerId(customerId), "user_" + i, "First", "User"));
+        }
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+        return Optional.ofNullable(customers.get(customerId));
+    }
+
+    @Override
+    public void saveAll(List<Customer> customers) {
+        customers.forEach(customer -> this.customers.put(customer.getId().getValue(), customer));
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> orderIdsByTrackingId = new ConcurrentHashMap<>();
+
+    @Override
+    public Order save(Order order) {
+        orders.put(order.getId().getValue(), order);
+        orderIdsByTrackingId.put(order.getTrackingId().getValue(), order.getId().getValue());
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        return Optional.ofNullable(orderIdsByTrackingId.get(trackingId.getValue())).map(orders::get);
+    }
+
+    @Override
+    public Optional<Order> findByOrderId(OrderId orderId) {
+        return Optional.ofNullable(orders.get(orderId.getValue()));
+    }
+
+    @Override
+    public List<Order> findByOrderIds(List<OrderId> orderIds) {
+        return orderIds.stream()
+                .map(orderId -> orders.get(orderId.getValue()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaStateRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryOrderSagaStateRepository implements OrderSagaStateRepository {
+
+    private final Map<UUID, OrderSagaState> sagaStates = new ConcurrentHashMap<>();
+
+    @Override
+    public OrderSagaState save(OrderSagaState orderSagaState) {
+        sagaStates.put(orderSagaState.getSagaId(), orderSagaState);
+        return orderSagaState;
+    }
+
+    @Override
+    public List<OrderSagaState> saveAll(List<OrderSagaState> orderSagaStates) {
+        orderSagaStates.forEach(this::save);
+        return orderSagaStates;
+    }
+
+    @Override
+    public Optional<OrderSagaState> findBySagaId(UUID sagaId) {
+        return Optional.ofNullable(sagaStates.get(sagaId));
+    }
+
+    @Override
+    public List<OrderSagaState> findBySagaIds(List<UUID> sagaIds) {
+        return sagaIds.stream()
+                .map(sagaStates::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
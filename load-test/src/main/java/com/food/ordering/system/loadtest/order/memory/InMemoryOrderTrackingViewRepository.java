@@ -0,0 +1,32 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryOrderTrackingViewRepository implements OrderTrackingViewRepository {
+
+    private final Map<UUID, OrderTrackingView> orderTrackingViews = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(OrderTrackingView orderTrackingView) {
+        orderTrackingViews.put(orderTrackingView.getTrackingId(), orderTrackingView);
+    }
+
+    @Override
+    public void saveAll(List<OrderTrackingView> orderTrackingViews) {
+        orderTrackingViews.forEach(this::save);
+    }
+
+    @Override
+    public Optional<OrderTrackingView> findByTrackingId(UUID trackingId) {
+        return Optional.ofNullable(orderTrackingViews.get(trackingId));
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class InMemoryRestaurantRepository implements RestaurantRepository {
+
+    private final Map<UUID, Product> products = Map.of(LoadTestData.PRODUCT_ID, new Product(
+            new ProductId(LoadTestData.PRODUCT_ID), LoadTestData.PRODUCT_NAME, new Money(LoadTestData.PRODUCT_PRICE)));
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        if (!LoadTestData.RESTAURANT_ID.equals(restaurant.getId().getValue())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Restaurant.builder()
+                .id(restaurant.getId())
+                .products(restaurant.getProducts().stream()
+                        .map(product -> products.get(product.getId().getValue()))
+                        .filter(Objects::nonNull)
+                        .map(product -> new Product(product.getId(), product.getName(), product.getPrice()))
+                        .toList())
+                .active(true)
+                .build());
+    }
+}
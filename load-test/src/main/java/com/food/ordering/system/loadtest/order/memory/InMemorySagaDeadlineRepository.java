@@ -0,0 +1,69 @@
+package com.food.ordering.system.loadtest.order.memory;
+
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemorySagaDeadlineRepository implements SagaDeadlineRepository {
+
+    private static final Comparator<SagaDeadline> DEADLINE_ORDER = Comparator
+            .comparing((SagaDeadline sagaDeadline) -> sagaDeadline.getDeadlineAt().toInstant())
+            .thenComparing(SagaDeadline::getSagaId);
+
+    private final Map<UUID, SagaDeadline> sagaDeadlines = new ConcurrentHashMap<>();
+
+    @Override
+    public SagaDeadline save(SagaDeadline sagaDeadline) {
+        sagaDeadlines.put(sagaDeadline.getSagaId(), sagaDeadline);
+        return sagaDeadline;
+    }
+
+    @Override
+    public List<SagaDeadline> saveAll(List<SagaDeadline> sagaDeadlines) {
+        sagaDeadlines.forEach(this::save);
+        return sagaDeadlines;
+    }
+
+    @Override
+    public Optional<SagaDeadline> findAndLockBySagaId(UUID sagaId) {
+        return Optional.ofNullable(sagaDeadlines.get(sagaId));
+    }
+
+    @Override
+    public List<SagaDeadline> findBySagaIds(List<UUID> sagaIds) {
+        return sagaIds.stream()
+                .map(sagaDeadlines::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<SagaDeadline> findByDeadlineAtBefore(ZonedDateTime until, ZonedDateTime afterDeadlineAt, UUID afterSagaId,
+                                                     int limit) {
+        SagaDeadline after = SagaDeadline.builder()
+                .sagaId(afterSagaId)
+                .deadlineAt(afterDeadlineAt)
+                .build();
+        return sagaDeadlines.values().stream()
+                .filter(sagaDeadline -> sagaDeadline.getDeadlineAt().isBefore(until))
+                .filter(sagaDeadline -> DEADLINE_ORDER.compare(sagaDeadline, after) > 0)
+                .sorted(DEADLINE_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void deleteBySagaIds(List<UUID> sagaIds) {
+        sagaIds.forEach(sagaDeadlines::remove);
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.loadtest.payment;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableAutoConfiguration
+@ComponentScan(basePackages = {
+        "com.food.ordering.system.payment.service.domain",
+        "com.food.ordering.system.payment.service.messaging",
+        "com.food.ordering.system.kafka",
+        "com.food.ordering.system.execution"
+})
+public class PaymentServiceConfiguration {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public PaymentDomainService paymentDomainService(IdGenerator idGenerator) {
+        return new PaymentDomainServiceImpl(idGenerator);
+    }
+
+    @Configuration
+    @Profile("in-memory")
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.loadtest.payment.memory",
+            "com.food.ordering.system.loadtest.memory"
+    })
+    static class InMemoryRepositoryConfiguration {
+    }
+
+    @Configuration
+    @Profile("postgres")
+    @EntityScan(basePackages = {
+            "com.food.ordering.system.payment.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @EnableJpaRepositories(basePackages = {
+            "com.food.ordering.system.payment.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.payment.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    static class PostgresRepositoryConfiguration {
+    }
+}
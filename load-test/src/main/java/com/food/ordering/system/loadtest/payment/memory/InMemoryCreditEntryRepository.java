@@ -0,0 +1,71 @@
+package com.food.ordering.system.loadtest.payment.memory;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class InMemoryCreditEntryRepository implements CreditEntryRepository {
+
+    private final Map<UUID, CreditEntry> creditEntries = new ConcurrentHashMap<>();
+    private final Map<UUID, ReentrantLock> customerLocks = new ConcurrentHashMap<>();
+
+    public InMemoryCreditEntryRepository(LoadTestConfigData loadTestConfigData) {
+        Money credit = new Money(loadTestConfigData.getCustomerCredit());
+        for (int i = 0; i < loadTestConfigData.getCustomerCount(); i++) {
+            UUID customerId = LoadTestData.customerId(i);
+            creditEntries.put(customerId, CreditEntry.builder()
+                    .id(new CreditEntryId(UUID.randomUUID()))
+                    .customerId(new CustomerId(customerId))
+                    .totalCreditAmount(credit)
+                    .build());
+        }
+    }
+
+    @Override
+    public CreditEntry save(CreditEntry creditEntry) {
+        creditEntries.put(creditEntry.getCustomerId().getValue(), copy(creditEntry));
+        return creditEntry;
+    }
+
+    @Override
+    public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
+        lockUntilCompletion(customerId.getValue());
+        return Optional.ofNullable(creditEntries.get(customerId.getValue())).map(this::copy);
+    }
+
+    private void lockUntilCompletion(UUID customerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        ReentrantLock lock = customerLocks.computeIfAbsent(customerId, id -> new ReentrantLock());
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private CreditEntry copy(CreditEntry creditEntry) {
+        return CreditEntry.builder()
+                .id(creditEntry.getId())
+                .customerId(creditEntry.getCustomerId())
+                .totalCreditAmount(creditEntry.getTotalCreditAmount())
+                .build();
+    }
+}
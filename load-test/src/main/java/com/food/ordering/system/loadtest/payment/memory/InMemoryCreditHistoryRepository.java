@@ -0,0 +1,42 @@
+package com.food.ordering.system.loadtest.payment.memory;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Component
+public class InMemoryCreditHistoryRepository implements CreditHistoryRepository {
+
+    private final Map<UUID, Queue<CreditHistory>> creditHistories = new ConcurrentHashMap<>();
+
+    @Override
+    public CreditHistory save(CreditHistory creditHistory) {
+        creditHistories.computeIfAbsent(creditHistory.getCustomerId().getValue(), id -> new ConcurrentLinkedQueue<>())
+                .add(creditHistory);
+        return creditHistory;
+    }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
+        return Optional.ofNullable(creditHistories.get(customerId.getValue())).map(List::copyOf);
+    }
+
+    @Override
+    public Money sumAmountByCustomerIdAndTransactionType(CustomerId customerId, TransactionType transactionType) {
+        return creditHistories.getOrDefault(customerId.getValue(), new ConcurrentLinkedQueue<>()).stream()
+                .filter(creditHistory -> creditHistory.getTransactionType() == transactionType)
+                .map(CreditHistory::getAmount)
+                .reduce(Money.ZERO, Money::add);
+    }
+}
@@ -0,0 +1,80 @@
+package com.food.ordering.system.loadtest.payment.memory;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryCreditLedgerRepository implements CreditLedgerRepository {
+
+    private final Map<UUID, CreditLedger> creditLedgers = new ConcurrentHashMap<>();
+
+    public InMemoryCreditLedgerRepository(LoadTestConfigData loadTestConfigData) {
+        Money credit = new Money(loadTestConfigData.getCustomerCredit());
+        for (int i = 0; i < loadTestConfigData.getCustomerCount(); i++) {
+            UUID customerId = LoadTestData.customerId(i);
+            creditLedgers.put(customerId, CreditLedger.builder()
+                    .customerId(new CustomerId(customerId))
+                    .totalCreditAmount(credit)
+                    .totalDebitAmount(Money.ZERO)
+                    .version(0)
+                    .build());
+        }
+    }
+
+    @Override
+    public CreditLedger save(CreditLedger creditLedger) {
+        CreditLedger saved = CreditLedger.builder()
+                .customerId(creditLedger.getCustomerId())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount())
+                .version(creditLedger.getVersion() == null ? 0 : creditLedger.getVersion() + 1)
+                .build();
+        creditLedgers.put(saved.getCustomerId().getValue(), saved);
+        return copy(saved);
+    }
+
+    @Override
+    public void insertIfAbsent(CreditLedger creditLedger) {
+        creditLedgers.putIfAbsent(creditLedger.getCustomerId().getValue(), CreditLedger.builder()
+                .customerId(creditLedger.getCustomerId())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount())
+                .version(0)
+                .build());
+    }
+
+    @Override
+    public Optional<CreditLedger> findByCustomerId(CustomerId customerId) {
+        return Optional.ofNullable(creditLedgers.get(customerId.getValue())).map(this::copy);
+    }
+
+    @Override
+    public List<CustomerId> findCustomerIdsAfter(CustomerId afterCustomerId, int limit) {
+        return creditLedgers.keySet().stream()
+                .filter(customerId -> customerId.compareTo(afterCustomerId.getValue()) > 0)
+                .sorted()
+                .limit(limit)
+                .map(CustomerId::new)
+                .toList();
+    }
+
+    private CreditLedger copy(CreditLedger creditLedger) {
+        return CreditLedger.builder()
+                .customerId(creditLedger.getCustomerId())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount())
+                .version(creditLedger.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.loadtest.payment.memory;
+
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryPaymentRepository implements PaymentRepository {
+
+    private final Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+
+    @Override
+    public Payment save(Payment payment) {
+        payments.put(payment.getOrderId().getValue(), payment);
+        return payment;
+    }
+
+    @Override
+    public Optional<Payment> findByOrderId(UUID orderId) {
+        return Optional.ofNullable(payments.get(orderId));
+    }
+}
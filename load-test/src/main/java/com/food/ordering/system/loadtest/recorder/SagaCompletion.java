@@ -0,0 +1,14 @@
+package com.food.ordering.system.loadtest.recorder;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SagaCompletion {
+
+    private final long startedAtNanos;
+    private final long latencyNanos;
+    private final OrderStatus orderStatus;
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.loadtest.recorder;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class SagaLatencyRecorder {
+
+    private final Map<UUID, PendingSaga> pendingSagas = new ConcurrentHashMap<>();
+    private final Queue<SagaCompletion> completions = new ConcurrentLinkedQueue<>();
+
+    public void recordStart(UUID trackingId, long startedAtNanos) {
+        pendingSagas.compute(trackingId, (id, pendingSaga) -> {
+            if (pendingSaga == null) {
+                return new PendingSaga(startedAtNanos, 0L, null);
+            }
+            complete(startedAtNanos, pendingSaga.completedAtNanos, pendingSaga.orderStatus);
+            return null;
+        });
+    }
+
+    public void recordCompletion(UUID trackingId, OrderStatus orderStatus) {
+        long completedAtNanos = System.nanoTime();
+        pendingSagas.compute(trackingId, (id, pendingSaga) -> {
+            if (pendingSaga == null) {
+                return new PendingSaga(0L, completedAtNanos, orderStatus);
+            }
+            if (pendingSaga.orderStatus != null) {
+                return pendingSaga;
+            }
+            complete(pendingSaga.startedAtNanos, completedAtNanos, orderStatus);
+            return null;
+        });
+    }
+
+    public List<SagaCompletion> drain() {
+        List<SagaCompletion> drained = new ArrayList<>();
+        SagaCompletion completion;
+        while ((completion = completions.poll()) != null) {
+            drained.add(completion);
+        }
+        return drained;
+    }
+
+    public void clearPending() {
+        pendingSagas.clear();
+    }
+
+    private void complete(long startedAtNanos, long completedAtNanos, OrderStatus orderStatus) {
+        completions.add(new SagaCompletion(startedAtNanos, completedAtNanos - startedAtNanos, orderStatus));
+    }
+
+    @AllArgsConstructor
+    private static class PendingSaga {
+
+        private final long startedAtNanos;
+        private final long completedAtNanos;
+        private final OrderStatus orderStatus;
+    }
+}
@@ -0,0 +1,68 @@
+package com.food.ordering.system.loadtest.restaurant;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainService;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainServiceImpl;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableAutoConfiguration
+@ComponentScan(basePackages = {
+        "com.food.ordering.system.restaurant.service.domain",
+        "com.food.ordering.system.restaurant.service.messaging",
+        "com.food.ordering.system.kafka",
+        "com.food.ordering.system.execution"
+})
+public class RestaurantServiceConfiguration {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public RestaurantDomainService restaurantDomainService(IdGenerator idGenerator) {
+        return new RestaurantDomainServiceImpl(idGenerator);
+    }
+
+    @Configuration
+    @Profile("in-memory")
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.loadtest.restaurant.memory",
+            "com.food.ordering.system.loadtest.memory"
+    })
+    static class InMemoryRepositoryConfiguration {
+    }
+
+    @Configuration
+    @Profile("postgres")
+    @EntityScan(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.restaurant.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @EnableJpaRepositories(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.restaurant.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    @ComponentScan(basePackages = {
+            "com.food.ordering.system.dataaccess",
+            "com.food.ordering.system.restaurant.service.dataaccess",
+            "com.food.ordering.system.outbox",
+            "com.food.ordering.system.dedup"
+    })
+    static class PostgresRepositoryConfiguration {
+    }
+}
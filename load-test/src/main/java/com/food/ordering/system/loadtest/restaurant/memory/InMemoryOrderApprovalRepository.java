@@ -0,0 +1,21 @@
+package com.food.ordering.system.loadtest.restaurant.memory;
+
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryOrderApprovalRepository implements OrderApprovalRepository {
+
+    private final Map<UUID, OrderApproval> orderApprovals = new ConcurrentHashMap<>();
+
+    @Override
+    public OrderApproval save(OrderApproval orderApproval) {
+        orderApprovals.put(orderApproval.getId().getValue(), orderApproval);
+        return orderApproval;
+    }
+}
@@ -0,0 +1,40 @@
+package com.food.ordering.system.loadtest.restaurant.memory;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class InMemoryRestaurantRepository implements RestaurantRepository {
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        if (!LoadTestData.RESTAURANT_ID.equals(restaurant.getId().getValue())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Restaurant.builder()
+                .id(new RestaurantId(LoadTestData.RESTAURANT_ID))
+                .orderDetail(OrderDetail.builder()
+                        .products(restaurant.getOrderDetail().getProducts().stream()
+                                .filter(product -> LoadTestData.PRODUCT_ID.equals(product.getId().getValue()))
+                                .map(product -> Product.builder()
+                                        .id(new ProductId(LoadTestData.PRODUCT_ID))
+                                        .name(LoadTestData.PRODUCT_NAME)
+                                        .price(new Money(LoadTestData.PRODUCT_PRICE))
+                                        .available(true)
+                                        .build())
+                                .toList())
+                        .build())
+                .active(true)
+                .build());
+    }
+}
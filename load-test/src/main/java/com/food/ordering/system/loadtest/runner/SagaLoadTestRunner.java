@@ -0,0 +1,195 @@
+package com.food.ordering.system.loadtest.runner;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.loadtest.LoadTestData;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.loadtest.order.OrderServiceConfiguration;
+import com.food.ordering.system.loadtest.payment.PaymentServiceConfiguration;
+import com.food.ordering.system.loadtest.recorder.SagaCompletion;
+import com.food.ordering.system.loadtest.recorder.SagaLatencyRecorder;
+import com.food.ordering.system.loadtest.restaurant.RestaurantServiceConfiguration;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaLoadTestRunner implements CommandLineRunner {
+
+    private static final long COMPLETION_POLL_MS = 100;
+
+    private final LoadTestConfigData loadTestConfigData;
+
+    @Override
+    public void run(String... args) throws Exception {
+        EmbeddedKafkaBroker embeddedKafkaBroker = new EmbeddedKafkaBroker(loadTestConfigData.getBrokerCount(), true,
+                loadTestConfigData.getNumOfPartitions(), loadTestConfigData.getTopicNames().toArray(String[]::new))
+                .brokerProperties(Map.of(
+                        "transaction.state.log.replication.factor", String.valueOf(loadTestConfigData.getBrokerCount()),
+                        "transaction.state.log.min.isr", "1"));
+        embeddedKafkaBroker.afterPropertiesSet();
+        log.info("Embedded Kafka started with brokers [{}]", embeddedKafkaBroker.getBrokersAsString());
+
+        SagaLatencyRecorder sagaLatencyRecorder = new SagaLatencyRecorder();
+        List<ConfigurableApplicationContext> serviceContexts = new ArrayList<>();
+        ExecutorService orderCreators = Executors.newFixedThreadPool(loadTestConfigData.getOrderCreatorThreads());
+        try {
+            serviceContexts.add(startService(PaymentServiceConfiguration.class, "payment-load-test", sagaLatencyRecorder));
+            serviceContexts.add(startService(RestaurantServiceConfiguration.class, "restaurant-load-test", sagaLatencyRecorder));
+            ConfigurableApplicationContext orderContext =
+                    startService(OrderServiceConfiguration.class, "order-load-test", sagaLatencyRecorder);
+            serviceContexts.add(orderContext);
+
+            OrderApplicationService orderApplicationService = orderContext.getBean(OrderApplicationService.class);
+            for (Integer orderRate : loadTestConfigData.getOrderRates()) {
+                runStep(orderRate, orderApplicationService, orderCreators, sagaLatencyRecorder);
+            }
+        } finally {
+            orderCreators.shutdownNow();
+            Collections.reverse(serviceContexts);
+            serviceContexts.forEach(ConfigurableApplicationContext::close);
+            embeddedKafkaBroker.destroy();
+        }
+    }
+
+    private ConfigurableApplicationContext startService(Class<?> serviceConfiguration, String configName,
+                                                        SagaLatencyRecorder sagaLatencyRecorder) {
+        return new SpringApplicationBuilder(serviceConfiguration)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .profiles(loadTestConfigData.getRepositoryMode())
+                .properties("spring.config.name=" + configName)
+                .initializers(context -> {
+                    context.getBeanFactory().registerSingleton("loadTestConfigData", loadTestConfigData);
+                    context.getBeanFactory().registerSingleton("sagaLatencyRecorder", sagaLatencyRecorder);
+                })
+                .run();
+    }
+
+    private void runStep(int orderRate,
+                         OrderApplicationService orderApplicationService,
+                         ExecutorService orderCreators,
+                         SagaLatencyRecorder sagaLatencyRecorder) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / orderRate;
+        long stepStart = System.nanoTime();
+        long measureStart = stepStart + TimeUnit.MILLISECONDS.toNanos(loadTestConfigData.getWarmupDurationMs());
+        long measureEnd = measureStart + TimeUnit.MILLISECONDS.toNanos(loadTestConfigData.getStepDurationMs());
+        AtomicInteger pending = new AtomicInteger();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        int sequence = 0;
+        for (long startedAt = stepStart; startedAt < measureEnd; startedAt += intervalNanos) {
+            LockSupport.parkNanos(startedAt - System.nanoTime());
+            long intendedStart = startedAt;
+            boolean measured = intendedStart >= measureStart;
+            CreateOrderCommand createOrderCommand = createOrderCommand(sequence++);
+            pending.incrementAndGet();
+            orderCreators.execute(() -> {
+                try {
+                    CreateOrderResponse response = orderApplicationService.createOrder(createOrderCommand);
+                    sagaLatencyRecorder.recordStart(response.getOrderTrackingId(), intendedStart);
+                    if (measured) {
+                        created.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Order could not be created for customer [{}]", createOrderCommand.getCustomerId(), e);
+                    if (measured) {
+                        rejected.incrementAndGet();
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        }
+
+        List<SagaCompletion> completions = new ArrayList<>();
+        List<SagaCompletion> measuredCompletions = new ArrayList<>();
+        long completionDeadline = measureEnd + TimeUnit.MILLISECONDS.toNanos(loadTestConfigData.getCompletionTimeoutMs());
+        do {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(COMPLETION_POLL_MS));
+            for (SagaCompletion completion : sagaLatencyRecorder.drain()) {
+                completions.add(completion);
+                if (completion.getStartedAtNanos() >= measureStart && completion.getStartedAtNanos() < measureEnd) {
+                    measuredCompletions.add(completion);
+                }
+            }
+        } while ((pending.get() > 0 || measuredCompletions.size() < created.get())
+                && System.nanoTime() < completionDeadline);
+        sagaLatencyRecorder.clearPending();
+
+        report(orderRate, created.get(), rejected.get(), completions, measuredCompletions, measureStart, measureEnd);
+    }
+
+    private void report(int orderRate, int created, int rejected, List<SagaCompletion> completions,
+                        List<SagaCompletion> measuredCompletions, long measureStart, long measureEnd) {
+        long completedInWindow = completions.stream()
+                .map(completion -> completion.getStartedAtNanos() + completion.getLatencyNanos())
+                .filter(completedAt -> completedAt >= measureStart && completedAt < measureEnd)
+                .count();
+        double throughput = completedInWindow / ((measureEnd - measureStart) / (double) TimeUnit.SECONDS.toNanos(1));
+        long approved = measuredCompletions.stream()
+                .filter(completion -> completion.getOrderStatus() == OrderStatus.APPROVED)
+                .count();
+        long[] latencies = measuredCompletions.stream()
+                .mapToLong(SagaCompletion::getLatencyNanos)
+                .sorted()
+                .toArray();
+
+        log.info("Offered [{}] orders/s: created [{}], rejected [{}], approved [{}], cancelled [{}], timed out [{}], " +
+                        "throughput [{}] sagas/s, p50 [{}] ms, p99 [{}] ms, p999 [{}] ms",
+                orderRate, created, rejected, approved, measuredCompletions.size() - approved,
+                Math.max(0, created - measuredCompletions.size()), String.format("%.1f", throughput),
+                percentileMs(latencies, 0.50), percentileMs(latencies, 0.99), percentileMs(latencies, 0.999));
+    }
+
+    private String percentileMs(long[] latencies, double percentile) {
+        if (latencies.length == 0) {
+            return "-";
+        }
+        int index = Math.max(0, (int) Math.ceil(percentile * latencies.length) - 1);
+        return String.format("%.2f", latencies[index] / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private CreateOrderCommand createOrderCommand(int sequence) {
+        return CreateOrderCommand.builder()
+                .customerId(LoadTestData.customerId(sequence % loadTestConfigData.getCustomerCount()))
+                .restaurantId(LoadTestData.RESTAURANT_ID)
+                .price(LoadTestData.PRODUCT_PRICE)
+                .items(List.of(OrderItem.builder()
+                        .productId(LoadTestData.PRODUCT_ID)
+                        .quantity(1)
+                        .price(LoadTestData.PRODUCT_PRICE)
+                        .subTotal(LoadTestData.PRODUCT_PRICE)
+                        .build()))
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.application.config;
+
+import com.food.ordering.system.execution.ConcurrencyLimiter;
+import com.food.ordering.system.execution.ExecutionMode;
+import com.food.ordering.system.execution.ExecutorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "execution-config.mode", havingValue = "virtual")
+public class ExecutionWebConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> executionModeProtocolHandlerCustomizer(ExecutorFactory executorFactory,
+                                                                                    ServerProperties serverProperties) {
+        return protocolHandler -> {
+            if (executorFactory.getExecutionMode() == ExecutionMode.VIRTUAL) {
+                log.info("Order requests are handled on virtual threads");
+                protocolHandler.setExecutor(executorFactory.newExecutor("http-handler",
+                        serverProperties.getTomcat().getThreads().getMax()));
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiter concurrencyLimiter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter));
+        registration.addUrlPatterns("/orders");
+        return registration;
+    }
+}
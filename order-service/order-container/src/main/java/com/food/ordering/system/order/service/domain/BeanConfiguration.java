@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -7,7 +9,12 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public OrderDomainService orderDomainService() {
-        return new OrderDomainServiceImpl();
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+        return new OrderDomainServiceImpl(idGenerator);
     }
 }
@@ -4,15 +4,21 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EntityScan(basePackages = {
         "com.food.ordering.system.dataaccess",
-        "com.food.ordering.system.order.service.dataaccess"
+        "com.food.ordering.system.order.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
 })
 @EnableJpaRepositories(basePackages = {
         "com.food.ordering.system.dataaccess",
-        "com.food.ordering.system.order.service.dataaccess"
+        "com.food.ordering.system.order.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
 })
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
 public class OrderServiceApplication {
 
@@ -59,4 +59,156 @@ ALTER TABLE "order".order_address
         REFERENCES "order".orders (id) MATCH SIMPLE
         ON UPDATE NO ACTION
         ON DELETE CASCADE
-    NOT VALID;
\ No newline at end of file
+    NOT VALID;
+
+DROP TABLE IF EXISTS "order".order_saga_state CASCADE;
+
+CREATE TABLE "order".order_saga_state
+(
+    saga_id      uuid                                           NOT NULL,
+    order_status order_status                                   NOT NULL,
+    saga_status  character varying COLLATE pg_catalog."default" NOT NULL,
+    updated_at   TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    version      integer                                        NOT NULL,
+    CONSTRAINT order_saga_state_pkey PRIMARY KEY (saga_id)
+);
+
+DROP TABLE IF EXISTS "order".order_tracking_view CASCADE;
+
+CREATE TABLE "order".order_tracking_view
+(
+    tracking_id      uuid                     NOT NULL,
+    order_id         uuid                     NOT NULL,
+    order_status     order_status             NOT NULL,
+    failure_messages character varying COLLATE pg_catalog."default",
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_tracking_view_pkey PRIMARY KEY (tracking_id)
+);
+
+DROP function IF EXISTS "order".order_tracking_view_changed;
+
+CREATE OR replace function "order".order_tracking_view_changed()
+    returns trigger
+AS
+'
+    BEGIN
+        PERFORM pg_notify(''order_tracking_changed'', NEW.tracking_id::text);
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS order_tracking_view_changed ON "order".order_tracking_view;
+
+CREATE trigger order_tracking_view_changed
+    after INSERT OR UPDATE
+    ON "order".order_tracking_view
+    FOR each row
+EXECUTE PROCEDURE "order".order_tracking_view_changed();
+
+DROP TABLE IF EXISTS "order".saga_deadline CASCADE;
+
+CREATE TABLE "order".saga_deadline
+(
+    saga_id      uuid                     NOT NULL,
+    order_status order_status             NOT NULL,
+    deadline_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts     integer                  NOT NULL,
+    version      integer                  NOT NULL,
+    CONSTRAINT saga_deadline_pkey PRIMARY KEY (saga_id)
+);
+
+CREATE INDEX saga_deadline_deadline_at_saga_id_idx
+    ON "order".saga_deadline (deadline_at, saga_id);
+
+DROP TABLE IF EXISTS "order".customers CASCADE;
+
+CREATE TABLE "order".customers
+(
+    id         uuid                                           NOT NULL,
+    username   character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name  character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
+);
+
+DROP TABLE IF EXISTS "order".outbox CASCADE;
+
+DROP SEQUENCE IF EXISTS "order".outbox_id_seq;
+
+CREATE SEQUENCE "order".outbox_id_seq INCREMENT BY 1;
+
+CREATE TABLE "order".outbox
+(
+    id            bigint                                         NOT NULL,
+    topic         character varying COLLATE pg_catalog."default" NOT NULL,
+    message_key   character varying COLLATE pg_catalog."default" NOT NULL,
+    payload_type  character varying COLLATE pg_catalog."default" NOT NULL,
+    payload       bytea                                          NOT NULL,
+    headers       bytea,
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    outbox_status character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX outbox_started_id_idx
+    ON "order".outbox (id)
+    WHERE outbox_status = 'STARTED';
+
+DROP PUBLICATION IF EXISTS order_outbox_publication;
+
+CREATE PUBLICATION order_outbox_publication FOR TABLE "order".outbox WITH (publish = 'insert');
+
+DROP TABLE IF EXISTS "order".processed_messages CASCADE;
+
+CREATE TABLE "order".processed_messages
+(
+    message_id   uuid                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (message_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE "order".processed_messages_default PARTITION OF "order".processed_messages DEFAULT;
+
+DROP function IF EXISTS "order".maintain_processed_messages_partitions;
+
+CREATE OR replace function "order".maintain_processed_messages_partitions(retention_days integer, precreate_days integer)
+    returns integer
+AS
+'
+    DECLARE
+        today         date    := (now() AT TIME ZONE ''UTC'')::date;
+        first_day     date    := today - retention_days;
+        partition_day date;
+        expired       record;
+        dropped       integer := 0;
+    BEGIN
+        FOR partition_day IN SELECT generate_series(first_day, today + precreate_days, interval ''1 day'')::date
+            LOOP
+                BEGIN
+                    EXECUTE format(''CREATE TABLE IF NOT EXISTS "order".%I PARTITION OF "order".processed_messages '' ||
+                                   ''FOR VALUES FROM (%L) TO (%L)'',
+                                   ''processed_messages_p'' || to_char(partition_day, ''YYYYMMDD''),
+                                   partition_day::timestamp AT TIME ZONE ''UTC'',
+                                   (partition_day + 1)::timestamp AT TIME ZONE ''UTC'');
+                EXCEPTION
+                    WHEN others THEN
+                        RAISE WARNING ''Processed messages partition of % could not be created: %'', partition_day, SQLERRM;
+                END;
+            END LOOP;
+        FOR expired IN SELECT c.relname
+                       FROM pg_inherits i
+                                JOIN pg_class c ON c.oid = i.inhrelid
+                       WHERE i.inhparent = ''"order".processed_messages''::regclass
+                         AND c.relname ~ ''^processed_messages_p[0-9]{8}$''
+                         AND c.relname < ''processed_messages_p'' || to_char(first_day, ''YYYYMMDD'')
+            LOOP
+                EXECUTE format(''DROP TABLE "order".%I'', expired.relname);
+                dropped := dropped + 1;
+            END LOOP;
+        DELETE FROM "order".processed_messages_default
+        WHERE created_at < first_day::timestamp AT TIME ZONE ''UTC'';
+        RETURN dropped;
+    END;
+' LANGUAGE plpgsql;
@@ -1,13 +1,17 @@
 package com.food.ordering.system.order.service.dataaccess.customer.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.customer.cache.CustomerReplicaCache;
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
@@ -15,10 +19,34 @@ public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
     private final CustomerDataAccessMapper customerDataAccessMapper;
+    private final CustomerReplicaCache customerReplicaCache;
 
     @Override
     public Optional<Customer> findCustomer(UUID customerId) {
-        return customerJpaRepository.findById(customerId)
-                .map(customerDataAccessMapper::customerEntityToCustomer);
+        return customerReplicaCache.get(customerId, id -> customerJpaRepository.findById(id)
+                .map(customerDataAccessMapper::customerEntityToCustomer));
+    }
+
+    @Override
+    public void saveAll(List<Customer> customers) {
+        customers.forEach(customer -> customerJpaRepository.upsert(
+                customer.getId().getValue(),
+                customer.getUsername(),
+                customer.getFirstName(),
+                customer.getLastName()));
+        cacheAfterCommit(customers);
+    }
+
+    private void cacheAfterCommit(List<Customer> customers) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            customers.forEach(customerReplicaCache::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                customers.forEach(customerReplicaCache::put);
+            }
+        });
     }
 }
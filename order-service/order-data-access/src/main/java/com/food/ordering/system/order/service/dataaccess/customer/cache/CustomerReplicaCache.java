@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import com.food.ordering.system.order.service.domain.config.CustomerReplicaConfigData;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class CustomerReplicaCache {
+
+    private static final String CACHE_NAME = "customer.replica";
+
+    private final Cache<UUID, Customer> cache;
+    private final Cache<UUID, Boolean> missingCustomers;
+
+    public CustomerReplicaCache(CustomerReplicaConfigData customerReplicaConfigData,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(customerReplicaConfigData.getCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(customerReplicaConfigData.getCacheExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        this.missingCustomers = Caffeine.newBuilder()
+                .maximumSize(customerReplicaConfigData.getCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(customerReplicaConfigData.getNegativeCacheExpireAfterWriteMs()))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), cache, CACHE_NAME);
+    }
+
+    public Optional<Customer> get(UUID customerId, Function<UUID, Optional<Customer>> loader) {
+        if (missingCustomers.getIfPresent(customerId) != null) {
+            return Optional.empty();
+        }
+        Customer customer = cache.get(customerId, key -> loader.apply(key).orElse(null));
+        if (customer != null) {
+            return Optional.of(customer);
+        }
+
+        missingCustomers.put(customerId, Boolean.TRUE);
+        Customer replicated = cache.getIfPresent(customerId);
+        if (replicated != null) {
+            missingCustomers.invalidate(customerId);
+        }
+        return Optional.ofNullable(replicated);
+    }
+
+    public void put(Customer customer) {
+        UUID customerId = customer.getId().getValue();
+        cache.put(customerId, customer);
+        missingCustomers.invalidate(customerId);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerReplicaCacheScheduler {
+
+    private final CustomerReplicaCache customerReplicaCache;
+    private CacheStats lastStats = CacheStats.empty();
+
+    @Scheduled(fixedDelayString = "${customer-replica-config.stats-log-fixed-delay-ms}")
+    public void logStats() {
+        CacheStats stats = customerReplicaCache.stats();
+        CacheStats intervalStats = stats.minus(lastStats);
+        lastStats = stats;
+
+        if (intervalStats.requestCount() > 0) {
+            log.info("Customer replica cache has [{}] hits, [{}] misses, hit rate [{}], " +
+                            "[{}] evictions and [{}] customers cached",
+                    intervalStats.hitCount(),
+                    intervalStats.missCount(),
+                    String.format("%.3f", intervalStats.hitRate()),
+                    intervalStats.evictionCount(),
+                    customerReplicaCache.size());
+        }
+    }
+}
@@ -16,12 +16,15 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "order_customer_m_view", schema = "customer")
+@Table(name = "customers")
 @Entity
 public class CustomerEntity {
 
     @Id
     private UUID id;
+    private String username;
+    private String firstName;
+    private String lastName;
 
     @Override
     public boolean equals(Object o) {
@@ -9,6 +9,9 @@ import org.springframework.stereotype.Component;
 public class CustomerDataAccessMapper {
 
     public Customer customerEntityToCustomer(CustomerEntity customerEntity) {
-        return new Customer(new CustomerId(customerEntity.getId()));
+        return new Customer(new CustomerId(customerEntity.getId()),
+                customerEntity.getUsername(),
+                customerEntity.getFirstName(),
+                customerEntity.getLastName());
     }
 }
@@ -3,7 +3,20 @@ package com.food.ordering.system.order.service.dataaccess.customer.repository;
 import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
 
+    @Modifying
+    @Query(value = "INSERT INTO customers (id, username, first_name, last_name) " +
+            "VALUES (:id, :username, :firstName, :lastName) " +
+            "ON CONFLICT (id) DO UPDATE SET username = EXCLUDED.username, " +
+            "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name",
+            nativeQuery = true)
+    void upsert(@Param("id") UUID id,
+                @Param("username") String username,
+                @Param("firstName") String firstName,
+                @Param("lastName") String lastName);
 }
@@ -10,6 +10,7 @@ import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -26,6 +27,17 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderDataAccessMapper.orderEntityToOrder(orderJpaRepository.save(orderEntity));
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<OrderEntity> orderEntities = orders.stream()
+                .map(orderDataAccessMapper::orderToOrderEntity)
+                .toList();
+
+        return orderJpaRepository.saveAll(orderEntities).stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .toList();
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
@@ -37,4 +49,12 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findById(orderId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public List<Order> findByOrderIds(List<OrderId> orderIds) {
+        return orderJpaRepository.findByIdInFetchAddressAndItems(orderIds.stream().map(OrderId::getValue).toList())
+                .stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .toList();
+    }
 }
@@ -1,7 +1,11 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantCatalogVersionEntity;
 import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantCatalogVersionJpaRepository;
 import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantCatalog;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantCatalogCache;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
@@ -9,22 +13,48 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class RestaurantRepositoryImpl implements RestaurantRepository {
 
     private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantCatalogVersionJpaRepository restaurantCatalogVersionJpaRepository;
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+    private final RestaurantCatalogCache restaurantCatalogCache;
 
     @Override
     public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
         List<UUID> restaurantProducts = restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant);
-        Optional<List<RestaurantEntity>> restaurantEntities = restaurantJpaRepository
-                .findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(), restaurantProducts);
 
-        return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntitiesToRestaurant);
+        return restaurantCatalogCache.get(restaurant.getId().getValue(), this::loadRestaurantCatalog)
+                .map(restaurantCatalog -> restaurantProducts.stream()
+                        .map(restaurantCatalog.getProducts()::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .map(restaurantDataAccessMapper::restaurantEntitiesToRestaurant);
+    }
+
+    private Optional<RestaurantCatalog> loadRestaurantCatalog(UUID restaurantId) {
+        long version = restaurantCatalogVersionJpaRepository.findById(restaurantId)
+                .map(RestaurantCatalogVersionEntity::getVersion)
+                .orElse(0L);
+        List<RestaurantEntity> restaurantEntities = restaurantJpaRepository.findByRestaurantId(restaurantId);
+
+        if (restaurantEntities.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(RestaurantCatalog.builder()
+                .restaurantId(restaurantId)
+                .version(version)
+                .products(restaurantEntities.stream()
+                        .collect(Collectors.toUnmodifiableMap(RestaurantEntity::getProductId, Function.identity())))
+                .build());
     }
 }
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RestaurantCatalog {
+
+    private final UUID restaurantId;
+    private final long version;
+    private final Map<UUID, RestaurantEntity> products;
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.order.service.domain.config.RestaurantCatalogCacheConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class RestaurantCatalogCache {
+
+    private static final String CACHE_NAME = "restaurant.catalog";
+
+    private final Cache<UUID, RestaurantCatalog> cache;
+
+    public RestaurantCatalogCache(RestaurantCatalogCacheConfigData restaurantCatalogCacheConfigData,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(restaurantCatalogCacheConfigData.getMaximumProducts())
+                .weigher((UUID restaurantId, RestaurantCatalog restaurantCatalog) ->
+                        Math.max(1, restaurantCatalog.getProducts().size()))
+                .expireAfterWrite(Duration.ofMillis(restaurantCatalogCacheConfigData.getExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), cache, CACHE_NAME);
+    }
+
+    public Optional<RestaurantCatalog> get(UUID restaurantId, Function<UUID, Optional<RestaurantCatalog>> loader) {
+        return Optional.ofNullable(cache.get(restaurantId, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Map<UUID, Long> versions() {
+        return cache.asMap().values().stream()
+                .collect(Collectors.toMap(RestaurantCatalog::getRestaurantId, RestaurantCatalog::getVersion));
+    }
+
+    public boolean invalidateIfStale(UUID restaurantId, long currentVersion) {
+        RestaurantCatalog restaurantCatalog = cache.getIfPresent(restaurantId);
+        if (restaurantCatalog == null || restaurantCatalog.getVersion() == currentVersion) {
+            return false;
+        }
+        return cache.asMap().remove(restaurantId, restaurantCatalog);
+    }
+
+    public void invalidate(UUID restaurantId) {
+        cache.invalidate(restaurantId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantCatalogVersionEntity;
+import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantCatalogVersionJpaRepository;
+import com.food.ordering.system.order.service.domain.config.RestaurantCatalogCacheConfigData;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCatalogCacheScheduler {
+
+    private final RestaurantCatalogCache restaurantCatalogCache;
+    private final RestaurantCatalogVersionJpaRepository restaurantCatalogVersionJpaRepository;
+    private final RestaurantCatalogCacheConfigData restaurantCatalogCacheConfigData;
+    private CacheStats lastStats = CacheStats.empty();
+
+    @Scheduled(fixedDelayString = "${restaurant-catalog-cache-config.version-check-fixed-delay-ms}")
+    public void checkVersions() {
+        List<UUID> restaurantIds = new ArrayList<>(restaurantCatalogCache.versions().keySet());
+        int batchSize = restaurantCatalogCacheConfigData.getVersionCheckBatchSize();
+        int invalidated = 0;
+
+        for (int from = 0; from < restaurantIds.size(); from += batchSize) {
+            List<UUID> batch = restaurantIds.subList(from, Math.min(from + batchSize, restaurantIds.size()));
+            Map<UUID, Long> currentVersions = restaurantCatalogVersionJpaRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(RestaurantCatalogVersionEntity::getRestaurantId,
+                            RestaurantCatalogVersionEntity::getVersion));
+            for (UUID restaurantId : batch) {
+                if (restaurantCatalogCache.invalidateIfStale(restaurantId, currentVersions.getOrDefault(restaurantId, 0L))) {
+                    invalidated++;
+                }
+            }
+        }
+
+        if (invalidated > 0) {
+            log.info("[{}] stale restaurant catalogs are invalidated by version check", invalidated);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant-catalog-cache-config.stats-log-fixed-delay-ms}")
+    public void logStats() {
+        CacheStats stats = restaurantCatalogCache.stats();
+        CacheStats intervalStats = stats.minus(lastStats);
+        lastStats = stats;
+
+        if (intervalStats.requestCount() > 0) {
+            log.info("Restaurant catalog cache has [{}] hits, [{}] misses, hit rate [{}], [{}] loads with " +
+                            "average load time [{}] ms, [{}] evictions and [{}] restaurants cached",
+                    intervalStats.hitCount(),
+                    intervalStats.missCount(),
+                    String.format("%.3f", intervalStats.hitRate()),
+                    intervalStats.loadCount(),
+                    String.format("%.3f", intervalStats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1)),
+                    intervalStats.evictionCount(),
+                    restaurantCatalogCache.size());
+        }
+    }
+}
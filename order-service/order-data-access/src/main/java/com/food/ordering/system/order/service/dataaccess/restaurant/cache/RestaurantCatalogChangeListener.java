@@ -0,0 +1,96 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.order.service.domain.config.RestaurantCatalogCacheConfigData;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "restaurant-catalog-cache-config", name = "notification-enabled", havingValue = "true")
+public class RestaurantCatalogChangeListener {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final RestaurantCatalogCache restaurantCatalogCache;
+    private final RestaurantCatalogCacheConfigData restaurantCatalogCacheConfigData;
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "restaurant-catalog-change-listener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executorService.submit(this::run);
+        log.info("Restaurant catalog change listener started on channel [{}]",
+                restaurantCatalogCacheConfigData.getNotificationChannel());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        executorService.shutdown();
+        executorService.awaitTermination(restaurantCatalogCacheConfigData.getNotificationRetryDelayMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.getUrl(),
+                    dataSourceProperties.getUsername(), dataSourceProperties.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + restaurantCatalogCacheConfigData.getNotificationChannel());
+                }
+                restaurantCatalogCache.invalidateAll();
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                log.error("Restaurant catalog change listener failed, restarting in [{}] ms",
+                        restaurantCatalogCacheConfigData.getNotificationRetryDelayMs(), e);
+                sleep(restaurantCatalogCacheConfigData.getNotificationRetryDelayMs());
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications =
+                    connection.getNotifications(restaurantCatalogCacheConfigData.getNotificationPollTimeoutMs());
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                log.debug("Restaurant catalog of restaurant [{}] is changed", notification.getParameter());
+                restaurantCatalogCache.invalidate(UUID.fromString(notification.getParameter()));
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.OrderSagaStateDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.OrderSagaStateJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaStateRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSagaStateRepositoryImpl implements OrderSagaStateRepository {
+
+    private final OrderSagaStateJpaRepository orderSagaStateJpaRepository;
+    private final OrderSagaStateDataAccessMapper orderSagaStateDataAccessMapper;
+
+    @Override
+    public OrderSagaState save(OrderSagaState orderSagaState) {
+        return orderSagaStateDataAccessMapper.orderSagaStateEntityToOrderSagaState(orderSagaStateJpaRepository
+                .save(orderSagaStateDataAccessMapper.orderSagaStateToOrderSagaStateEntity(orderSagaState)));
+    }
+
+    @Override
+    public List<OrderSagaState> saveAll(List<OrderSagaState> orderSagaStates) {
+        return orderSagaStateJpaRepository.saveAll(orderSagaStates.stream()
+                        .map(orderSagaStateDataAccessMapper::orderSagaStateToOrderSagaStateEntity)
+                        .toList())
+                .stream()
+                .map(orderSagaStateDataAccessMapper::orderSagaStateEntityToOrderSagaState)
+                .toList();
+    }
+
+    @Override
+    public Optional<OrderSagaState> findBySagaId(UUID sagaId) {
+        return orderSagaStateJpaRepository.findById(sagaId)
+                .map(orderSagaStateDataAccessMapper::orderSagaStateEntityToOrderSagaState);
+    }
+
+    @Override
+    public List<OrderSagaState> findBySagaIds(List<UUID> sagaIds) {
+        return orderSagaStateJpaRepository.findAllById(sagaIds).stream()
+                .map(orderSagaStateDataAccessMapper::orderSagaStateEntityToOrderSagaState)
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.SagaDeadlineDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaDeadlineJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SagaDeadlineRepositoryImpl implements SagaDeadlineRepository {
+
+    private final SagaDeadlineJpaRepository sagaDeadlineJpaRepository;
+    private final SagaDeadlineDataAccessMapper sagaDeadlineDataAccessMapper;
+
+    @Override
+    public SagaDeadline save(SagaDeadline sagaDeadline) {
+        return sagaDeadlineDataAccessMapper.sagaDeadlineEntityToSagaDeadline(sagaDeadlineJpaRepository
+                .save(sagaDeadlineDataAccessMapper.sagaDeadlineToSagaDeadlineEntity(sagaDeadline)));
+    }
+
+    @Override
+    public List<SagaDeadline> saveAll(List<SagaDeadline> sagaDeadlines) {
+        return sagaDeadlineJpaRepository.saveAll(sagaDeadlines.stream()
+                        .map(sagaDeadlineDataAccessMapper::sagaDeadlineToSagaDeadlineEntity)
+                        .toList())
+                .stream()
+                .map(sagaDeadlineDataAccessMapper::sagaDeadlineEntityToSagaDeadline)
+                .toList();
+    }
+
+    @Override
+    public Optional<SagaDeadline> findAndLockBySagaId(UUID sagaId) {
+        return sagaDeadlineJpaRepository.findAndLockBySagaId(sagaId)
+                .map(sagaDeadlineDataAccessMapper::sagaDeadlineEntityToSagaDeadline);
+    }
+
+    @Override
+    public List<SagaDeadline> findBySagaIds(List<UUID> sagaIds) {
+        return sagaDeadlineJpaRepository.findAllById(sagaIds).stream()
+                .map(sagaDeadlineDataAccessMapper::sagaDeadlineEntityToSagaDeadline)
+                .toList();
+    }
+
+    @Override
+    public List<SagaDeadline> findByDeadlineAtBefore(ZonedDateTime until, ZonedDateTime afterDeadlineAt,
+                                                     UUID afterSagaId, int limit) {
+        return sagaDeadlineJpaRepository.findByDeadlineAtBefore(until, afterDeadlineAt, afterSagaId, limit).stream()
+                .map(sagaDeadlineDataAccessMapper::sagaDeadlineEntityToSagaDeadline)
+                .toList();
+    }
+
+    @Override
+    public void deleteBySagaIds(List<UUID> sagaIds) {
+        sagaDeadlineJpaRepository.deleteAllByIdInBatch(sagaIds);
+    }
+}
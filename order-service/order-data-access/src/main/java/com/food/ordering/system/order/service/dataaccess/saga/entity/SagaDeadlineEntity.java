@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.dataaccess.saga.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "saga_deadline")
+@Entity
+public class SagaDeadlineEntity {
+
+    @Id
+    private UUID sagaId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private ZonedDateTime deadlineAt;
+    private Integer attempts;
+    @Version
+    private Integer version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SagaDeadlineEntity that = (SagaDeadlineEntity) o;
+        return Objects.equals(sagaId, that.sagaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId);
+    }
+}
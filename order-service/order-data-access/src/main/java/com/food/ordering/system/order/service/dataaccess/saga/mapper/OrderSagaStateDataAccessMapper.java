@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.dataaccess.saga.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.OrderSagaStateEntity;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSagaStateDataAccessMapper {
+
+    public OrderSagaStateEntity orderSagaStateToOrderSagaStateEntity(OrderSagaState orderSagaState) {
+        return OrderSagaStateEntity.builder()
+                .sagaId(orderSagaState.getSagaId())
+                .orderStatus(orderSagaState.getOrderStatus())
+                .sagaStatus(orderSagaState.getSagaStatus())
+                .updatedAt(orderSagaState.getUpdatedAt())
+                .version(orderSagaState.getVersion())
+                .build();
+    }
+
+    public OrderSagaState orderSagaStateEntityToOrderSagaState(OrderSagaStateEntity orderSagaStateEntity) {
+        return OrderSagaState.builder()
+                .sagaId(orderSagaStateEntity.getSagaId())
+                .orderStatus(orderSagaStateEntity.getOrderStatus())
+                .sagaStatus(orderSagaStateEntity.getSagaStatus())
+                .updatedAt(orderSagaStateEntity.getUpdatedAt())
+                .version(orderSagaStateEntity.getVersion())
+                .build();
+    }
+}
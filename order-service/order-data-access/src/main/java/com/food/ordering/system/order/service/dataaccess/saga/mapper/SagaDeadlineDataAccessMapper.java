@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.dataaccess.saga.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaDeadlineEntity;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SagaDeadlineDataAccessMapper {
+
+    public SagaDeadlineEntity sagaDeadlineToSagaDeadlineEntity(SagaDeadline sagaDeadline) {
+        return SagaDeadlineEntity.builder()
+                .sagaId(sagaDeadline.getSagaId())
+                .orderStatus(sagaDeadline.getOrderStatus())
+                .deadlineAt(sagaDeadline.getDeadlineAt())
+                .attempts(sagaDeadline.getAttempts())
+                .version(sagaDeadline.getVersion())
+                .build();
+    }
+
+    public SagaDeadline sagaDeadlineEntityToSagaDeadline(SagaDeadlineEntity sagaDeadlineEntity) {
+        return SagaDeadline.builder()
+                .sagaId(sagaDeadlineEntity.getSagaId())
+                .orderStatus(sagaDeadlineEntity.getOrderStatus())
+                .deadlineAt(sagaDeadlineEntity.getDeadlineAt())
+                .attempts(sagaDeadlineEntity.getAttempts())
+                .version(sagaDeadlineEntity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.OrderSagaStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface OrderSagaStateJpaRepository extends JpaRepository<OrderSagaStateEntity, UUID> {
+
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaDeadlineEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SagaDeadlineJpaRepository extends JpaRepository<SagaDeadlineEntity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM SagaDeadlineEntity d WHERE d.sagaId = :sagaId")
+    Optional<SagaDeadlineEntity> findAndLockBySagaId(@Param("sagaId") UUID sagaId);
+
+    @Query(value = "SELECT * FROM saga_deadline WHERE deadline_at < :until " +
+            "AND (deadline_at, saga_id) > (:afterDeadlineAt, :afterSagaId) " +
+            "ORDER BY deadline_at, saga_id LIMIT :limit", nativeQuery = true)
+    List<SagaDeadlineEntity> findByDeadlineAtBefore(@Param("until") ZonedDateTime until,
+                                                    @Param("afterDeadlineAt") ZonedDateTime afterDeadlineAt,
+                                                    @Param("afterSagaId") UUID afterSagaId,
+                                                    @Param("limit") int limit);
+}
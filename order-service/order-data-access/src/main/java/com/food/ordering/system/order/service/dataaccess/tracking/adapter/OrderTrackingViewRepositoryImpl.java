@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.mapper.OrderTrackingViewDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.tracking.repository.OrderTrackingViewJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OrderTrackingViewRepositoryImpl implements OrderTrackingViewRepository {
+
+    private static final String UPSERT_QUERY =
+            "INSERT INTO order_tracking_view (tracking_id, order_id, order_status, failure_messages, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (tracking_id) DO UPDATE SET order_status = EXCLUDED.order_status, " +
+            "failure_messages = EXCLUDED.failure_messages, updated_at = EXCLUDED.updated_at";
+
+    private final OrderTrackingViewJpaRepository orderTrackingViewJpaRepository;
+    private final OrderTrackingViewDataAccessMapper orderTrackingViewDataAccessMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(OrderTrackingView orderTrackingView) {
+        saveAll(List.of(orderTrackingView));
+    }
+
+    @Override
+    public void saveAll(List<OrderTrackingView> orderTrackingViews) {
+        jdbcTemplate.batchUpdate(UPSERT_QUERY, orderTrackingViews, orderTrackingViews.size(),
+                (preparedStatement, orderTrackingView) -> {
+                    preparedStatement.setObject(1, orderTrackingView.getTrackingId());
+                    preparedStatement.setObject(2, orderTrackingView.getOrderId());
+                    preparedStatement.setString(3, orderTrackingView.getOrderStatus().name());
+                    preparedStatement.setString(4, orderTrackingViewDataAccessMapper
+                            .failureMessagesToString(orderTrackingView.getFailureMessages()));
+                    preparedStatement.setObject(5, orderTrackingView.getUpdatedAt().toOffsetDateTime());
+                });
+    }
+
+    @Override
+    public Optional<OrderTrackingView> findByTrackingId(UUID trackingId) {
+        return orderTrackingViewJpaRepository.findById(trackingId)
+                .map(orderTrackingViewDataAccessMapper::orderTrackingViewEntityToOrderTrackingView);
+    }
+}
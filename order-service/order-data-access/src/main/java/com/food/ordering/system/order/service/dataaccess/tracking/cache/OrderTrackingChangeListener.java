@@ -0,0 +1,97 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.cache;
+
+import com.food.ordering.system.order.service.domain.config.OrderTrackingConfigData;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order-tracking-config", name = "notification-enabled", havingValue = "true")
+public class OrderTrackingChangeListener {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OrderTrackingCache orderTrackingCache;
+    private final OrderTrackingConfigData orderTrackingConfigData;
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-tracking-change-listener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executorService.submit(this::run);
+        log.info("Order tracking change listener started on channel [{}]",
+                orderTrackingConfigData.getNotificationChannel());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        executorService.shutdown();
+        executorService.awaitTermination(orderTrackingConfigData.getNotificationRetryDelayMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.getUrl(),
+                    dataSourceProperties.getUsername(), dataSourceProperties.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + orderTrackingConfigData.getNotificationChannel());
+                }
+                orderTrackingCache.invalidateAll();
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                log.error("Order tracking change listener failed, restarting in [{}] ms",
+                        orderTrackingConfigData.getNotificationRetryDelayMs(), e);
+                sleep(orderTrackingConfigData.getNotificationRetryDelayMs());
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications =
+                    connection.getNotifications(orderTrackingConfigData.getNotificationPollTimeoutMs());
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                log.debug("Order tracking of tracking id [{}] is changed", notification.getParameter());
+                orderTrackingCache.invalidate(UUID.fromString(notification.getParameter()));
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingViewEntity;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
+
+@Component
+public class OrderTrackingViewDataAccessMapper {
+
+    public OrderTrackingView orderTrackingViewEntityToOrderTrackingView(OrderTrackingViewEntity orderTrackingViewEntity) {
+        return OrderTrackingView.builder()
+                .trackingId(orderTrackingViewEntity.getTrackingId())
+                .orderId(orderTrackingViewEntity.getOrderId())
+                .orderStatus(orderTrackingViewEntity.getOrderStatus())
+                .failureMessages(orderTrackingViewEntity.getFailureMessages() == null
+                                         || orderTrackingViewEntity.getFailureMessages().isEmpty()
+                                         ? List.of()
+                                         : Arrays.asList(orderTrackingViewEntity.getFailureMessages().split(FAILURE_MESSAGES_DELIMITER)))
+                .updatedAt(orderTrackingViewEntity.getUpdatedAt())
+                .build();
+    }
+
+    public String failureMessagesToString(List<String> failureMessages) {
+        return String.join(FAILURE_MESSAGES_DELIMITER, failureMessages);
+    }
+}
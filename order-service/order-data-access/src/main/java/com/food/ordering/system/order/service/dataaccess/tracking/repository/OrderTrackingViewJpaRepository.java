@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface OrderTrackingViewJpaRepository extends JpaRepository<OrderTrackingViewEntity, UUID> {
+}
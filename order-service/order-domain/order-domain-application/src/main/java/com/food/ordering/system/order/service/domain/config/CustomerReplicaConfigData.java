@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "customer-replica-config")
+public class CustomerReplicaConfigData {
+
+    private Long cacheMaximumSize;
+    private Long cacheExpireAfterWriteMs;
+    private Long negativeCacheExpireAfterWriteMs;
+    private Long statsLogFixedDelayMs;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-tracking-config")
+public class OrderTrackingConfigData {
+
+    private Long cacheMaximumSize;
+    private Long cacheExpireAfterWriteMs;
+    private Boolean notificationEnabled;
+    private String notificationChannel;
+    private Integer notificationPollTimeoutMs;
+    private Long notificationRetryDelayMs;
+}
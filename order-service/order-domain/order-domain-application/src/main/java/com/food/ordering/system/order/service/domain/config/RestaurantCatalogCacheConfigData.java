@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "restaurant-catalog-cache-config")
+public class RestaurantCatalogCacheConfigData {
+
+    private Long maximumProducts;
+    private Long expireAfterWriteMs;
+    private Long versionCheckFixedDelayMs;
+    private Integer versionCheckBatchSize;
+    private Long statsLogFixedDelayMs;
+    private Boolean notificationEnabled;
+    private String notificationChannel;
+    private Integer notificationPollTimeoutMs;
+    private Long notificationRetryDelayMs;
+}
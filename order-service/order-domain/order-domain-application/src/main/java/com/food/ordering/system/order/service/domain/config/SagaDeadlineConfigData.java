@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "saga-deadline-config")
+public class SagaDeadlineConfigData {
+
+    private Long paymentTimeoutMs;
+    private Long approvalTimeoutMs;
+    private Long cancellationTimeoutMs;
+    private Integer cancellationMaxRetries;
+    private Long tickMs;
+    private Integer wheelSize;
+    private Long loadFixedDelayMs;
+    private Long loadLookaheadMs;
+    private Integer loadBatchSize;
+    private Long retryDelayMs;
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.customer;
+
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+
+import java.util.List;
+
+public interface CustomerMessageListener {
+
+    void customersCreated(List<CustomerModel> customerModels);
+}
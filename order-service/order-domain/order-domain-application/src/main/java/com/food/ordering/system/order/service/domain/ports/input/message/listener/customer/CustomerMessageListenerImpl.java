@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.customer;
+
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+@Slf4j
+@Validated
+@Service
+@RequiredArgsConstructor
+public class CustomerMessageListenerImpl implements CustomerMessageListener {
+
+    private final CustomerRepository customerRepository;
+    private final OrderDataMapper orderDataMapper;
+
+    @Override
+    @Transactional
+    public void customersCreated(List<CustomerModel> customerModels) {
+        List<Customer> customers = customerModels.stream()
+                .map(orderDataMapper::customerModelToCustomer)
+                .toList();
+        customerRepository.saveAll(customers);
+        log.info("[{}] customers are saved to the order customer replica", customers.size());
+    }
+}
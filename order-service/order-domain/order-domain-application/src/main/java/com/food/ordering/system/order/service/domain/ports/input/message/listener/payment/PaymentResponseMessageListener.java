@@ -2,9 +2,15 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
 
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCancelled(PaymentResponse paymentResponse);
+
+    List<PaymentResponse> paymentsCompleted(List<PaymentResponse> paymentResponses);
+
+    List<PaymentResponse> paymentsCancelled(List<PaymentResponse> paymentResponses);
 }
@@ -1,13 +1,17 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.payment;
 
+import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
-import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.saga.OrderPaymentSaga;
+import com.food.ordering.system.saga.SagaBatchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
 
 @Slf4j
@@ -19,8 +23,9 @@ public class PaymentResponseMessageListenerImpl implements PaymentResponseMessag
     private final OrderPaymentSaga orderPaymentSaga;
 
     @Override
+    @Transactional
     public void paymentCompleted(PaymentResponse paymentResponse) {
-        OrderPaidEvent domainEvent = orderPaymentSaga.process(paymentResponse);
+        DomainEvent<?> domainEvent = orderPaymentSaga.process(paymentResponse);
         log.info("Publishing OrderPaidEvent for order id [{}]", paymentResponse.getOrderId());
         domainEvent.fire();
     }
@@ -31,4 +36,19 @@ public class PaymentResponseMessageListenerImpl implements PaymentResponseMessag
         log.info("Order with id [{}] is rolled back with failure messages [{}]",
                 paymentResponse.getOrderId(), String.join(FAILURE_MESSAGES_DELIMITER, paymentResponse.getFailureMessages()));
     }
+
+    @Override
+    @Transactional
+    public List<PaymentResponse> paymentsCompleted(List<PaymentResponse> paymentResponses) {
+        SagaBatchResult<PaymentResponse, DomainEvent<?>> result = orderPaymentSaga.processBatch(paymentResponses);
+        log.info("Publishing [{}] OrderPaidEvents", result.getEvents().size());
+        result.getEvents().forEach(DomainEvent::fire);
+        return result.getFailed();
+    }
+
+    @Override
+    @Transactional
+    public List<PaymentResponse> paymentsCancelled(List<PaymentResponse> paymentResponses) {
+        return orderPaymentSaga.rollbackBatch(paymentResponses).getFailed();
+    }
 }
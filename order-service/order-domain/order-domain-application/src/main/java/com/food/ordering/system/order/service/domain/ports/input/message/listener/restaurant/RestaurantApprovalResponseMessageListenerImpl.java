@@ -1,13 +1,17 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurant;
 
+import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
-import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.saga.OrderApprovalSaga;
+import com.food.ordering.system.saga.SagaBatchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
 
 @Slf4j
@@ -25,10 +29,27 @@ public class RestaurantApprovalResponseMessageListenerImpl implements Restaurant
     }
 
     @Override
+    @Transactional
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-        OrderCancelledEvent domainEvent = orderApprovalSaga.rollback(restaurantApprovalResponse);
+        DomainEvent<?> domainEvent = orderApprovalSaga.rollback(restaurantApprovalResponse);
         log.info("Publishing Order cancelled event for Order with id [{}] with failure messages [{}]",
                 restaurantApprovalResponse.getOrderId(), String.join(FAILURE_MESSAGES_DELIMITER, restaurantApprovalResponse.getFailureMessages()));
         domainEvent.fire();
     }
+
+    @Override
+    @Transactional
+    public List<RestaurantApprovalResponse> ordersApproved(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        return orderApprovalSaga.processBatch(restaurantApprovalResponses).getFailed();
+    }
+
+    @Override
+    @Transactional
+    public List<RestaurantApprovalResponse> ordersRejected(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        SagaBatchResult<RestaurantApprovalResponse, DomainEvent<?>> result =
+                orderApprovalSaga.rollbackBatch(restaurantApprovalResponses);
+        log.info("Publishing [{}] Order cancelled events", result.getEvents().size());
+        result.getEvents().forEach(DomainEvent::fire);
+        return result.getFailed();
+    }
 }
@@ -2,16 +2,15 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
-import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingCache;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
@@ -19,13 +18,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderTrackCommandHandler {
 
     private final OrderDataMapper orderDataMapper;
-    private final OrderRepository orderRepository;
+    private final OrderTrackingViewRepository orderTrackingViewRepository;
+    private final OrderTrackingCache orderTrackingCache;
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Optional<Order> order = orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
+        Optional<OrderTrackingView> orderTrackingView = orderTrackingCache.get(trackOrderQuery.getOrderTrackingId(),
+                orderTrackingViewRepository::findByTrackingId);
 
-        if (order.isEmpty()) {
+        if (orderTrackingView.isEmpty()) {
             log.warn("Could not find order with tracking id [{}]", trackOrderQuery.getOrderTrackingId());
             throw new OrderNotFoundException(String.format(
                     "Could not find order with tracking id [%s]",
@@ -33,6 +33,6 @@ public class OrderTrackCommandHandler {
             ));
         }
 
-        return orderDataMapper.orderToTrackOrderResponse(order.get());
+        return orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView.get());
     }
 }
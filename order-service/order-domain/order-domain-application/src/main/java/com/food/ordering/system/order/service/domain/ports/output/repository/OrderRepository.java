@@ -4,13 +4,18 @@ import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
     Optional<Order> findByOrderId(OrderId orderId);
+
+    List<Order> findByOrderIds(List<OrderId> orderIds);
 }
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderSagaStateRepository {
+
+    OrderSagaState save(OrderSagaState orderSagaState);
+
+    List<OrderSagaState> saveAll(List<OrderSagaState> orderSagaStates);
+
+    Optional<OrderSagaState> findBySagaId(UUID sagaId);
+
+    List<OrderSagaState> findBySagaIds(List<UUID> sagaIds);
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderTrackingViewRepository {
+
+    void save(OrderTrackingView orderTrackingView);
+
+    void saveAll(List<OrderTrackingView> orderTrackingViews);
+
+    Optional<OrderTrackingView> findByTrackingId(UUID trackingId);
+}
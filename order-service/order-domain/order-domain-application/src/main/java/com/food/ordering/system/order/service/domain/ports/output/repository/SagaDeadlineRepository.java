@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SagaDeadlineRepository {
+
+    SagaDeadline save(SagaDeadline sagaDeadline);
+
+    List<SagaDeadline> saveAll(List<SagaDeadline> sagaDeadlines);
+
+    Optional<SagaDeadline> findAndLockBySagaId(UUID sagaId);
+
+    List<SagaDeadline> findBySagaIds(List<UUID> sagaIds);
+
+    List<SagaDeadline> findByDeadlineAtBefore(ZonedDateTime until, ZonedDateTime afterDeadlineAt, UUID afterSagaId,
+                                              int limit);
+
+    void deleteBySagaIds(List<UUID> sagaIds);
+}
@@ -1,21 +1,28 @@
 package com.food.ordering.system.order.service.domain.saga;
 
+import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.OrderDomainService;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import com.food.ordering.system.saga.SagaBatchResult;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, EmptyEvent, OrderCancelledEvent> {
+public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, EmptyEvent, DomainEvent<?>> {
 
     private final OrderDomainService orderDomainService;
     private final OrderSagaHelper orderSagaHelper;
@@ -24,11 +31,18 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
     @Override
     @Transactional
     public EmptyEvent process(RestaurantApprovalResponse restaurantApprovalResponse) {
+        Optional<OrderSagaState> sagaState = orderSagaHelper.findSagaStateInStatus(
+                restaurantApprovalResponse.getSagaId(), restaurantApprovalResponse.getOrderId(), OrderStatus.PAID);
+        if (sagaState.isEmpty()) {
+            return EmptyEvent.INSTANCE;
+        }
+
         log.info("Approving order with id [{}]", restaurantApprovalResponse.getOrderId());
 
         Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
         orderDomainService.approveOrder(order);
         orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveSagaState(sagaState.get(), order);
         log.info("Order with id [{}] is approved", order.getId().getValue());
 
         return EmptyEvent.INSTANCE;
@@ -36,14 +50,57 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
 
     @Override
     @Transactional
-    public OrderCancelledEvent rollback(RestaurantApprovalResponse restaurantApprovalResponse) {
+    public DomainEvent<?> rollback(RestaurantApprovalResponse restaurantApprovalResponse) {
+        Optional<OrderSagaState> sagaState = orderSagaHelper.findSagaStateInStatus(
+                restaurantApprovalResponse.getSagaId(), restaurantApprovalResponse.getOrderId(), OrderStatus.PAID);
+        if (sagaState.isEmpty()) {
+            return EmptyEvent.INSTANCE;
+        }
+
         log.info("Cancelling order with id [{}]", restaurantApprovalResponse.getOrderId());
 
         Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
         OrderCancelledEvent domainEvent = orderDomainService.cancelOrderPayment(order, orderCancelledPaymentRequestMessagePublisher, restaurantApprovalResponse.getFailureMessages());
         orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveSagaState(sagaState.get(), order);
         log.info("Order with id [{}] is canceling", order.getId().getValue());
 
         return domainEvent;
     }
+
+    @Override
+    @Transactional
+    public SagaBatchResult<RestaurantApprovalResponse, EmptyEvent> processBatch(
+            List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        SagaBatchResult<RestaurantApprovalResponse, EmptyEvent> result = orderSagaHelper.applyInBatch(
+                restaurantApprovalResponses,
+                RestaurantApprovalResponse::getSagaId, RestaurantApprovalResponse::getOrderId,
+                (order, restaurantApprovalResponse) -> {
+                    orderDomainService.approveOrder(order);
+                    return EmptyEvent.INSTANCE;
+                },
+                OrderStatus.PAID);
+
+        log.info("[{}] restaurant approved responses are processed in batch, [{}] failed",
+                restaurantApprovalResponses.size(), result.getFailed().size());
+
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public SagaBatchResult<RestaurantApprovalResponse, DomainEvent<?>> rollbackBatch(
+            List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        SagaBatchResult<RestaurantApprovalResponse, DomainEvent<?>> result = orderSagaHelper.applyInBatch(
+                restaurantApprovalResponses,
+                RestaurantApprovalResponse::getSagaId, RestaurantApprovalResponse::getOrderId,
+                (order, restaurantApprovalResponse) -> orderDomainService.cancelOrderPayment(order,
+                        orderCancelledPaymentRequestMessagePublisher, restaurantApprovalResponse.getFailureMessages()),
+                OrderStatus.PAID);
+
+        log.info("[{}] restaurant rejected responses are processed in batch, [{}] failed",
+                restaurantApprovalResponses.size(), result.getFailed().size());
+
+        return result;
+    }
 }
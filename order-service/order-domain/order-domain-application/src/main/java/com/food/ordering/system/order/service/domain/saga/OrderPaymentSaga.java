@@ -1,21 +1,28 @@
 package com.food.ordering.system.order.service.domain.saga;
 
+import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.OrderDomainService;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurant.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import com.food.ordering.system.saga.SagaBatchResult;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEvent, EmptyEvent> {
+public class OrderPaymentSaga implements SagaStep<PaymentResponse, DomainEvent<?>, EmptyEvent> {
 
     private final OrderDomainService orderDomainService;
     private final OrderSagaHelper orderSagaHelper;
@@ -23,12 +30,19 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
 
     @Override
     @Transactional
-    public OrderPaidEvent process(PaymentResponse paymentResponse) {
+    public DomainEvent<?> process(PaymentResponse paymentResponse) {
+        Optional<OrderSagaState> sagaState = orderSagaHelper.findSagaStateInStatus(
+                paymentResponse.getSagaId(), paymentResponse.getOrderId(), OrderStatus.PENDING);
+        if (sagaState.isEmpty()) {
+            return EmptyEvent.INSTANCE;
+        }
+
         log.info("Completing payment for order with id [{}]", paymentResponse.getOrderId());
 
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
         OrderPaidEvent domainEvent = orderDomainService.payOrder(order, orderPaidRestaurantRequestMessagePublisher);
         orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveSagaState(sagaState.get(), order);
 
         log.info("Order with id [{}] is paid", order.getId().getValue());
 
@@ -38,14 +52,52 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
     @Override
     @Transactional
     public EmptyEvent rollback(PaymentResponse paymentResponse) {
+        Optional<OrderSagaState> sagaState = orderSagaHelper.findSagaStateInStatus(
+                paymentResponse.getSagaId(), paymentResponse.getOrderId(), OrderStatus.PENDING, OrderStatus.CANCELLING);
+        if (sagaState.isEmpty()) {
+            return EmptyEvent.INSTANCE;
+        }
+
         log.info("Cancelling order with id [{}]", paymentResponse.getOrderId());
 
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
         orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
         orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveSagaState(sagaState.get(), order);
 
         log.info("Order with id [{}] is cancelled", order.getId().getValue());
 
         return EmptyEvent.INSTANCE;
     }
+
+    @Override
+    @Transactional
+    public SagaBatchResult<PaymentResponse, DomainEvent<?>> processBatch(List<PaymentResponse> paymentResponses) {
+        SagaBatchResult<PaymentResponse, DomainEvent<?>> result = orderSagaHelper.applyInBatch(paymentResponses,
+                PaymentResponse::getSagaId, PaymentResponse::getOrderId,
+                (order, paymentResponse) -> orderDomainService.payOrder(order, orderPaidRestaurantRequestMessagePublisher),
+                OrderStatus.PENDING);
+
+        log.info("[{}] payment completed responses are processed in batch, [{}] failed",
+                paymentResponses.size(), result.getFailed().size());
+
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public SagaBatchResult<PaymentResponse, EmptyEvent> rollbackBatch(List<PaymentResponse> paymentResponses) {
+        SagaBatchResult<PaymentResponse, EmptyEvent> result = orderSagaHelper.applyInBatch(paymentResponses,
+                PaymentResponse::getSagaId, PaymentResponse::getOrderId,
+                (order, paymentResponse) -> {
+                    orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+                    return EmptyEvent.INSTANCE;
+                },
+                OrderStatus.PENDING, OrderStatus.CANCELLING);
+
+        log.info("[{}] payment cancelled responses are processed in batch, [{}] failed",
+                paymentResponses.size(), result.getFailed().size());
+
+        return result;
+    }
 }
@@ -1,15 +1,36 @@
 package com.food.ordering.system.order.service.domain.saga;
 
+import com.food.ordering.system.domain.event.DomainEvent;
+import com.food.ordering.system.domain.exception.DomainException;
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaStateRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingProjector;
+import com.food.ordering.system.saga.SagaBatchResult;
+import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
 
 @Slf4j
 @Component
@@ -17,6 +38,9 @@ import java.util.UUID;
 public class OrderSagaHelper {
 
     private final OrderRepository orderRepository;
+    private final OrderSagaStateRepository orderSagaStateRepository;
+    private final SagaDeadlineHelper sagaDeadlineHelper;
+    private final OrderTrackingProjector orderTrackingProjector;
 
     Order findOrder(String orderId) {
         Optional<Order> orderOptional = orderRepository.findByOrderId(new OrderId(UUID.fromString(orderId)));
@@ -29,7 +53,157 @@ public class OrderSagaHelper {
         return orderOptional.get();
     }
 
+    Map<UUID, Order> findOrders(Collection<String> orderIds) {
+        List<OrderId> ids = orderIds.stream()
+                .distinct()
+                .map(orderId -> new OrderId(UUID.fromString(orderId)))
+                .toList();
+        return orderRepository.findByOrderIds(ids).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+    }
+
+    Order getOrder(Map<UUID, Order> orders, String orderId) {
+        Order order = orders.get(UUID.fromString(orderId));
+
+        if (order == null) {
+            log.error("Order with id [{}] could not be found", orderId);
+            throw new OrderNotFoundException(String.format("Order with id [%s] could not be found", orderId));
+        }
+
+        return order;
+    }
+
     void saveOrder(Order order) {
         orderRepository.save(order);
     }
+
+    void saveOrders(Collection<Order> orders) {
+        if (!orders.isEmpty()) {
+            orderRepository.saveAll(List.copyOf(orders));
+        }
+    }
+
+    public void startSaga(Order order) {
+        orderSagaStateRepository.save(OrderSagaState.builder()
+                .sagaId(order.getId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .sagaStatus(orderStatusToSagaStatus(order.getOrderStatus()))
+                .updatedAt(ZonedDateTime.now(ZoneId.of(UTC)))
+                .build());
+        sagaDeadlineHelper.startDeadline(order.getId().getValue(), order.getOrderStatus());
+        orderTrackingProjector.project(order);
+    }
+
+    Optional<OrderSagaState> findSagaStateInStatus(String sagaId, String orderId, OrderStatus... expectedStatuses) {
+        UUID sagaUuid = toSagaId(sagaId, orderId);
+        return checkSagaStateInStatus(orderSagaStateRepository.findBySagaId(sagaUuid).orElse(null), sagaUuid, orderId, expectedStatuses);
+    }
+
+    Map<UUID, OrderSagaState> findSagaStates(Collection<UUID> sagaIds) {
+        return orderSagaStateRepository.findBySagaIds(sagaIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(OrderSagaState::getSagaId, Function.identity()));
+    }
+
+    Optional<OrderSagaState> getSagaStateInStatus(Map<UUID, OrderSagaState> sagaStates, String sagaId, String orderId,
+                                                  OrderStatus... expectedStatuses) {
+        UUID sagaUuid = toSagaId(sagaId, orderId);
+        return checkSagaStateInStatus(sagaStates.get(sagaUuid), sagaUuid, orderId, expectedStatuses);
+    }
+
+    UUID toSagaId(String sagaId, String orderId) {
+        return UUID.fromString(sagaId == null || sagaId.isBlank() ? orderId : sagaId);
+    }
+
+    private Optional<OrderSagaState> checkSagaStateInStatus(OrderSagaState sagaState, UUID sagaUuid, String orderId,
+                                                            OrderStatus... expectedStatuses) {
+        if (sagaState == null) {
+            log.error("Saga with id [{}] could not be found, response for order id [{}] is dropped", sagaUuid, orderId);
+            return Optional.empty();
+        }
+
+        OrderStatus orderStatus = sagaState.getOrderStatus();
+        if (Arrays.stream(expectedStatuses).noneMatch(orderStatus::equals)) {
+            log.info("Saga with id [{}] is already in status [{}], response for order id [{}] is dropped",
+                    sagaUuid, orderStatus, orderId);
+            return Optional.empty();
+        }
+
+        return Optional.of(sagaState);
+    }
+
+    void saveSagaState(OrderSagaState orderSagaState, Order order) {
+        updateSagaState(orderSagaState, order.getOrderStatus());
+        orderSagaStateRepository.save(orderSagaState);
+        sagaDeadlineHelper.scheduleDeadlines(Map.of(orderSagaState.getSagaId(), order.getOrderStatus()));
+        orderTrackingProjector.project(order);
+    }
+
+    void updateSagaState(OrderSagaState orderSagaState, OrderStatus orderStatus) {
+        orderSagaState.setOrderStatus(orderStatus);
+        orderSagaState.setSagaStatus(orderStatusToSagaStatus(orderStatus));
+        orderSagaState.setUpdatedAt(ZonedDateTime.now(ZoneId.of(UTC)));
+    }
+
+    void saveSagaStates(Collection<OrderSagaState> orderSagaStates) {
+        if (!orderSagaStates.isEmpty()) {
+            orderSagaStateRepository.saveAll(List.copyOf(orderSagaStates));
+        }
+    }
+
+    <T, E extends DomainEvent> SagaBatchResult<T, E> applyInBatch(List<T> responses,
+                                                                  Function<T, String> sagaIdExtractor,
+                                                                  Function<T, String> orderIdExtractor,
+                                                                  BiFunction<Order, T, E> transition,
+                                                                  OrderStatus... expectedStatuses) {
+        Map<UUID, OrderSagaState> sagaStates = findSagaStates(responses.stream()
+                .map(response -> toSagaId(sagaIdExtractor.apply(response), orderIdExtractor.apply(response)))
+                .toList());
+        Map<UUID, Order> orders = findOrders(responses.stream()
+                .filter(response -> sagaStates.containsKey(
+                        toSagaId(sagaIdExtractor.apply(response), orderIdExtractor.apply(response))))
+                .map(orderIdExtractor)
+                .toList());
+
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        Map<UUID, OrderSagaState> changedSagaStates = new LinkedHashMap<>();
+        List<E> events = new ArrayList<>(responses.size());
+        List<T> failed = new ArrayList<>();
+
+        for (T response : responses) {
+            String orderId = orderIdExtractor.apply(response);
+            try {
+                Optional<OrderSagaState> sagaState = getSagaStateInStatus(sagaStates, sagaIdExtractor.apply(response),
+                        orderId, expectedStatuses);
+                if (sagaState.isEmpty()) {
+                    continue;
+                }
+                Order order = getOrder(orders, orderId);
+                events.add(transition.apply(order, response));
+                updateSagaState(sagaState.get(), order.getOrderStatus());
+                changedOrders.put(order.getId().getValue(), order);
+                changedSagaStates.put(sagaState.get().getSagaId(), sagaState.get());
+            } catch (DomainException e) {
+                log.error("Could not apply saga step in batch for order id [{}], it will be retried on its own",
+                        orderId, e);
+                failed.add(response);
+            }
+        }
+
+        saveOrders(changedOrders.values());
+        saveSagaStates(changedSagaStates.values());
+        sagaDeadlineHelper.scheduleDeadlines(changedSagaStates.values().stream()
+                .collect(Collectors.toMap(OrderSagaState::getSagaId, OrderSagaState::getOrderStatus)));
+        orderTrackingProjector.projectAll(changedOrders.values());
+        return new SagaBatchResult<>(events, failed);
+    }
+
+    private SagaStatus orderStatusToSagaStatus(OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case PENDING -> SagaStatus.STARTED;
+            case PAID -> SagaStatus.PROCESSING;
+            case APPROVED -> SagaStatus.SUCCEEDED;
+            case CANCELLING -> SagaStatus.COMPENSATING;
+            case CANCELLED -> SagaStatus.COMPENSATED;
+        };
+    }
 }
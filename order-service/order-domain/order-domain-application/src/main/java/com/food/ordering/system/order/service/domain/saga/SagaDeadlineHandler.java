@@ -0,0 +1,97 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaState;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaDeadlineHandler {
+
+    private static final String PAYMENT_TIMEOUT_MESSAGE = "Payment response was not received in time";
+    private static final String APPROVAL_TIMEOUT_MESSAGE = "Restaurant approval response was not received in time";
+
+    private final SagaDeadlineRepository sagaDeadlineRepository;
+    private final SagaDeadlineHelper sagaDeadlineHelper;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderDomainService orderDomainService;
+    private final OrderApprovalSaga orderApprovalSaga;
+    private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+
+    @Transactional
+    public void handle(UUID sagaId) {
+        Optional<SagaDeadline> sagaDeadlineOptional = sagaDeadlineRepository.findAndLockBySagaId(sagaId);
+        if (sagaDeadlineOptional.isEmpty()) {
+            log.debug("Deadline of saga with id [{}] is already handled or locked by another instance", sagaId);
+            return;
+        }
+
+        SagaDeadline sagaDeadline = sagaDeadlineOptional.get();
+        if (sagaDeadline.getDeadlineAt().isAfter(ZonedDateTime.now(ZoneId.of(UTC)))) {
+            log.debug("Deadline of saga with id [{}] is moved to [{}]", sagaId, sagaDeadline.getDeadlineAt());
+            return;
+        }
+
+        String orderId = sagaId.toString();
+        OrderStatus orderStatus = sagaDeadline.getOrderStatus();
+        Optional<OrderSagaState> sagaState = orderSagaHelper.findSagaStateInStatus(orderId, orderId, orderStatus);
+        if (sagaState.isEmpty()) {
+            sagaDeadlineHelper.deleteDeadline(sagaId);
+            return;
+        }
+
+        log.info("Deadline of saga with id [{}] in status [{}] is expired", sagaId, orderStatus);
+
+        switch (orderStatus) {
+            case PENDING -> cancelUnconfirmedPayment(sagaState.get(), orderId);
+            case PAID -> orderApprovalSaga.rollback(RestaurantApprovalResponse.builder()
+                    .sagaId(orderId)
+                    .orderId(orderId)
+                    .orderApprovalStatus(OrderApprovalStatus.REJECTED)
+                    .failureMessages(List.of(APPROVAL_TIMEOUT_MESSAGE))
+                    .build()).fire();
+            case CANCELLING -> retryPaymentCancellation(sagaDeadline, orderId);
+            default -> sagaDeadlineHelper.deleteDeadline(sagaId);
+        }
+    }
+
+    private void cancelUnconfirmedPayment(OrderSagaState sagaState, String orderId) {
+        Order order = orderSagaHelper.findOrder(orderId);
+        OrderCancelledEvent domainEvent = orderDomainService.cancelOrderPayment(order,
+                orderCancelledPaymentRequestMessagePublisher, List.of(PAYMENT_TIMEOUT_MESSAGE));
+        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveSagaState(sagaState, order);
+        log.info("Order with id [{}] is cancelling after its payment timed out", orderId);
+        domainEvent.fire();
+    }
+
+    private void retryPaymentCancellation(SagaDeadline sagaDeadline, String orderId) {
+        Order order = orderSagaHelper.findOrder(orderId);
+        if (sagaDeadlineHelper.retryDeadline(sagaDeadline)) {
+            log.info("Publishing OrderCancelledEvent again for order id [{}], attempt [{}]",
+                    orderId, sagaDeadline.getAttempts());
+            new OrderCancelledEvent(order, ZonedDateTime.now(ZoneId.of(UTC)), orderCancelledPaymentRequestMessagePublisher)
+                    .fire();
+        }
+    }
+}
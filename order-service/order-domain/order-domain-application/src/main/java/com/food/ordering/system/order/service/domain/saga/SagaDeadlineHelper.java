@@ -0,0 +1,111 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.SagaDeadlineConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaDeadlineHelper {
+
+    private final SagaDeadlineRepository sagaDeadlineRepository;
+    private final SagaDeadlineConfigData sagaDeadlineConfigData;
+
+    void startDeadline(UUID sagaId, OrderStatus orderStatus) {
+        timeoutMs(orderStatus).ifPresent(timeoutMs -> sagaDeadlineRepository.save(SagaDeadline.builder()
+                .sagaId(sagaId)
+                .orderStatus(orderStatus)
+                .deadlineAt(ZonedDateTime.now(ZoneId.of(UTC)).plus(timeoutMs, ChronoUnit.MILLIS))
+                .attempts(0)
+                .build()));
+    }
+
+    void scheduleDeadlines(Map<UUID, OrderStatus> orderStatuses) {
+        if (orderStatuses.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, SagaDeadline> sagaDeadlines = sagaDeadlineRepository
+                .findBySagaIds(List.copyOf(orderStatuses.keySet())).stream()
+                .collect(Collectors.toMap(SagaDeadline::getSagaId, Function.identity()));
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+        List<SagaDeadline> sagaDeadlinesToSave = new ArrayList<>();
+        List<UUID> sagaIdsToDelete = new ArrayList<>();
+
+        orderStatuses.forEach((sagaId, orderStatus) -> {
+            SagaDeadline sagaDeadline = sagaDeadlines.get(sagaId);
+            Optional<Long> timeoutMs = timeoutMs(orderStatus);
+            if (timeoutMs.isEmpty()) {
+                if (sagaDeadline != null) {
+                    sagaIdsToDelete.add(sagaId);
+                }
+                return;
+            }
+            if (sagaDeadline == null) {
+                sagaDeadline = SagaDeadline.builder().sagaId(sagaId).build();
+            }
+            sagaDeadline.setOrderStatus(orderStatus);
+            sagaDeadline.setDeadlineAt(now.plus(timeoutMs.get(), ChronoUnit.MILLIS));
+            sagaDeadline.setAttempts(0);
+            sagaDeadlinesToSave.add(sagaDeadline);
+        });
+
+        if (!sagaDeadlinesToSave.isEmpty()) {
+            sagaDeadlineRepository.saveAll(sagaDeadlinesToSave);
+        }
+        if (!sagaIdsToDelete.isEmpty()) {
+            sagaDeadlineRepository.deleteBySagaIds(sagaIdsToDelete);
+        }
+    }
+
+    boolean retryDeadline(SagaDeadline sagaDeadline) {
+        if (sagaDeadline.getAttempts() + 1 > sagaDeadlineConfigData.getCancellationMaxRetries()) {
+            log.error("Saga with id [{}] is still in status [{}] after [{}] retries, giving up",
+                    sagaDeadline.getSagaId(), sagaDeadline.getOrderStatus(), sagaDeadline.getAttempts());
+            sagaDeadlineRepository.deleteBySagaIds(List.of(sagaDeadline.getSagaId()));
+            return false;
+        }
+
+        sagaDeadline.setAttempts(sagaDeadline.getAttempts() + 1);
+        sagaDeadline.setDeadlineAt(ZonedDateTime.now(ZoneId.of(UTC))
+                .plus(timeoutMs(sagaDeadline.getOrderStatus()).orElseThrow(), ChronoUnit.MILLIS));
+        sagaDeadlineRepository.save(sagaDeadline);
+        return true;
+    }
+
+    void deleteDeadline(UUID sagaId) {
+        sagaDeadlineRepository.deleteBySagaIds(List.of(sagaId));
+    }
+
+    long minTimeoutMs() {
+        return Math.min(sagaDeadlineConfigData.getPaymentTimeoutMs(),
+                Math.min(sagaDeadlineConfigData.getApprovalTimeoutMs(), sagaDeadlineConfigData.getCancellationTimeoutMs()));
+    }
+
+    private Optional<Long> timeoutMs(OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case PENDING -> Optional.of(sagaDeadlineConfigData.getPaymentTimeoutMs());
+            case PAID -> Optional.of(sagaDeadlineConfigData.getApprovalTimeoutMs());
+            case CANCELLING -> Optional.of(sagaDeadlineConfigData.getCancellationTimeoutMs());
+            case APPROVED, CANCELLED -> Optional.empty();
+        };
+    }
+}
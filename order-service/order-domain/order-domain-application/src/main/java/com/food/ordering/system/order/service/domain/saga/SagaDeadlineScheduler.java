@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.order.service.domain.config.SagaDeadlineConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaDeadline;
+import com.food.ordering.system.saga.HierarchicalTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class SagaDeadlineScheduler {
+
+    private static final UUID MIN_SAGA_ID = new UUID(0L, 0L);
+
+    private final SagaDeadlineRepository sagaDeadlineRepository;
+    private final SagaDeadlineHandler sagaDeadlineHandler;
+    private final SagaDeadlineHelper sagaDeadlineHelper;
+    private final SagaDeadlineConfigData sagaDeadlineConfigData;
+    private final HierarchicalTimingWheel<UUID> timingWheel;
+    private ZonedDateTime loadedUntil = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneId.of(UTC));
+
+    public SagaDeadlineScheduler(SagaDeadlineRepository sagaDeadlineRepository,
+                                 SagaDeadlineHandler sagaDeadlineHandler,
+                                 SagaDeadlineHelper sagaDeadlineHelper,
+                                 SagaDeadlineConfigData sagaDeadlineConfigData) {
+        this.sagaDeadlineRepository = sagaDeadlineRepository;
+        this.sagaDeadlineHandler = sagaDeadlineHandler;
+        this.sagaDeadlineHelper = sagaDeadlineHelper;
+        this.sagaDeadlineConfigData = sagaDeadlineConfigData;
+        this.timingWheel = new HierarchicalTimingWheel<>(sagaDeadlineConfigData.getTickMs(),
+                sagaDeadlineConfigData.getWheelSize(), System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${saga-deadline-config.load-fixed-delay-ms}")
+    public void loadDeadlines() {
+        long lookaheadMs = Math.min(sagaDeadlineConfigData.getLoadLookaheadMs(), sagaDeadlineHelper.minTimeoutMs() / 2);
+        ZonedDateTime until = ZonedDateTime.now(ZoneId.of(UTC)).plus(lookaheadMs, ChronoUnit.MILLIS);
+        ZonedDateTime afterDeadlineAt = loadedUntil;
+        UUID afterSagaId = MIN_SAGA_ID;
+        int loaded = 0;
+        List<SagaDeadline> sagaDeadlines;
+
+        do {
+            sagaDeadlines = sagaDeadlineRepository.findByDeadlineAtBefore(until, afterDeadlineAt, afterSagaId,
+                    sagaDeadlineConfigData.getLoadBatchSize());
+            for (SagaDeadline sagaDeadline : sagaDeadlines) {
+                timingWheel.add(sagaDeadline.getSagaId(), sagaDeadline.getDeadlineAt().toInstant().toEpochMilli());
+                afterDeadlineAt = sagaDeadline.getDeadlineAt();
+                afterSagaId = sagaDeadline.getSagaId();
+            }
+            loaded += sagaDeadlines.size();
+        } while (sagaDeadlines.size() == sagaDeadlineConfigData.getLoadBatchSize());
+
+        loadedUntil = until;
+        if (loaded > 0) {
+            log.info("[{}] saga deadlines due before [{}] are loaded, [{}] deadlines are scheduled",
+                    loaded, until, timingWheel.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${saga-deadline-config.tick-ms}")
+    public void fireDeadlines() {
+        List<UUID> expiredSagaIds = timingWheel.advance(System.currentTimeMillis());
+        for (UUID sagaId : expiredSagaIds) {
+            try {
+                sagaDeadlineHandler.handle(sagaId);
+            } catch (RuntimeException e) {
+                log.error("Could not handle expired deadline of saga with id [{}], retrying in [{}] ms",
+                        sagaId, sagaDeadlineConfigData.getRetryDelayMs(), e);
+                timingWheel.add(sagaId, System.currentTimeMillis() + sagaDeadlineConfigData.getRetryDelayMs());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class OrderSagaState {
+
+    private UUID sagaId;
+    private OrderStatus orderStatus;
+    private SagaStatus sagaStatus;
+    private ZonedDateTime updatedAt;
+    private Integer version;
+}
@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class SagaDeadline {
+
+    private UUID sagaId;
+    private OrderStatus orderStatus;
+    private ZonedDateTime deadlineAt;
+    private Integer attempts;
+    private Integer version;
+}
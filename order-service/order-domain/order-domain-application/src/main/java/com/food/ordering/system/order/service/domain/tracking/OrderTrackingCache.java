@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.order.service.domain.config.OrderTrackingConfigData;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class OrderTrackingCache {
+
+    private final Cache<UUID, OrderTrackingView> cache;
+
+    public OrderTrackingCache(OrderTrackingConfigData orderTrackingConfigData) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(orderTrackingConfigData.getCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(orderTrackingConfigData.getCacheExpireAfterWriteMs()))
+                .build();
+    }
+
+    public Optional<OrderTrackingView> get(UUID trackingId, Function<UUID, Optional<OrderTrackingView>> loader) {
+        return Optional.ofNullable(cache.get(trackingId, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void invalidate(UUID trackingId) {
+        cache.invalidate(trackingId);
+    }
+
+    public void invalidateAll(Collection<UUID> trackingIds) {
+        cache.invalidateAll(trackingIds);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
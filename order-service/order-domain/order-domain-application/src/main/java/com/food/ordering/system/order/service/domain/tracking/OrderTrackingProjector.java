@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTrackingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
+
+@Component
+@RequiredArgsConstructor
+public class OrderTrackingProjector {
+
+    private final OrderTrackingViewRepository orderTrackingViewRepository;
+    private final OrderTrackingCache orderTrackingCache;
+
+    public void project(Order order) {
+        orderTrackingViewRepository.save(orderToOrderTrackingView(order));
+        invalidateAfterCommit(List.of(order.getTrackingId().getValue()));
+    }
+
+    public void projectAll(Collection<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        orderTrackingViewRepository.saveAll(orders.stream().map(this::orderToOrderTrackingView).toList());
+        invalidateAfterCommit(orders.stream().map(order -> order.getTrackingId().getValue()).toList());
+    }
+
+    private OrderTrackingView orderToOrderTrackingView(Order order) {
+        return OrderTrackingView.builder()
+                .trackingId(order.getTrackingId().getValue())
+                .orderId(order.getId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(order.getFailureMessages() != null ? List.copyOf(order.getFailureMessages()) : List.of())
+                .updatedAt(ZonedDateTime.now(ZoneId.of(UTC)))
+                .build();
+    }
+
+    private void invalidateAfterCommit(List<UUID> trackingIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderTrackingCache.invalidateAll(trackingIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderTrackingCache.invalidateAll(trackingIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.tracking.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderTrackingView {
+
+    private final UUID trackingId;
+    private final UUID orderId;
+    private final OrderStatus orderStatus;
+    private final List<String> failureMessages;
+    private final ZonedDateTime updatedAt;
+}
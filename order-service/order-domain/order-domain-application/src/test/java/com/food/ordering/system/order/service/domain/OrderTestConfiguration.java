@@ -2,12 +2,17 @@ package com.food.ordering.system.order.service.domain;
 
 import static org.mockito.Mockito.mock;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurant.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaStateRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingViewRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaDeadlineRepository;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
@@ -39,13 +44,33 @@ public class OrderTestConfiguration {
         return mock(OrderRepository.class);
     }
 
+    @Bean
+    public OrderSagaStateRepository orderSagaStateRepository() {
+        return mock(OrderSagaStateRepository.class);
+    }
+
+    @Bean
+    public OrderTrackingViewRepository orderTrackingViewRepository() {
+        return mock(OrderTrackingViewRepository.class);
+    }
+
     @Bean
     public RestaurantRepository restaurantRepository() {
         return mock(RestaurantRepository.class);
     }
 
     @Bean
-    public OrderDomainService orderDomainService() {
-        return new OrderDomainServiceImpl();
+    public SagaDeadlineRepository sagaDeadlineRepository() {
+        return mock(SagaDeadlineRepository.class);
+    }
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+        return new OrderDomainServiceImpl(idGenerator);
     }
 }
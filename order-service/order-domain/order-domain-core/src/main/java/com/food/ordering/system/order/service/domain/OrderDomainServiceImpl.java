@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -22,6 +23,12 @@ import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
 
+    private final IdGenerator idGenerator;
+
+    public OrderDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public OrderCreatedEvent validateAndInitiateOrder(Order order,
                                                       Restaurant restaurant,
@@ -30,7 +37,7 @@ public class OrderDomainServiceImpl implements OrderDomainService {
         setOrderProductInformation(order, restaurant);
 
         order.validateOrder();
-        order.initializeOrder();
+        order.initializeOrder(idGenerator);
         log.info("Order with id [{}] is initiated", order.getId().getValue());
 
         return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)), createdEventPublisher);
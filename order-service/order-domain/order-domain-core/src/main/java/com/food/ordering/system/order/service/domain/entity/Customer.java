@@ -5,10 +5,33 @@ import com.food.ordering.system.domain.valueobject.CustomerId;
 
 public class Customer extends AggregateRoot<CustomerId> {
 
+    private String username;
+    private String firstName;
+    private String lastName;
+
     public Customer() {
     }
 
     public Customer(CustomerId customerId) {
         super.setId(customerId);
     }
+
+    public Customer(CustomerId customerId, String username, String firstName, String lastName) {
+        super.setId(customerId);
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
 }
@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
@@ -11,6 +12,7 @@ import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,8 +30,8 @@ public class Order extends AggregateRoot<OrderId> {
     private OrderStatus orderStatus;
     private List<String> failureMessages;
 
-    public void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
+    public void initializeOrder(IdGenerator idGenerator) {
+        setId(new OrderId(idGenerator.generate()));
         trackingId = new TrackingId(UUID.randomUUID());
         orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
@@ -58,7 +60,7 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public void initCancel(List<String> failureMessages) {
-        if (orderStatus != OrderStatus.PAID) {
+        if (orderStatus != OrderStatus.PENDING && orderStatus != OrderStatus.PAID) {
             throw new OrderDomainException("Order is not in the correct state for initCancel operation!");
         }
 
@@ -84,8 +86,8 @@ public class Order extends AggregateRoot<OrderId> {
             );
         }
 
-        if (this.failureMessages == null) {
-            this.failureMessages = failureMessages;
+        if (this.failureMessages == null && failureMessages != null) {
+            this.failureMessages = new ArrayList<>(failureMessages);
         }
     }
 
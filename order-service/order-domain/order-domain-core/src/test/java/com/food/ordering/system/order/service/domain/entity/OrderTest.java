@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class OrderTest {
+
+    @Test
+    public void initCancel_ShouldMoveToCancelling_WhenOrderIsPending() {
+        // Given
+        Order order = order(OrderStatus.PENDING);
+
+        // When
+        order.initCancel(List.of("Payment response was not received in time"));
+
+        // Then
+        assertEquals(OrderStatus.CANCELLING, order.getOrderStatus());
+        assertEquals(List.of("Payment response was not received in time"), order.getFailureMessages());
+    }
+
+    @Test
+    public void initCancel_ShouldMoveToCancelling_WhenOrderIsPaid() {
+        // Given
+        Order order = order(OrderStatus.PAID);
+
+        // When
+        order.initCancel(List.of("Restaurant approval response was not received in time"));
+
+        // Then
+        assertEquals(OrderStatus.CANCELLING, order.getOrderStatus());
+    }
+
+    @Test
+    public void initCancel_ShouldThrowOrderDomainException_WhenOrderIsApprovedOrCancelled() {
+        // Given
+        Order approvedOrder = order(OrderStatus.APPROVED);
+        Order cancellingOrder = order(OrderStatus.CANCELLING);
+        Order cancelledOrder = order(OrderStatus.CANCELLED);
+
+        // When / Then
+        assertThrows(OrderDomainException.class, () -> approvedOrder.initCancel(List.of()));
+        assertThrows(OrderDomainException.class, () -> cancellingOrder.initCancel(List.of()));
+        assertThrows(OrderDomainException.class, () -> cancelledOrder.initCancel(List.of()));
+    }
+
+    @Test
+    public void cancel_ShouldAppendFailureMessages_WhenPendingOrderWasCancelling() {
+        // Given
+        Order order = order(OrderStatus.PENDING);
+        order.initCancel(List.of("Payment response was not received in time"));
+
+        // When
+        order.cancel(List.of("Payment is cancelled", ""));
+
+        // Then
+        assertEquals(OrderStatus.CANCELLED, order.getOrderStatus());
+        assertEquals(List.of("Payment response was not received in time", "Payment is cancelled"),
+                order.getFailureMessages());
+    }
+
+    private Order order(OrderStatus orderStatus) {
+        return Order.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .price(new Money(new BigDecimal("50.00")))
+                .items(List.of())
+                .orderStatus(orderStatus)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.service.KafkaConsumer;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerKafkaListener implements KafkaConsumer<CustomerAvroModel> {
+
+    private final CustomerMessageListener customerMessageListener;
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    @Override
+    @KafkaListener(
+            id = "${kafka-consumer-config.customer-group-id}",
+            topics = "${order-service.customer-topic-name}"
+    )
+    public void receive(@Payload List<CustomerAvroModel> messages,
+                        @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                        @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+        log.info("[{}] number of customer created messages received with keys [{}] partitions [{}] and offsets [{}]",
+                 messages.size(), keys, partitions, offsets);
+
+        customerMessageListener.customersCreated(messages.stream()
+                .map(orderMessagingDataMapper::customerAvroModelToCustomerModel)
+                .toList());
+    }
+}
@@ -2,12 +2,18 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
 
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import com.food.ordering.system.kafka.consumer.dispatcher.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.consumer.service.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -23,12 +29,19 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
+    private final MessageDeduplicator messageDeduplicator;
 
     @Override
     @KafkaListener(
             id = "${kafka-consumer-config.payment-consumer-group-id}",
             topics = "${order-service.payment-response-topic-name}"
     )
+    @KafkaListener(
+            id = "${kafka-consumer-config.payment-consumer-group-id}-retry",
+            topics = "#{@retryTopics.retryTopicNames('${order-service.payment-response-topic-name}')}",
+            autoStartup = "${kafka-retry-config.enabled}"
+    )
     public void receive(@Payload List<PaymentResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
@@ -36,19 +49,63 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
         log.info("[{}] number of payment responses received with keys [{}] partitions [{}] and offsets [{}]",
                  messages.size(), keys, partitions, offsets);
 
-        messages.forEach(paymentResponseAvroModel -> {
-            if (PaymentStatus.COMPLETED.equals(paymentResponseAvroModel.getPaymentStatus())) {
+        keyOrderedDispatcher.dispatchInBatches(messages, partitions, offsets,
+                PaymentResponseAvroModel::getOrderId, this::process);
+    }
+
+    private void process(List<PaymentResponseAvroModel> messages) {
+        List<PaymentResponse> paymentResponses = new ArrayList<>();
+        boolean completed = false;
+        for (PaymentResponseAvroModel paymentResponseAvroModel :
+                messageDeduplicator.filterProcessed(messages, PaymentResponseAvroModel::getId)) {
+            boolean paymentCompleted = PaymentStatus.COMPLETED.equals(paymentResponseAvroModel.getPaymentStatus());
+            if (paymentCompleted) {
                 log.info("Processing successful payment for order id [{}]", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCompleted(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
             } else if (PaymentStatus.CANCELLED.equals(paymentResponseAvroModel.getPaymentStatus()) ||
                     PaymentStatus.FAILED.equals(paymentResponseAvroModel.getPaymentStatus())) {
                 log.info("Processing unsuccessful payment for order id [{}] with failure messages [{}]",
                          paymentResponseAvroModel.getOrderId(),
                          String.join(FAILURE_MESSAGES_DELIMITER, paymentResponseAvroModel.getFailureMessages()));
-                paymentResponseMessageListener.paymentCancelled(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
+            } else {
+                continue;
+            }
+            if (paymentCompleted != completed) {
+                receiveInBatch(paymentResponses, completed);
+                paymentResponses = new ArrayList<>();
+                completed = paymentCompleted;
             }
-        });
+            paymentResponses.add(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
+        }
+        receiveInBatch(paymentResponses, completed);
+    }
+
+    private void receiveInBatch(List<PaymentResponse> paymentResponses, boolean completed) {
+        if (completed) {
+            receiveInBatch(paymentResponses,
+                    paymentResponseMessageListener::paymentsCompleted, paymentResponseMessageListener::paymentCompleted);
+        } else {
+            receiveInBatch(paymentResponses,
+                    paymentResponseMessageListener::paymentsCancelled, paymentResponseMessageListener::paymentCancelled);
+        }
+    }
+
+    private void receiveInBatch(List<PaymentResponse> paymentResponses,
+                                Function<List<PaymentResponse>, List<PaymentResponse>> batchHandler,
+                                Consumer<PaymentResponse> singleHandler) {
+        if (paymentResponses.isEmpty()) {
+            return;
+        }
+
+        List<PaymentResponse> failedPaymentResponses;
+        try {
+            failedPaymentResponses = messageDeduplicator.processOnceInBatch(paymentResponses,
+                    PaymentResponse::getId, PaymentResponse::getCreatedAd, batchHandler);
+        } catch (RuntimeException e) {
+            log.error("Batch of [{}] payment responses could not be processed, processing them one by one",
+                      paymentResponses.size(), e);
+            failedPaymentResponses = paymentResponses;
+        }
+        failedPaymentResponses.forEach(paymentResponse -> messageDeduplicator.processOnce(paymentResponse,
+                PaymentResponse::getId, PaymentResponse::getCreatedAd, singleHandler));
     }
 }
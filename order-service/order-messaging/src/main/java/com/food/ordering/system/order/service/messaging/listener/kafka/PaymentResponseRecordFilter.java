@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.filter.RoutingHeaderRecordFilter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopics;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class PaymentResponseRecordFilter extends RoutingHeaderRecordFilter {
+
+    public PaymentResponseRecordFilter(RetryTopics retryTopics, OrderServiceConfigData orderServiceConfigData) {
+        super(retryTopics, orderServiceConfigData.getPaymentResponseTopicName(),
+                Set.of(PaymentStatus.COMPLETED.name(), PaymentStatus.CANCELLED.name(), PaymentStatus.FAILED.name()));
+    }
+}
@@ -2,12 +2,18 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
 
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import com.food.ordering.system.kafka.consumer.dispatcher.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.consumer.service.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurant.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -23,12 +29,19 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
+    private final MessageDeduplicator messageDeduplicator;
 
     @Override
     @KafkaListener(
             id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${order-service.restaurant-approval-response-topic-name}"
     )
+    @KafkaListener(
+            id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry",
+            topics = "#{@retryTopics.retryTopicNames('${order-service.restaurant-approval-response-topic-name}')}",
+            autoStartup = "${kafka-retry-config.enabled}"
+    )
     public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
@@ -36,18 +49,66 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
         log.info("[{}] number of restaurant approval responses received with keys [{}] partitions [{}] and offsets [{}]",
                  messages.size(), keys, partitions, offsets);
 
-        messages.forEach(restaurantApprovalResponseAvroModel -> {
-            if (OrderApprovalStatus.APPROVED.equals(restaurantApprovalResponseAvroModel.getOrderApprovalStatus())) {
+        keyOrderedDispatcher.dispatchInBatches(messages, partitions, offsets,
+                RestaurantApprovalResponseAvroModel::getOrderId, this::process);
+    }
+
+    private void process(List<RestaurantApprovalResponseAvroModel> messages) {
+        List<RestaurantApprovalResponse> restaurantApprovalResponses = new ArrayList<>();
+        boolean approved = false;
+        for (RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel :
+                messageDeduplicator.filterProcessed(messages, RestaurantApprovalResponseAvroModel::getId)) {
+            boolean orderApproved =
+                    OrderApprovalStatus.APPROVED.equals(restaurantApprovalResponseAvroModel.getOrderApprovalStatus());
+            if (orderApproved) {
                 log.info("Processing approved order for order id [{}]", restaurantApprovalResponseAvroModel.getOrderId());
-                restaurantApprovalResponseMessageListener.orderApproved(
-                        orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
             } else if (OrderApprovalStatus.REJECTED.equals(restaurantApprovalResponseAvroModel.getOrderApprovalStatus())) {
                 log.info("Processing rejected order for order id [{}] with failure messages [{}]",
                          restaurantApprovalResponseAvroModel.getOrderId(),
                          String.join(FAILURE_MESSAGES_DELIMITER, restaurantApprovalResponseAvroModel.getFailureMessages()));
-                restaurantApprovalResponseMessageListener.orderRejected(
-                        orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
+            } else {
+                continue;
+            }
+            if (orderApproved != approved) {
+                receiveInBatch(restaurantApprovalResponses, approved);
+                restaurantApprovalResponses = new ArrayList<>();
+                approved = orderApproved;
             }
-        });
+            restaurantApprovalResponses.add(
+                    orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
+        }
+        receiveInBatch(restaurantApprovalResponses, approved);
+    }
+
+    private void receiveInBatch(List<RestaurantApprovalResponse> restaurantApprovalResponses, boolean approved) {
+        if (approved) {
+            receiveInBatch(restaurantApprovalResponses,
+                    restaurantApprovalResponseMessageListener::ordersApproved,
+                    restaurantApprovalResponseMessageListener::orderApproved);
+        } else {
+            receiveInBatch(restaurantApprovalResponses,
+                    restaurantApprovalResponseMessageListener::ordersRejected,
+                    restaurantApprovalResponseMessageListener::orderRejected);
+        }
+    }
+
+    private void receiveInBatch(List<RestaurantApprovalResponse> restaurantApprovalResponses,
+                                Function<List<RestaurantApprovalResponse>, List<RestaurantApprovalResponse>> batchHandler,
+                                Consumer<RestaurantApprovalResponse> singleHandler) {
+        if (restaurantApprovalResponses.isEmpty()) {
+            return;
+        }
+
+        List<RestaurantApprovalResponse> failedResponses;
+        try {
+            failedResponses = messageDeduplicator.processOnceInBatch(restaurantApprovalResponses,
+                    RestaurantApprovalResponse::getId, RestaurantApprovalResponse::getCreatedAt, batchHandler);
+        } catch (RuntimeException e) {
+            log.error("Batch of [{}] restaurant approval responses could not be processed, processing them one by one",
+                      restaurantApprovalResponses.size(), e);
+            failedResponses = restaurantApprovalResponses;
+        }
+        failedResponses.forEach(restaurantApprovalResponse -> messageDeduplicator.processOnce(restaurantApprovalResponse,
+                RestaurantApprovalResponse::getId, RestaurantApprovalResponse::getCreatedAt, singleHandler));
     }
 }
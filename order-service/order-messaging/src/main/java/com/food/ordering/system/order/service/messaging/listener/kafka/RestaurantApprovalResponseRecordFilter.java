@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.filter.RoutingHeaderRecordFilter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopics;
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class RestaurantApprovalResponseRecordFilter extends RoutingHeaderRecordFilter {
+
+    public RestaurantApprovalResponseRecordFilter(RetryTopics retryTopics, OrderServiceConfigData orderServiceConfigData) {
+        super(retryTopics, orderServiceConfigData.getRestaurantApprovalResponseTopicName(),
+                Set.of(OrderApprovalStatus.APPROVED.name(), OrderApprovalStatus.REJECTED.name()));
+    }
+}
@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.messaging.mapper;
 
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
@@ -9,6 +10,8 @@ import com.food.ordering.system.kafka.order.avro.model.Product;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.producer.header.RoutingHeaders;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -26,7 +29,7 @@ public class OrderMessagingDataMapper {
         Order order = orderCreatedEvent.getOrder();
         return PaymentRequestAvroModel.newBuilder()
                 .setId(UUID.randomUUID().toString())
-                .setSagaId("")
+                .setSagaId(order.getId().getValue().toString())
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
                 .setPrice(order.getPrice().getAmount())
@@ -39,7 +42,7 @@ public class OrderMessagingDataMapper {
         Order order = orderCancelledEvent.getOrder();
         return PaymentRequestAvroModel.newBuilder()
                 .setId(UUID.randomUUID().toString())
-                .setSagaId("")
+                .setSagaId(order.getId().getValue().toString())
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
                 .setPrice(order.getPrice().getAmount())
@@ -52,7 +55,7 @@ public class OrderMessagingDataMapper {
         Order order = orderPaidEvent.getOrder();
         return RestaurantApprovalRequestAvroModel.newBuilder()
                 .setId(UUID.randomUUID().toString())
-                .setSagaId("")
+                .setSagaId(order.getId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
                 .setRestaurantId(order.getRestaurantId().getValue().toString())
                 .setProducts(order.getItems().stream()
@@ -67,6 +70,19 @@ public class OrderMessagingDataMapper {
                 .build();
     }
 
+    public RoutingHeaders paymentRequestAvroModelToRoutingHeaders(String eventType,
+                                                                  PaymentRequestAvroModel paymentRequestAvroModel) {
+        return new RoutingHeaders(UUID.fromString(paymentRequestAvroModel.getId()), eventType,
+                paymentRequestAvroModel.getPaymentOrderStatus().name(), UUID.fromString(paymentRequestAvroModel.getOrderId()));
+    }
+
+    public RoutingHeaders restaurantApprovalRequestAvroModelToRoutingHeaders(String eventType,
+                                                                             RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel) {
+        return new RoutingHeaders(UUID.fromString(restaurantApprovalRequestAvroModel.getId()), eventType,
+                restaurantApprovalRequestAvroModel.getRestaurantOrderStatus().name(),
+                UUID.fromString(restaurantApprovalRequestAvroModel.getOrderId()));
+    }
+
     public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
         return PaymentResponse.builder()
                 .id(paymentResponseAvroModel.getId())
@@ -92,4 +108,13 @@ public class OrderMessagingDataMapper {
                 .failureMessages(approvalResponseAvroModel.getFailureMessages())
                 .build();
     }
+
+    public CustomerModel customerAvroModelToCustomerModel(CustomerAvroModel customerAvroModel) {
+        return CustomerModel.builder()
+                .id(customerAvroModel.getId())
+                .username(customerAvroModel.getUsername())
+                .firstName(customerAvroModel.getFirstName())
+                .lastName(customerAvroModel.getLastName())
+                .build();
+    }
 }
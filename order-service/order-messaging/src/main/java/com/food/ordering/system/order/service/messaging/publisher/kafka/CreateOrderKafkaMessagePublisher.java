@@ -1,12 +1,11 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
-import com.food.ordering.system.kafka.producer.util.KafkaMessageHelper;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.service.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,35 +15,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequestMessagePublisher {
 
-    private final KafkaMessageHelper kafkaMessageHelper;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final OutboxWriter outboxWriter;
 
     @Override
     public void publish(OrderCreatedEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
         log.info("Received OrderCreatedEvent for order id [{}]", orderId);
 
-        try {
-            PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
-                    .orderCreatedEventToPaymentRequestAvroModel(domainEvent);
+        PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
+                .orderCreatedEventToPaymentRequestAvroModel(domainEvent);
 
-            kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
-                    orderId,
-                    paymentRequestAvroModel,
-                    kafkaMessageHelper.getKafkaCallback(
-                            orderServiceConfigData.getPaymentRequestTopicName(),
-                            orderId,
-                            paymentRequestAvroModel,
-                            "PaymentRequestAvroModel"
-                    )
-            );
-
-            log.info("PaymentRequestAvroModel sent to Kafka for order id [{}]", orderId);
-        } catch (Exception e) {
-            log.error("Error while sending PaymentRequestAvroModel message to Kafka with order id [{}] error [{}]",
-                    orderId, e.getMessage());
-        }
+        outboxWriter.save(orderServiceConfigData.getPaymentRequestTopicName(), orderId, paymentRequestAvroModel,
+                orderMessagingDataMapper.paymentRequestAvroModelToRoutingHeaders(
+                        domainEvent.getClass().getSimpleName(), paymentRequestAvroModel).toHeaders());
+        log.info("PaymentRequestAvroModel saved to outbox for order id [{}]", orderId);
     }
 }
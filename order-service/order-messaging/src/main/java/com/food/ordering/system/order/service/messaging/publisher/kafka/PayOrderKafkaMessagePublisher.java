@@ -1,12 +1,11 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
-import com.food.ordering.system.kafka.producer.util.KafkaMessageHelper;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurant.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.service.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,34 +15,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
 
-    private final KafkaMessageHelper kafkaMessageHelper;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final OutboxWriter outboxWriter;
 
     @Override
     public void publish(OrderPaidEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
         log.info("Received OrderPaidEvent for order id [{}]", orderId);
 
-        try {
-            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
-                    .orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
+        RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
+                .orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
 
-            kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-                    orderId,
-                    restaurantApprovalRequestAvroModel,
-                    kafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-                            orderId,
-                            restaurantApprovalRequestAvroModel,
-                            "RestaurantApprovalRequestAvroModel"
-                    )
-            );
-
-            log.info("RestaurantApprovalRequestAvroModel sent to Kafka for order id [{}]", orderId);
-        } catch (Exception e) {
-            log.error("Error while sending RestaurantApprovalRequestAvroModel message to Kafka with order id [{}] error [{}]",
-                    orderId, e.getMessage());
-        }
+        outboxWriter.save(orderServiceConfigData.getRestaurantApprovalRequestTopicName(), orderId, restaurantApprovalRequestAvroModel,
+                orderMessagingDataMapper.restaurantApprovalRequestAvroModelToRoutingHeaders(
+                        domainEvent.getClass().getSimpleName(), restaurantApprovalRequestAvroModel).toHeaders());
+        log.info("RestaurantApprovalRequestAvroModel saved to outbox for order id [{}]", orderId);
     }
 }
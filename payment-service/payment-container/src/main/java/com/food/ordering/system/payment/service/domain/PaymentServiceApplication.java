@@ -5,8 +5,16 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
-@EntityScan(basePackages = "com.food.ordering.system.payment.service.dataaccess")
-@EnableJpaRepositories(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@EntityScan(basePackages = {
+        "com.food.ordering.system.payment.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
+})
+@EnableJpaRepositories(basePackages = {
+        "com.food.ordering.system.payment.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
+})
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
 public class PaymentServiceApplication {
 
@@ -18,7 +18,8 @@ CREATE TABLE "payment".payments
     price       numeric(10, 2)           NOT NULL,
     created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
     status      payment_status           NOT NULL,
-    CONSTRAINT payments_pkey PRIMARY KEY (id)
+    CONSTRAINT payments_pkey PRIMARY KEY (id),
+    CONSTRAINT payments_order_id_key UNIQUE (order_id)
 );
 
 DROP TABLE IF EXISTS "payment".credit_entry CASCADE;
@@ -44,4 +45,100 @@ CREATE TABLE "payment".credit_history
     amount      numeric(10, 2)   NOT NULL,
     type        transaction_type NOT NULL,
     CONSTRAINT credit_history_pkey PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+
+CREATE INDEX credit_history_customer_id_type_idx
+    ON "payment".credit_history (customer_id, type);
+
+DROP TABLE IF EXISTS "payment".credit_ledger CASCADE;
+
+CREATE TABLE "payment".credit_ledger
+(
+    customer_id         uuid           NOT NULL,
+    total_credit_amount numeric(19, 2) NOT NULL,
+    total_debit_amount  numeric(19, 2) NOT NULL,
+    version             integer        NOT NULL,
+    CONSTRAINT credit_ledger_pkey PRIMARY KEY (customer_id)
+);
+
+DROP TABLE IF EXISTS "payment".outbox CASCADE;
+
+DROP SEQUENCE IF EXISTS "payment".outbox_id_seq;
+
+CREATE SEQUENCE "payment".outbox_id_seq INCREMENT BY 1;
+
+CREATE TABLE "payment".outbox
+(
+    id            bigint                                         NOT NULL,
+    topic         character varying COLLATE pg_catalog."default" NOT NULL,
+    message_key   character varying COLLATE pg_catalog."default" NOT NULL,
+    payload_type  character varying COLLATE pg_catalog."default" NOT NULL,
+    payload       bytea                                          NOT NULL,
+    headers       bytea,
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    outbox_status character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX outbox_started_id_idx
+    ON "payment".outbox (id)
+    WHERE outbox_status = 'STARTED';
+
+DROP PUBLICATION IF EXISTS payment_outbox_publication;
+
+CREATE PUBLICATION payment_outbox_publication FOR TABLE "payment".outbox WITH (publish = 'insert');
+
+DROP TABLE IF EXISTS "payment".processed_messages CASCADE;
+
+CREATE TABLE "payment".processed_messages
+(
+    message_id   uuid                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (message_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE "payment".processed_messages_default PARTITION OF "payment".processed_messages DEFAULT;
+
+DROP function IF EXISTS "payment".maintain_processed_messages_partitions;
+
+CREATE OR replace function "payment".maintain_processed_messages_partitions(retention_days integer, precreate_days integer)
+    returns integer
+AS
+'
+    DECLARE
+        today         date    := (now() AT TIME ZONE ''UTC'')::date;
+        first_day     date    := today - retention_days;
+        partition_day date;
+        expired       record;
+        dropped       integer := 0;
+    BEGIN
+        FOR partition_day IN SELECT generate_series(first_day, today + precreate_days, interval ''1 day'')::date
+            LOOP
+                BEGIN
+                    EXECUTE format(''CREATE TABLE IF NOT EXISTS "payment".%I PARTITION OF "payment".processed_messages '' ||
+                                   ''FOR VALUES FROM (%L) TO (%L)'',
+                                   ''processed_messages_p'' || to_char(partition_day, ''YYYYMMDD''),
+                                   partition_day::timestamp AT TIME ZONE ''UTC'',
+                                   (partition_day + 1)::timestamp AT TIME ZONE ''UTC'');
+                EXCEPTION
+                    WHEN others THEN
+                        RAISE WARNING ''Processed messages partition of % could not be created: %'', partition_day, SQLERRM;
+                END;
+            END LOOP;
+        FOR expired IN SELECT c.relname
+                       FROM pg_inherits i
+                                JOIN pg_class c ON c.oid = i.inhrelid
+                       WHERE i.inhparent = ''"payment".processed_messages''::regclass
+                         AND c.relname ~ ''^processed_messages_p[0-9]{8}$''
+                         AND c.relname < ''processed_messages_p'' || to_char(first_day, ''YYYYMMDD'')
+            LOOP
+                EXECUTE format(''DROP TABLE "payment".%I'', expired.relname);
+                dropped := dropped + 1;
+            END LOOP;
+        DELETE FROM "payment".processed_messages_default
+        WHERE created_at < first_day::timestamp AT TIME ZONE ''UTC'';
+        RETURN dropped;
+    END;
+' LANGUAGE plpgsql;
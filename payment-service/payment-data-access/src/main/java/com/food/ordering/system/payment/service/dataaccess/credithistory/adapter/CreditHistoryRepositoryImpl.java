@@ -1,11 +1,13 @@
 package com.food.ordering.system.payment.service.dataaccess.credithistory.adapter;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
 import com.food.ordering.system.payment.service.dataaccess.credithistory.mapper.CreditHistoryDataAccessMapper;
 import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.CreditHistoryJpaRepository;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -37,4 +39,10 @@ public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
                                 .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
                                 .collect(Collectors.toList()));
     }
+
+    @Override
+    public Money sumAmountByCustomerIdAndTransactionType(CustomerId customerId, TransactionType transactionType) {
+        return new Money(creditHistoryJpaRepository
+                .sumAmountByCustomerIdAndType(customerId.getValue(), transactionType));
+    }
 }
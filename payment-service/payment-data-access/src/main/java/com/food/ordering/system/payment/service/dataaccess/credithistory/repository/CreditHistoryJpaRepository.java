@@ -1,8 +1,12 @@
 package com.food.ordering.system.payment.service.dataaccess.credithistory.repository;
 
 import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +14,9 @@ import java.util.UUID;
 public interface CreditHistoryJpaRepository extends JpaRepository<CreditHistoryEntity, UUID> {
 
     Optional<List<CreditHistoryEntity>> findByCustomerId(UUID customerId);
+
+    @Query("SELECT COALESCE(SUM(h.amount), 0) FROM CreditHistoryEntity h " +
+            "WHERE h.customerId = :customerId AND h.type = :type")
+    BigDecimal sumAmountByCustomerIdAndType(@Param("customerId") UUID customerId,
+                                            @Param("type") TransactionType type);
 }
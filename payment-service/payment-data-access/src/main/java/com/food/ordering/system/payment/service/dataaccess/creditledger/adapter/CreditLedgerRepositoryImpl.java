@@ -0,0 +1,46 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.mapper.CreditLedgerDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.repository.CreditLedgerJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CreditLedgerRepositoryImpl implements CreditLedgerRepository {
+
+    private final CreditLedgerJpaRepository creditLedgerJpaRepository;
+    private final CreditLedgerDataAccessMapper creditLedgerDataAccessMapper;
+
+    @Override
+    public CreditLedger save(CreditLedger creditLedger) {
+        return creditLedgerDataAccessMapper.creditLedgerEntityToCreditLedger(creditLedgerJpaRepository
+                .save(creditLedgerDataAccessMapper.creditLedgerToCreditLedgerEntity(creditLedger)));
+    }
+
+    @Override
+    public void insertIfAbsent(CreditLedger creditLedger) {
+        creditLedgerJpaRepository.insertIfAbsent(creditLedger.getCustomerId().getValue(),
+                creditLedger.getTotalCreditAmount().getAmount(),
+                creditLedger.getTotalDebitAmount().getAmount());
+    }
+
+    @Override
+    public Optional<CreditLedger> findByCustomerId(CustomerId customerId) {
+        return creditLedgerJpaRepository.findById(customerId.getValue())
+                .map(creditLedgerDataAccessMapper::creditLedgerEntityToCreditLedger);
+    }
+
+    @Override
+    public List<CustomerId> findCustomerIdsAfter(CustomerId afterCustomerId, int limit) {
+        return creditLedgerJpaRepository.findCustomerIdsAfter(afterCustomerId.getValue(), limit).stream()
+                .map(CustomerId::new)
+                .toList();
+    }
+}
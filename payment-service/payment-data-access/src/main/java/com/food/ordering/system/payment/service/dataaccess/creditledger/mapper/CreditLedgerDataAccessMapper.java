@@ -0,0 +1,29 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.mapper;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CreditLedgerDataAccessMapper {
+
+    public CreditLedger creditLedgerEntityToCreditLedger(CreditLedgerEntity creditLedgerEntity) {
+        return CreditLedger.builder()
+                .customerId(new CustomerId(creditLedgerEntity.getCustomerId()))
+                .totalCreditAmount(new Money(creditLedgerEntity.getTotalCreditAmount()))
+                .totalDebitAmount(new Money(creditLedgerEntity.getTotalDebitAmount()))
+                .version(creditLedgerEntity.getVersion())
+                .build();
+    }
+
+    public CreditLedgerEntity creditLedgerToCreditLedgerEntity(CreditLedger creditLedger) {
+        return CreditLedgerEntity.builder()
+                .customerId(creditLedger.getCustomerId().getValue())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount().getAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount().getAmount())
+                .version(creditLedger.getVersion())
+                .build();
+    }
+}
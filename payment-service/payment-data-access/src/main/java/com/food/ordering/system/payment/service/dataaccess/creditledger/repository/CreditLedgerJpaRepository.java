@@ -0,0 +1,26 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface CreditLedgerJpaRepository extends JpaRepository<CreditLedgerEntity, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO credit_ledger (customer_id, total_credit_amount, total_debit_amount, version) " +
+            "VALUES (:customerId, :totalCreditAmount, :totalDebitAmount, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId,
+                       @Param("totalCreditAmount") BigDecimal totalCreditAmount,
+                       @Param("totalDebitAmount") BigDecimal totalDebitAmount);
+
+    @Query(value = "SELECT customer_id FROM credit_ledger WHERE customer_id > :afterCustomerId " +
+            "ORDER BY customer_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findCustomerIdsAfter(@Param("afterCustomerId") UUID afterCustomerId,
+                                    @Param("limit") int limit);
+}
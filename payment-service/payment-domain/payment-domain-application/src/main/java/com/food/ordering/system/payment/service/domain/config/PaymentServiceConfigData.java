@@ -11,4 +11,7 @@ public class PaymentServiceConfigData {
 
     private String paymentRequestTopicName;
     private String paymentResponseTopicName;
+    private Boolean creditLedgerReconcilerEnabled;
+    private Long creditLedgerReconcilerFixedDelayMs;
+    private Integer creditLedgerReconcilerBatchSize;
 }
@@ -0,0 +1,64 @@
+package com.food.ordering.system.payment.service.domain.ledger;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreditLedgerReconcileHelper {
+
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditEntryRepository creditEntryRepository;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public boolean reconcile(CustomerId customerId) {
+        Optional<CreditLedger> creditLedgerOptional = creditLedgerRepository.findByCustomerId(customerId);
+        if (creditLedgerOptional.isEmpty()) {
+            return true;
+        }
+
+        CreditLedger creditLedger = creditLedgerOptional.get();
+        Money totalCreditHistory =
+                creditHistoryRepository.sumAmountByCustomerIdAndTransactionType(customerId, TransactionType.CREDIT);
+        Money totalDebitHistory =
+                creditHistoryRepository.sumAmountByCustomerIdAndTransactionType(customerId, TransactionType.DEBIT);
+        boolean consistent = true;
+
+        if (!creditLedger.getTotalCreditAmount().equals(totalCreditHistory)
+                || !creditLedger.getTotalDebitAmount().equals(totalDebitHistory)) {
+            log.error("Credit ledger of customer [{}] has credit [{}] and debit [{}] but credit history has credit [{}] and debit [{}]",
+                    customerId.getValue(),
+                    creditLedger.getTotalCreditAmount().getAmount(),
+                    creditLedger.getTotalDebitAmount().getAmount(),
+                    totalCreditHistory.getAmount(),
+                    totalDebitHistory.getAmount());
+            consistent = false;
+        }
+
+        Optional<CreditEntry> creditEntry = creditEntryRepository.findByCustomerId(customerId);
+        if (creditEntry.isPresent() && !creditEntry.get().getTotalCreditAmount().equals(creditLedger.getBalance())) {
+            log.error("Credit ledger balance [{}] is not equal to current credit [{}] for customer [{}]",
+                    creditLedger.getBalance().getAmount(),
+                    creditEntry.get().getTotalCreditAmount().getAmount(),
+                    customerId.getValue());
+            consistent = false;
+        }
+
+        return consistent;
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.domain.ledger;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "payment-service", name = "credit-ledger-reconciler-enabled", havingValue = "true")
+public class CreditLedgerReconciler {
+
+    private static final CustomerId MIN_CUSTOMER_ID = new CustomerId(new UUID(0L, 0L));
+
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditLedgerReconcileHelper creditLedgerReconcileHelper;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    @Scheduled(fixedDelayString = "${payment-service.credit-ledger-reconciler-fixed-delay-ms}",
+            initialDelayString = "${payment-service.credit-ledger-reconciler-fixed-delay-ms}")
+    public void reconcile() {
+        CustomerId afterCustomerId = MIN_CUSTOMER_ID;
+        int checked = 0;
+        int inconsistent = 0;
+        List<CustomerId> customerIds;
+
+        do {
+            customerIds = creditLedgerRepository.findCustomerIdsAfter(afterCustomerId,
+                    paymentServiceConfigData.getCreditLedgerReconcilerBatchSize());
+            for (CustomerId customerId : customerIds) {
+                try {
+                    if (!creditLedgerReconcileHelper.reconcile(customerId)) {
+                        inconsistent++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Could not reconcile credit ledger of customer [{}]", customerId.getValue(), e);
+                }
+                afterCustomerId = customerId;
+            }
+            checked += customerIds.size();
+        } while (customerIds.size() == paymentServiceConfigData.getCreditLedgerReconcilerBatchSize());
+
+        log.info("[{}] credit ledgers are reconciled against credit history, [{}] are inconsistent",
+                checked, inconsistent);
+    }
+}
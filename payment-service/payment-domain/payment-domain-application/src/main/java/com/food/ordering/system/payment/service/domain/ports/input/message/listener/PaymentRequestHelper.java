@@ -1,10 +1,12 @@
 package com.food.ordering.system.payment.service.domain.ports.input.message.listener;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.PaymentDomainService;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationException;
@@ -14,7 +16,9 @@ import com.food.ordering.system.payment.service.domain.ports.output.message.publ
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -35,6 +39,7 @@ public class PaymentRequestHelper {
     private final PaymentRepository paymentRepository;
     private final CreditEntryRepository creditEntryRepository;
     private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditLedgerRepository creditLedgerRepository;
     private final PaymentCompletedMessagePublisher paymentCompletedMessagePublisher;
     private final PaymentCancelledMessagePublisher paymentCancelledMessagePublisher;
     private final PaymentFailedMessagePublisher paymentFailedMessagePublisher;
@@ -43,16 +48,24 @@ public class PaymentRequestHelper {
     public PaymentEvent persistPayment(PaymentRequest paymentRequest) {
         log.info("Received payment complete event for order with id [{}]", paymentRequest.getOrderId());
 
+        Optional<Payment> existingPayment = paymentRepository.findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
+        if (existingPayment.isPresent() && existingPayment.get().getPaymentStatus() == PaymentStatus.CANCELLED) {
+            log.warn("Payment with order id [{}] was cancelled before it was requested, not charging the customer",
+                    paymentRequest.getOrderId());
+            return paymentDomainService.rejectCancelledPayment(existingPayment.get(), paymentCancelledMessagePublisher);
+        }
+
         Payment payment = paymentDataMapper.paymentRequestToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(payment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
 
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService.validateAndInitializePayment(
-                payment, creditEntry, creditHistories, failureMessages, paymentCompletedMessagePublisher, paymentFailedMessagePublisher
+                payment, creditEntry, creditLedger, creditHistories, failureMessages, paymentCompletedMessagePublisher, paymentFailedMessagePublisher
         );
 
-        persistDatabaseObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDatabaseObjects(payment, creditEntry, creditLedger, creditHistories, failureMessages);
 
         return paymentEvent;
     }
@@ -63,21 +76,25 @@ public class PaymentRequestHelper {
 
         Optional<Payment> paymentOptional = paymentRepository.findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
         if (paymentOptional.isEmpty()) {
-            log.error("Payment with order id [{}] could not be found", paymentRequest.getOrderId());
-            throw new PaymentApplicationException(
-                    String.format("Payment with order id [%s] could not be found", paymentRequest.getOrderId()));
+            log.warn("Payment with order id [{}] could not be found, cancelling it without a refund",
+                    paymentRequest.getOrderId());
+            Payment payment = paymentDataMapper.paymentRequestToPayment(paymentRequest);
+            PaymentEvent paymentEvent = paymentDomainService.cancelUnpaidPayment(payment, paymentCancelledMessagePublisher);
+            paymentRepository.save(payment);
+            return paymentEvent;
         }
 
         Payment payment = paymentOptional.get();
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(payment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
 
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService.validateAndCancelPayment(
-                payment, creditEntry, creditHistories, failureMessages, paymentCancelledMessagePublisher, paymentFailedMessagePublisher
+                payment, creditEntry, creditLedger, creditHistories, failureMessages, paymentCancelledMessagePublisher, paymentFailedMessagePublisher
         );
 
-        persistDatabaseObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDatabaseObjects(payment, creditEntry, creditLedger, creditHistories, failureMessages);
 
         return paymentEvent;
     }
@@ -95,28 +112,37 @@ public class PaymentRequestHelper {
         return creditEntry.get();
     }
 
-    private List<CreditHistory> getCreditHistory(CustomerId customerId) {
-        Optional<List<CreditHistory>> creditHistories = creditHistoryRepository.findByCustomerId(customerId);
-
-        if (creditHistories.isEmpty()) {
-            log.error("Could not find credit histories for customer [{}]", customerId.getValue());
-            throw new PaymentApplicationException(
-                    String.format("Could not find credit histories for customer [%s]", customerId.getValue())
-            );
+    private CreditLedger getCreditLedger(CustomerId customerId) {
+        Optional<CreditLedger> creditLedger = creditLedgerRepository.findByCustomerId(customerId);
+        if (creditLedger.isPresent()) {
+            return creditLedger.get();
         }
 
-        return creditHistories.get();
+        log.info("Credit ledger of customer [{}] not found, building it from credit history", customerId.getValue());
+        creditLedgerRepository.insertIfAbsent(CreditLedger.builder()
+                .customerId(customerId)
+                .totalCreditAmount(creditHistoryRepository
+                        .sumAmountByCustomerIdAndTransactionType(customerId, TransactionType.CREDIT))
+                .totalDebitAmount(creditHistoryRepository
+                        .sumAmountByCustomerIdAndTransactionType(customerId, TransactionType.DEBIT))
+                .build());
+
+        return creditLedgerRepository.findByCustomerId(customerId)
+                .orElseThrow(() -> new PaymentApplicationException(
+                        String.format("Could not find credit ledger for customer [%s]", customerId.getValue())));
     }
 
     private void persistDatabaseObjects(Payment payment,
                                         CreditEntry creditEntry,
+                                        CreditLedger creditLedger,
                                         List<CreditHistory> creditHistories,
                                         List<String> failureMessages) {
         paymentRepository.save(payment);
 
         if (failureMessages.isEmpty()) {
             creditEntryRepository.save(creditEntry);
-            creditHistoryRepository.save(creditHistories.get(creditHistories.size() - 1));
+            creditLedgerRepository.save(creditLedger);
+            creditHistories.forEach(creditHistoryRepository::save);
         }
     }
 }
@@ -5,6 +5,7 @@ import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -14,12 +15,14 @@ public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageL
     private final PaymentRequestHelper paymentRequestHelper;
 
     @Override
+    @Transactional
     public void completePayment(PaymentRequest paymentRequest) {
         PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest);
         fireEvent(paymentEvent);
     }
 
     @Override
+    @Transactional
     public void cancelPayment(PaymentRequest paymentRequest) {
         PaymentEvent paymentEvent = paymentRequestHelper.persistCancelPayment(paymentRequest);
         fireEvent(paymentEvent);
@@ -1,7 +1,9 @@
 package com.food.ordering.system.payment.service.domain.ports.output.repository;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,6 @@ public interface CreditHistoryRepository {
     CreditHistory save(CreditHistory creditHistory);
 
     Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId);
+
+    Money sumAmountByCustomerIdAndTransactionType(CustomerId customerId, TransactionType transactionType);
 }
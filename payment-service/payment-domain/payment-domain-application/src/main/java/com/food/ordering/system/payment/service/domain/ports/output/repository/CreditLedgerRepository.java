@@ -0,0 +1,18 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CreditLedgerRepository {
+
+    CreditLedger save(CreditLedger creditLedger);
+
+    void insertIfAbsent(CreditLedger creditLedger);
+
+    Optional<CreditLedger> findByCustomerId(CustomerId customerId);
+
+    List<CustomerId> findCustomerIdsAfter(CustomerId afterCustomerId, int limit);
+}
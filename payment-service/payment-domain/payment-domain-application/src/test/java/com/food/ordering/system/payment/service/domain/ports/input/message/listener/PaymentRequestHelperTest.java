@@ -0,0 +1,120 @@
+package com.food.ordering.system.payment.service.domain.ports.input.message.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PaymentRequestHelperTest {
+
+    private static final UUID ORDER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb17");
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final CreditEntryRepository creditEntryRepository = mock(CreditEntryRepository.class);
+    private final CreditHistoryRepository creditHistoryRepository = mock(CreditHistoryRepository.class);
+    private final CreditLedgerRepository creditLedgerRepository = mock(CreditLedgerRepository.class);
+    private final PaymentRequestHelper paymentRequestHelper = new PaymentRequestHelper(
+            new PaymentDomainServiceImpl(new UuidV7IdGenerator()),
+            new PaymentDataMapper(),
+            paymentRepository,
+            creditEntryRepository,
+            creditHistoryRepository,
+            creditLedgerRepository,
+            mock(PaymentCompletedMessagePublisher.class),
+            mock(PaymentCancelledMessagePublisher.class),
+            mock(PaymentFailedMessagePublisher.class));
+
+    @Test
+    public void persistPayment_ShouldNotChargeCustomer_WhenPaymentWasCancelledBeforeItWasRequested() {
+        // Given
+        when(paymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.empty());
+        paymentRequestHelper.persistCancelPayment(paymentRequest(PaymentOrderStatus.CANCELLED));
+        ArgumentCaptor<Payment> cancelledPayment = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository).save(cancelledPayment.capture());
+        when(paymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(cancelledPayment.getValue()));
+
+        // When
+        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest(PaymentOrderStatus.PENDING));
+
+        // Then
+        assertInstanceOf(PaymentCancelledEvent.class, paymentEvent);
+        assertEquals(PaymentStatus.CANCELLED, paymentEvent.getPayment().getPaymentStatus());
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(creditEntryRepository, never()).findByCustomerId(any(CustomerId.class));
+        verify(creditEntryRepository, never()).save(any(CreditEntry.class));
+        verify(creditLedgerRepository, never()).save(any(CreditLedger.class));
+    }
+
+    @Test
+    public void persistPayment_ShouldChargeCustomer_WhenNoPaymentExists() {
+        // Given
+        when(paymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.empty());
+        CreditEntry creditEntry = CreditEntry.builder()
+                .id(new CreditEntryId(UUID.randomUUID()))
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .totalCreditAmount(Money.ofCents(10_000))
+                .build();
+        when(creditEntryRepository.findByCustomerId(new CustomerId(CUSTOMER_ID))).thenReturn(Optional.of(creditEntry));
+        when(creditLedgerRepository.findByCustomerId(new CustomerId(CUSTOMER_ID))).thenReturn(Optional.of(
+                CreditLedger.builder()
+                        .customerId(new CustomerId(CUSTOMER_ID))
+                        .totalCreditAmount(Money.ofCents(10_000))
+                        .totalDebitAmount(Money.ZERO)
+                        .build()));
+
+        // When
+        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest(PaymentOrderStatus.PENDING));
+
+        // Then
+        assertInstanceOf(PaymentCompletedEvent.class, paymentEvent);
+        assertEquals(Money.ofCents(7_500), creditEntry.getTotalCreditAmount());
+        verify(paymentRepository).save(paymentEvent.getPayment());
+        verify(creditEntryRepository).save(creditEntry);
+    }
+
+    private PaymentRequest paymentRequest(PaymentOrderStatus paymentOrderStatus) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId("")
+                .orderId(ORDER_ID.toString())
+                .customerId(CUSTOMER_ID.toString())
+                .price(new BigDecimal("25.00"))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(paymentOrderStatus)
+                .build();
+    }
+}
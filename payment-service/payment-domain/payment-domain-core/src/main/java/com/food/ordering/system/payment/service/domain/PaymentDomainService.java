@@ -3,6 +3,7 @@ package com.food.ordering.system.payment.service.domain;
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -15,6 +16,7 @@ public interface PaymentDomainService {
 
     PaymentEvent validateAndInitializePayment(Payment payment,
                                               CreditEntry creditEntry,
+                                              CreditLedger creditLedger,
                                               List<CreditHistory> creditHistories,
                                               List<String> failureMessages,
                                               DomainEventPublisher<PaymentCompletedEvent> completedEventPublisher,
@@ -22,9 +24,16 @@ public interface PaymentDomainService {
 
     PaymentEvent validateAndCancelPayment(Payment payment,
                                           CreditEntry creditEntry,
+                                          CreditLedger creditLedger,
                                           List<CreditHistory> creditHistories,
                                           List<String> failureMessages,
                                           DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher,
                                           DomainEventPublisher<PaymentFailedEvent> failedEventPublisher);
 
+    PaymentEvent cancelUnpaidPayment(Payment payment,
+                                     DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher);
+
+    PaymentEvent rejectCancelledPayment(Payment cancelledPayment,
+                                        DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher);
+
 }
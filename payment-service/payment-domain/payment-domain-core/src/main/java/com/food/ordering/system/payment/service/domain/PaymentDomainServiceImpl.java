@@ -1,10 +1,11 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -17,28 +18,34 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
 
 @Slf4j
 public class PaymentDomainServiceImpl implements PaymentDomainService {
 
+    private final IdGenerator idGenerator;
+
+    public PaymentDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public PaymentEvent validateAndInitializePayment(Payment payment,
                                                      CreditEntry creditEntry,
+                                                     CreditLedger creditLedger,
                                                      List<CreditHistory> creditHistories,
                                                      List<String> failureMessages,
                                                      DomainEventPublisher<PaymentCompletedEvent> completedEventPublisher,
                                                      DomainEventPublisher<PaymentFailedEvent> failedEventPublisher) {
         payment.validatePayment(failureMessages);
-        payment.initializePayment();
+        payment.initializePayment(idGenerator);
 
         validateCreditEntry(payment, creditEntry, failureMessages);
         subtractCreditEntry(payment, creditEntry);
 
-        updateCreditHistory(payment, creditHistories, TransactionType.DEBIT);
-        validateCreditHistory(creditEntry, creditHistories, failureMessages);
+        updateCreditHistory(payment, creditLedger, creditHistories, TransactionType.DEBIT);
+        validateCreditLedger(creditEntry, creditLedger, failureMessages);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is initiated for order id [{}]", payment.getOrderId().getValue());
@@ -54,13 +61,14 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     @Override
     public PaymentEvent validateAndCancelPayment(Payment payment,
                                                  CreditEntry creditEntry,
+                                                 CreditLedger creditLedger,
                                                  List<CreditHistory> creditHistories,
                                                  List<String> failureMessages,
                                                  DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher,
                                                  DomainEventPublisher<PaymentFailedEvent> failedEventPublisher) {
         payment.validatePayment(failureMessages);
         addCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.CREDIT);
+        updateCreditHistory(payment, creditLedger, creditHistories, TransactionType.CREDIT);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is cancelled for order id [{}]", payment.getOrderId().getValue());
@@ -73,6 +81,24 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
         }
     }
 
+    @Override
+    public PaymentEvent cancelUnpaidPayment(Payment payment,
+                                            DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher) {
+        payment.initializePayment(idGenerator);
+
+        log.info("Payment is cancelled before it was made for order id [{}]", payment.getOrderId().getValue());
+        payment.updateStatus(PaymentStatus.CANCELLED);
+        return new PaymentCancelledEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), cancelledEventPublisher);
+    }
+
+    @Override
+    public PaymentEvent rejectCancelledPayment(Payment cancelledPayment,
+                                               DomainEventPublisher<PaymentCancelledEvent> cancelledEventPublisher) {
+        log.info("Payment is not made because it was already cancelled for order id [{}]",
+                cancelledPayment.getOrderId().getValue());
+        return new PaymentCancelledEvent(cancelledPayment, ZonedDateTime.now(ZoneId.of(UTC)), cancelledEventPublisher);
+    }
+
     private void validateCreditEntry(Payment payment,
                                      CreditEntry creditEntry,
                                      List<String> failureMessages) {
@@ -93,41 +119,34 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     }
 
     private void updateCreditHistory(Payment payment,
+                                     CreditLedger creditLedger,
                                      List<CreditHistory> creditHistories,
                                      TransactionType transactionType) {
-        creditHistories.add(CreditHistory.builder()
-                .id(new CreditHistoryId(UUID.randomUUID()))
+        CreditHistory creditHistory = CreditHistory.builder()
+                .id(new CreditHistoryId(idGenerator.generate()))
                 .customerId(payment.getCustomerId())
                 .transactionType(transactionType)
                 .amount(payment.getPrice())
-                .build());
+                .build();
+        creditHistories.add(creditHistory);
+        creditLedger.apply(creditHistory);
     }
 
-    private void validateCreditHistory(CreditEntry creditEntry,
-                                       List<CreditHistory> creditHistories,
-                                       List<String> failureMessages) {
-        Money totalCreditHistory = getTotalCreditHistoryAmount(creditHistories, TransactionType.CREDIT);
-        Money totalDebitHistory = getTotalCreditHistoryAmount(creditHistories, TransactionType.DEBIT);
-
-        if (totalDebitHistory.isGreater(totalCreditHistory)) {
+    private void validateCreditLedger(CreditEntry creditEntry,
+                                      CreditLedger creditLedger,
+                                      List<String> failureMessages) {
+        if (creditLedger.getTotalDebitAmount().isGreater(creditLedger.getTotalCreditAmount())) {
             log.error("Customer with id [{}] doesn't have enough credit according to credit history!",
                     creditEntry.getCustomerId().getValue());
             failureMessages.add(String.format("Customer with id [%s] doesn't have enough credit according to credit history!",
                     creditEntry.getCustomerId().getValue()));
         }
 
-        if (!creditEntry.getTotalCreditAmount().equals(totalCreditHistory.subtract(totalDebitHistory))) {
+        if (!creditEntry.getTotalCreditAmount().equals(creditLedger.getBalance())) {
             log.error("Credit history total is not equal to current credit for customer id [{}] !",
                     creditEntry.getCustomerId().getValue());
             failureMessages.add(String.format("Credit history total is not equal to current credit for customer id [%s] !",
                     creditEntry.getCustomerId().getValue()));
         }
     }
-
-    private Money getTotalCreditHistoryAmount(List<CreditHistory> creditHistories, TransactionType transactionType) {
-        return creditHistories.stream()
-                .filter(creditHistory -> transactionType.equals(creditHistory.getTransactionType()))
-                .map(CreditHistory::getAmount)
-                .reduce(Money.ZERO, Money::add);
-    }
 }
@@ -0,0 +1,87 @@
+package com.food.ordering.system.payment.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+public class CreditLedger {
+
+    private final CustomerId customerId;
+    private Money totalCreditAmount;
+    private Money totalDebitAmount;
+    private final Integer version;
+
+    public void apply(CreditHistory creditHistory) {
+        if (TransactionType.CREDIT == creditHistory.getTransactionType()) {
+            totalCreditAmount = totalCreditAmount.add(creditHistory.getAmount());
+        } else {
+            totalDebitAmount = totalDebitAmount.add(creditHistory.getAmount());
+        }
+    }
+
+    public Money getBalance() {
+        return totalCreditAmount.subtract(totalDebitAmount);
+    }
+
+    private CreditLedger(Builder builder) {
+        customerId = builder.customerId;
+        totalCreditAmount = builder.totalCreditAmount;
+        totalDebitAmount = builder.totalDebitAmount;
+        version = builder.version;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public Money getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public Money getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private CustomerId customerId;
+        private Money totalCreditAmount;
+        private Money totalDebitAmount;
+        private Integer version;
+
+        private Builder() {
+        }
+
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        public Builder totalCreditAmount(Money val) {
+            totalCreditAmount = val;
+            return this;
+        }
+
+        public Builder totalDebitAmount(Money val) {
+            totalDebitAmount = val;
+            return this;
+        }
+
+        public Builder version(Integer val) {
+            version = val;
+            return this;
+        }
+
+        public CreditLedger build() {
+            return new CreditLedger(this);
+        }
+    }
+}
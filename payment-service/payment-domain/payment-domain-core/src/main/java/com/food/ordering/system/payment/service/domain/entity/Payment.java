@@ -1,6 +1,7 @@
 package com.food.ordering.system.payment.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
@@ -9,7 +10,6 @@ import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 public class Payment extends AggregateRoot<PaymentId> {
 
@@ -20,8 +20,8 @@ public class Payment extends AggregateRoot<PaymentId> {
     private PaymentStatus paymentStatus;
     private ZonedDateTime createdAt;
 
-    public void initializePayment() {
-        setId(new PaymentId(UUID.randomUUID()));
+    public void initializePayment(IdGenerator idGenerator) {
+        setId(new PaymentId(idGenerator.generate()));
         createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
     }
 
@@ -1,8 +1,15 @@
 package com.food.ordering.system.payment.service.messaging.listener.kafka;
 
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatch;
+import com.food.ordering.system.kafka.consumer.batch.ConsumerBatchInterceptor;
+import com.food.ordering.system.kafka.consumer.dispatcher.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.consumer.service.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.outbox.service.OutboxBatch;
+import com.food.ordering.system.outbox.service.OutboxOffsetCommitter;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
 import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +29,22 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
 
     private final PaymentRequestMessageListener paymentRequestMessageListener;
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
+    private final MessageDeduplicator messageDeduplicator;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ConsumerBatchInterceptor<String, PaymentRequestAvroModel> consumerBatchInterceptor;
+    private final OutboxOffsetCommitter outboxOffsetCommitter;
 
     @Override
     @KafkaListener(
             id = "${kafka-consumer-config.payment-consumer-group-id}",
             topics = "${payment-service.payment-request-topic-name}"
     )
+    @KafkaListener(
+            id = "${kafka-consumer-config.payment-consumer-group-id}-retry",
+            topics = "#{@retryTopics.retryTopicNames('${payment-service.payment-request-topic-name}')}",
+            autoStartup = "${kafka-retry-config.enabled}"
+    )
     public void receive(@Payload List<PaymentRequestAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
@@ -38,18 +55,50 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(paymentRequestAvroModel -> {
-            if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Processing payment for order id [{}]", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.completePayment(
-                        paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel)
-                );
-            } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Cancelling payment for order id [{}]", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.cancelPayment(
-                        paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel)
-                );
-            }
-        });
+        OutboxBatch outboxBatch = new OutboxBatch();
+        keyOrderedDispatcher.dispatchInBatches(messages, partitions, offsets, PaymentRequestAvroModel::getCustomerId,
+                paymentRequestAvroModels -> outboxBatch.run(() -> processInBatch(paymentRequestAvroModels)));
+
+        if (kafkaConsumerConfigData.getExactlyOnce()) {
+            ConsumerBatch consumerBatch = consumerBatchInterceptor.getCurrentBatch();
+            outboxOffsetCommitter.commit(outboxBatch, consumerBatch.getOffsets(), consumerBatch.getGroupMetadata());
+        }
+    }
+
+    private void processInBatch(List<PaymentRequestAvroModel> messages) {
+        List<PaymentRequestAvroModel> unprocessed = messageDeduplicator.filterProcessed(messages,
+                PaymentRequestAvroModel::getId);
+        if (unprocessed.isEmpty()) {
+            return;
+        }
+
+        List<PaymentRequestAvroModel> failed;
+        try {
+            failed = messageDeduplicator.processOnceInBatch(unprocessed, PaymentRequestAvroModel::getId,
+                    PaymentRequestAvroModel::getCreatedAt, paymentRequestAvroModels -> {
+                        paymentRequestAvroModels.forEach(this::process);
+                        return List.of();
+                    });
+        } catch (RuntimeException e) {
+            log.error("Batch of [{}] payment requests could not be processed, processing them one by one",
+                    unprocessed.size(), e);
+            failed = unprocessed;
+        }
+        failed.forEach(paymentRequestAvroModel -> messageDeduplicator.processOnce(paymentRequestAvroModel,
+                PaymentRequestAvroModel::getId, PaymentRequestAvroModel::getCreatedAt, this::process));
+    }
+
+    private void process(PaymentRequestAvroModel paymentRequestAvroModel) {
+        if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.info("Processing payment for order id [{}]", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.completePayment(
+                    paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel)
+            );
+        } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.info("Cancelling payment for order id [{}]", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.cancelPayment(
+                    paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel)
+            );
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.food.ordering.system.payment.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.filter.RoutingHeaderRecordFilter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopics;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class PaymentRequestRecordFilter extends RoutingHeaderRecordFilter {
+
+    public PaymentRequestRecordFilter(RetryTopics retryTopics, PaymentServiceConfigData paymentServiceConfigData) {
+        super(retryTopics, paymentServiceConfigData.getPaymentRequestTopicName(),
+                Set.of(PaymentOrderStatus.PENDING.name(), PaymentOrderStatus.CANCELLED.name()));
+    }
+}
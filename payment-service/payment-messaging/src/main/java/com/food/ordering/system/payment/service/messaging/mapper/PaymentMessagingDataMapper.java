@@ -4,6 +4,7 @@ import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.producer.header.RoutingHeaders;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import org.springframework.stereotype.Component;
@@ -27,10 +28,16 @@ public class PaymentMessagingDataMapper {
                 .build();
     }
 
+    public RoutingHeaders paymentResponseAvroModelToRoutingHeaders(String eventType,
+                                                                   PaymentResponseAvroModel paymentResponseAvroModel) {
+        return new RoutingHeaders(UUID.fromString(paymentResponseAvroModel.getId()), eventType,
+                paymentResponseAvroModel.getPaymentStatus().name(), UUID.fromString(paymentResponseAvroModel.getOrderId()));
+    }
+
     public PaymentRequest paymentRequestAvroModelToPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel) {
         return PaymentRequest.builder()
                 .id(paymentRequestAvroModel.getId())
-                .sagaId(paymentRequestAvroModel.getId())
+                .sagaId(paymentRequestAvroModel.getSagaId())
                 .customerId(paymentRequestAvroModel.getCustomerId())
                 .orderId(paymentRequestAvroModel.getOrderId())
                 .price(paymentRequestAvroModel.getPrice())
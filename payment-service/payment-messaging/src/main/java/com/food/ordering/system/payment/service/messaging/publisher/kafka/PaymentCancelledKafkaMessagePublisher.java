@@ -1,8 +1,7 @@
 package com.food.ordering.system.payment.service.messaging.publisher.kafka;
 
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
-import com.food.ordering.system.kafka.producer.util.KafkaMessageHelper;
+import com.food.ordering.system.outbox.service.OutboxWriter;
 import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
@@ -16,35 +15,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PaymentCancelledKafkaMessagePublisher implements PaymentCancelledMessagePublisher {
 
-    private final KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer;
+    private final OutboxWriter outboxWriter;
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
     private final PaymentServiceConfigData paymentServiceConfigData;
-    private final KafkaMessageHelper kafkaMessageHelper;
 
     @Override
     public void publish(PaymentCancelledEvent domainEvent) {
         String orderId = domainEvent.getPayment().getOrderId().getValue().toString();
         log.info("Received PaymentCancelledEvent for order id [{}]", orderId);
 
-        try {
-            PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper.paymentEventToPaymentResponseAvroModel(domainEvent);
+        PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper.paymentEventToPaymentResponseAvroModel(domainEvent);
 
-            kafkaProducer.send(
-                    paymentServiceConfigData.getPaymentResponseTopicName(),
-                    orderId,
-                    paymentResponseAvroModel,
-                    kafkaMessageHelper.getKafkaCallback(
-                            paymentServiceConfigData.getPaymentResponseTopicName(),
-                            orderId,
-                            paymentResponseAvroModel,
-                            "PaymentResponseAvroModel"
-                    )
-            );
-
-            log.info("PaymentResponseAvroModel sent to Kafka for order id [{}]", orderId);
-        } catch (Exception e) {
-            log.error("Error while sending PaymentResponseAvroModel message to Kafka with order id [{}] error [{}]",
-                    orderId, e.getMessage());
-        }
+        outboxWriter.save(paymentServiceConfigData.getPaymentResponseTopicName(), orderId, paymentResponseAvroModel,
+                paymentMessagingDataMapper.paymentResponseAvroModelToRoutingHeaders(
+                        domainEvent.getClass().getSimpleName(), paymentResponseAvroModel).toHeaders());
+        log.info("PaymentResponseAvroModel saved to outbox for order id [{}]", orderId);
     }
 }
@@ -1,5 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.UuidV7IdGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -7,7 +9,12 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public RestaurantDomainService restaurantDomainService() {
-        return new RestaurantDomainServiceImpl();
+    public IdGenerator idGenerator() {
+        return new UuidV7IdGenerator();
+    }
+
+    @Bean
+    public RestaurantDomainService restaurantDomainService(IdGenerator idGenerator) {
+        return new RestaurantDomainServiceImpl(idGenerator);
     }
 }
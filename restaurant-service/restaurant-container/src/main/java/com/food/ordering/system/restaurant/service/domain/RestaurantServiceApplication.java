@@ -8,11 +8,15 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @EnableJpaRepositories(basePackages = {
         "com.food.ordering.system.dataaccess",
-        "com.food.ordering.system.restaurant.service.dataaccess"
+        "com.food.ordering.system.restaurant.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
 })
 @EntityScan(basePackages = {
         "com.food.ordering.system.dataaccess",
-        "com.food.ordering.system.restaurant.service.dataaccess"
+        "com.food.ordering.system.restaurant.service.dataaccess",
+        "com.food.ordering.system.outbox",
+        "com.food.ordering.system.dedup"
 })
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
 public class RestaurantServiceApplication {
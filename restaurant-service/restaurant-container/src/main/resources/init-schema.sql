@@ -64,43 +64,315 @@ ALTER TABLE restaurant.restaurant_products
         ON DELETE RESTRICT
         NOT VALID;
 
-DROP MATERIALIZED VIEW IF EXISTS restaurant.order_restaurant_m_view;
+DROP TABLE IF EXISTS restaurant.outbox CASCADE;
 
-CREATE MATERIALIZED VIEW restaurant.order_restaurant_m_view
-    TABLESPACE pg_default
-AS
-SELECT r.id        AS restaurant_id,
-       r.name      AS restaurant_name,
-       r.active    AS restaurant_active,
-       p.id        AS product_id,
-       p.name      AS product_name,
-       p.price     AS product_price,
-       p.available AS product_available
+DROP SEQUENCE IF EXISTS restaurant.outbox_id_seq;
+
+CREATE SEQUENCE restaurant.outbox_id_seq INCREMENT BY 1;
+
+CREATE TABLE restaurant.outbox
+(
+    id            bigint                                         NOT NULL,
+    topic         character varying COLLATE pg_catalog."default" NOT NULL,
+    message_key   character varying COLLATE pg_catalog."default" NOT NULL,
+    payload_type  character varying COLLATE pg_catalog."default" NOT NULL,
+    payload       bytea                                          NOT NULL,
+    headers       bytea,
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    outbox_status character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX outbox_started_id_idx
+    ON restaurant.outbox (id)
+    WHERE outbox_status = 'STARTED';
+
+DROP PUBLICATION IF EXISTS restaurant_outbox_publication;
+
+CREATE PUBLICATION restaurant_outbox_publication FOR TABLE restaurant.outbox WITH (publish = 'insert');
+
+DROP TABLE IF EXISTS restaurant.order_restaurant_view CASCADE;
+
+CREATE TABLE restaurant.order_restaurant_view
+(
+    restaurant_id     uuid                                           NOT NULL,
+    restaurant_name   character varying COLLATE pg_catalog."default" NOT NULL,
+    restaurant_active boolean                                        NOT NULL,
+    product_id        uuid                                           NOT NULL,
+    product_name      character varying COLLATE pg_catalog."default" NOT NULL,
+    product_price     numeric(10, 2)                                 NOT NULL,
+    product_available boolean                                        NOT NULL,
+    CONSTRAINT order_restaurant_view_pkey PRIMARY KEY (restaurant_id, product_id)
+);
+
+CREATE INDEX order_restaurant_view_product_id_idx
+    ON restaurant.order_restaurant_view (product_id);
+
+INSERT INTO restaurant.order_restaurant_view(restaurant_id, restaurant_name, restaurant_active,
+                                             product_id, product_name, product_price, product_available)
+SELECT DISTINCT r.id, r.name, r.active, p.id, p.name, p.price, p.available
 FROM restaurant.restaurants r,
      restaurant.products p,
      restaurant.restaurant_products rp
 WHERE r.id = rp.restaurant_id
-  AND p.id = rp.product_id
-WITH DATA;
+  AND p.id = rp.product_id;
 
-refresh materialized VIEW restaurant.order_restaurant_m_view;
+DROP function IF EXISTS restaurant.restaurant_products_order_restaurant_view;
 
-DROP function IF EXISTS restaurant.refresh_order_restaurant_m_view;
+CREATE OR replace function restaurant.restaurant_products_order_restaurant_view()
+    returns trigger
+AS
+'
+    BEGIN
+        IF TG_OP IN (''UPDATE'', ''DELETE'') THEN
+            DELETE FROM restaurant.order_restaurant_view v
+            WHERE v.restaurant_id = OLD.restaurant_id
+              AND v.product_id = OLD.product_id
+              AND NOT EXISTS(SELECT 1
+                             FROM restaurant.restaurant_products rp
+                             WHERE rp.restaurant_id = OLD.restaurant_id
+                               AND rp.product_id = OLD.product_id);
+        END IF;
+        IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+            INSERT INTO restaurant.order_restaurant_view(restaurant_id, restaurant_name, restaurant_active,
+                                                         product_id, product_name, product_price, product_available)
+            SELECT r.id, r.name, r.active, p.id, p.name, p.price, p.available
+            FROM restaurant.restaurants r,
+                 restaurant.products p
+            WHERE r.id = NEW.restaurant_id
+              AND p.id = NEW.product_id
+            ON CONFLICT (restaurant_id, product_id) DO NOTHING;
+        END IF;
+        return null;
+    END;
+' LANGUAGE plpgsql;
 
-CREATE OR replace function restaurant.refresh_order_restaurant_m_view()
+DROP trigger IF EXISTS restaurant_products_order_restaurant_view ON restaurant.restaurant_products;
+
+CREATE trigger restaurant_products_order_restaurant_view
+    after INSERT OR UPDATE OR DELETE
+    ON restaurant.restaurant_products
+    FOR each row
+EXECUTE PROCEDURE restaurant.restaurant_products_order_restaurant_view();
+
+DROP function IF EXISTS restaurant.truncate_order_restaurant_view;
+
+CREATE OR replace function restaurant.truncate_order_restaurant_view()
     returns trigger
 AS
 '
     BEGIN
-        refresh materialized VIEW restaurant.order_restaurant_m_view;
+        TRUNCATE restaurant.order_restaurant_view;
         return null;
     END;
 ' LANGUAGE plpgsql;
 
-DROP trigger IF EXISTS refresh_order_restaurant_m_view ON restaurant.restaurant_products;
+DROP trigger IF EXISTS truncate_order_restaurant_view ON restaurant.restaurant_products;
 
-CREATE trigger refresh_order_restaurant_m_view
-    after INSERT OR UPDATE OR DELETE OR truncate
+CREATE trigger truncate_order_restaurant_view
+    after truncate
     ON restaurant.restaurant_products
     FOR each statement
-EXECUTE PROCEDURE restaurant.refresh_order_restaurant_m_view();
\ No newline at end of file
+EXECUTE PROCEDURE restaurant.truncate_order_restaurant_view();
+
+DROP function IF EXISTS restaurant.restaurants_order_restaurant_view;
+
+CREATE OR replace function restaurant.restaurants_order_restaurant_view()
+    returns trigger
+AS
+'
+    BEGIN
+        UPDATE restaurant.order_restaurant_view v
+        SET restaurant_name   = NEW.name,
+            restaurant_active = NEW.active
+        WHERE v.restaurant_id = NEW.id
+          AND (v.restaurant_name, v.restaurant_active) IS DISTINCT FROM (NEW.name, NEW.active);
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS restaurants_order_restaurant_view ON restaurant.restaurants;
+
+CREATE trigger restaurants_order_restaurant_view
+    after UPDATE
+    ON restaurant.restaurants
+    FOR each row
+EXECUTE PROCEDURE restaurant.restaurants_order_restaurant_view();
+
+DROP function IF EXISTS restaurant.products_order_restaurant_view;
+
+CREATE OR replace function restaurant.products_order_restaurant_view()
+    returns trigger
+AS
+'
+    BEGIN
+        UPDATE restaurant.order_restaurant_view v
+        SET product_name      = NEW.name,
+            product_price     = NEW.price,
+            product_available = NEW.available
+        WHERE v.product_id = NEW.id
+          AND (v.product_name, v.product_price, v.product_available)
+            IS DISTINCT FROM (NEW.name, NEW.price, NEW.available);
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS products_order_restaurant_view ON restaurant.products;
+
+CREATE trigger products_order_restaurant_view
+    after UPDATE
+    ON restaurant.products
+    FOR each row
+EXECUTE PROCEDURE restaurant.products_order_restaurant_view();
+
+DROP TABLE IF EXISTS restaurant.restaurant_catalog_version CASCADE;
+
+DROP SEQUENCE IF EXISTS restaurant.restaurant_catalog_version_seq;
+
+CREATE SEQUENCE restaurant.restaurant_catalog_version_seq;
+
+CREATE TABLE restaurant.restaurant_catalog_version
+(
+    restaurant_id uuid   NOT NULL,
+    version       bigint NOT NULL,
+    CONSTRAINT restaurant_catalog_version_pkey PRIMARY KEY (restaurant_id)
+);
+
+DROP function IF EXISTS restaurant.bump_restaurant_catalog_version;
+
+CREATE OR replace function restaurant.bump_restaurant_catalog_version(changed_restaurant_id uuid)
+    returns void
+AS
+'
+    BEGIN
+        INSERT INTO restaurant.restaurant_catalog_version(restaurant_id, version)
+        VALUES (changed_restaurant_id, nextval(''restaurant.restaurant_catalog_version_seq''))
+        ON CONFLICT (restaurant_id) DO UPDATE SET version = EXCLUDED.version;
+        PERFORM pg_notify(''restaurant_catalog_changed'', changed_restaurant_id::text);
+    END;
+' LANGUAGE plpgsql;
+
+DROP function IF EXISTS restaurant.restaurants_catalog_changed;
+
+CREATE OR replace function restaurant.restaurants_catalog_changed()
+    returns trigger
+AS
+'
+    BEGIN
+        IF TG_OP = ''DELETE'' THEN
+            PERFORM restaurant.bump_restaurant_catalog_version(OLD.id);
+        ELSE
+            PERFORM restaurant.bump_restaurant_catalog_version(NEW.id);
+        END IF;
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS restaurants_catalog_changed ON restaurant.restaurants;
+
+CREATE trigger restaurants_catalog_changed
+    after INSERT OR UPDATE OR DELETE
+    ON restaurant.restaurants
+    FOR each row
+EXECUTE PROCEDURE restaurant.restaurants_catalog_changed();
+
+DROP function IF EXISTS restaurant.restaurant_products_catalog_changed;
+
+CREATE OR replace function restaurant.restaurant_products_catalog_changed()
+    returns trigger
+AS
+'
+    BEGIN
+        IF TG_OP = ''DELETE'' THEN
+            PERFORM restaurant.bump_restaurant_catalog_version(OLD.restaurant_id);
+        ELSE
+            PERFORM restaurant.bump_restaurant_catalog_version(NEW.restaurant_id);
+        END IF;
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS restaurant_products_catalog_changed ON restaurant.restaurant_products;
+
+CREATE trigger restaurant_products_catalog_changed
+    after INSERT OR UPDATE OR DELETE
+    ON restaurant.restaurant_products
+    FOR each row
+EXECUTE PROCEDURE restaurant.restaurant_products_catalog_changed();
+
+DROP function IF EXISTS restaurant.products_catalog_changed;
+
+CREATE OR replace function restaurant.products_catalog_changed()
+    returns trigger
+AS
+'
+    BEGIN
+        PERFORM restaurant.bump_restaurant_catalog_version(rp.restaurant_id)
+        FROM restaurant.restaurant_products rp
+        WHERE rp.product_id = CASE WHEN TG_OP = ''DELETE'' THEN OLD.id ELSE NEW.id END;
+        return null;
+    END;
+' LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS products_catalog_changed ON restaurant.products;
+
+CREATE trigger products_catalog_changed
+    after UPDATE OR DELETE
+    ON restaurant.products
+    FOR each row
+EXECUTE PROCEDURE restaurant.products_catalog_changed();
+
+DROP TABLE IF EXISTS restaurant.processed_messages CASCADE;
+
+CREATE TABLE restaurant.processed_messages
+(
+    message_id   uuid                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (message_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE restaurant.processed_messages_default PARTITION OF restaurant.processed_messages DEFAULT;
+
+DROP function IF EXISTS restaurant.maintain_processed_messages_partitions;
+
+CREATE OR replace function restaurant.maintain_processed_messages_partitions(retention_days integer, precreate_days integer)
+    returns integer
+AS
+'
+    DECLARE
+        today         date    := (now() AT TIME ZONE ''UTC'')::date;
+        first_day     date    := today - retention_days;
+        partition_day date;
+        expired       record;
+        dropped       integer := 0;
+    BEGIN
+        FOR partition_day IN SELECT generate_series(first_day, today + precreate_days, interval ''1 day'')::date
+            LOOP
+                BEGIN
+                    EXECUTE format(''CREATE TABLE IF NOT EXISTS restaurant.%I PARTITION OF restaurant.processed_messages '' ||
+                                   ''FOR VALUES FROM (%L) TO (%L)'',
+                                   ''processed_messages_p'' || to_char(partition_day, ''YYYYMMDD''),
+                                   partition_day::timestamp AT TIME ZONE ''UTC'',
+                                   (partition_day + 1)::timestamp AT TIME ZONE ''UTC'');
+                EXCEPTION
+                    WHEN others THEN
+                        RAISE WARNING ''Processed messages partition of % could not be created: %'', partition_day, SQLERRM;
+                END;
+            END LOOP;
+        FOR expired IN SELECT c.relname
+                       FROM pg_inherits i
+                                JOIN pg_class c ON c.oid = i.inhrelid
+                       WHERE i.inhparent = ''restaurant.processed_messages''::regclass
+                         AND c.relname ~ ''^processed_messages_p[0-9]{8}$''
+                         AND c.relname < ''processed_messages_p'' || to_char(first_day, ''YYYYMMDD'')
+            LOOP
+                EXECUTE format(''DROP TABLE restaurant.%I'', expired.relname);
+                dropped := dropped + 1;
+            END LOOP;
+        DELETE FROM restaurant.processed_messages_default
+        WHERE created_at < first_day::timestamp AT TIME ZONE ''UTC'';
+        RETURN dropped;
+    END;
+' LANGUAGE plpgsql;
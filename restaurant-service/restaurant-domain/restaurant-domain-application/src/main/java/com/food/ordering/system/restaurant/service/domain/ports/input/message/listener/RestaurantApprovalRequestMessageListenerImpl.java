@@ -5,6 +5,7 @@ import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEve
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -14,6 +15,7 @@ public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantA
     private final RestaurantApprovalRequestHelper restaurantApprovalRequestHelper;
 
     @Override
+    @Transactional
     public void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest) {
         OrderApprovalEvent orderApprovalEvent = restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest);
         orderApprovalEvent.fire();
@@ -1,6 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain;
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
@@ -17,6 +18,12 @@ import static com.food.ordering.system.domain.utils.DomainConstants.UTC;
 @Slf4j
 public class RestaurantDomainServiceImpl implements RestaurantDomainService {
 
+    private final IdGenerator idGenerator;
+
+    public RestaurantDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public OrderApprovalEvent validateOrder(Restaurant restaurant,
                                             List<String> failureMessages,
@@ -27,7 +34,7 @@ public class RestaurantDomainServiceImpl implements RestaurantDomainService {
 
         if (!failureMessages.isEmpty()) {
             log.error("Order is rejected for order id [{}]", restaurant.getOrderDetail().getId().getValue());
-            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED);
+            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED, idGenerator);
             return new OrderRejectedEvent(
                     restaurant.getOrderApproval(),
                     restaurant.getId(),
@@ -37,7 +44,7 @@ public class RestaurantDomainServiceImpl implements RestaurantDomainService {
         }
 
         log.info("Order is approved for order id [{}]", restaurant.getOrderDetail().getId().getValue());
-        restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED);
+        restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED, idGenerator);
         return new OrderApprovedEvent(
                 restaurant.getOrderApproval(),
                 restaurant.getId(),
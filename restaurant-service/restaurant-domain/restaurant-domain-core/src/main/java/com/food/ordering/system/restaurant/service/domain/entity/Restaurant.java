@@ -1,6 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
@@ -8,7 +9,6 @@ import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
 import java.util.List;
-import java.util.UUID;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
 
@@ -43,9 +43,9 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         }
     }
 
-    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus) {
+    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus, IdGenerator idGenerator) {
         this.orderApproval = OrderApproval.builder()
-                .id(new OrderApprovalId(UUID.randomUUID()))
+                .id(new OrderApprovalId(idGenerator.generate()))
                 .restaurantId(this.getId())
                 .orderId(this.orderDetail.getId())
                 .approvalStatus(orderApprovalStatus)
@@ -1,5 +1,7 @@
 package com.food.ordering.system.restaurant.service.messaging.listener.kafka;
 
+import com.food.ordering.system.dedup.service.MessageDeduplicator;
+import com.food.ordering.system.kafka.consumer.dispatcher.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.consumer.service.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
@@ -21,10 +23,15 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
 
     private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
+    private final MessageDeduplicator messageDeduplicator;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${restaurant-service.restaurant-approval-request-topic-name}")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry",
+            topics = "#{@retryTopics.retryTopicNames('${restaurant-service.restaurant-approval-request-topic-name}')}",
+            autoStartup = "${kafka-retry-config.enabled}")
     public void receive(@Payload List<RestaurantApprovalRequestAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
@@ -35,12 +42,17 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(restaurantApprovalRequestAvroModel -> {
-            log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
-            restaurantApprovalRequestMessageListener.approveOrder(
-                    restaurantMessagingDataMapper.restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel)
-            );
-        });
+        keyOrderedDispatcher.dispatch(messages, partitions, offsets, RestaurantApprovalRequestAvroModel::getOrderId,
+                restaurantApprovalRequestAvroModel -> messageDeduplicator.processOnce(restaurantApprovalRequestAvroModel,
+                        RestaurantApprovalRequestAvroModel::getId, RestaurantApprovalRequestAvroModel::getCreatedAt,
+                        this::process));
+    }
+
+    private void process(RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel) {
+        log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
+        restaurantApprovalRequestMessageListener.approveOrder(
+                restaurantMessagingDataMapper.restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel)
+        );
     }
 
 }
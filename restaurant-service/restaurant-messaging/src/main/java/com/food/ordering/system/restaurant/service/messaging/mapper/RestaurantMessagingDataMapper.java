@@ -5,6 +5,7 @@ import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.producer.header.RoutingHeaders;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
@@ -45,4 +46,11 @@ public class RestaurantMessagingDataMapper {
                 .setFailureMessages(orderApprovalEvent.getFailureMessages())
                 .build();
     }
+
+    public RoutingHeaders restaurantApprovalResponseAvroModelToRoutingHeaders(String eventType,
+                                                                              RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
+        return new RoutingHeaders(UUID.fromString(restaurantApprovalResponseAvroModel.getId()), eventType,
+                restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name(),
+                UUID.fromString(restaurantApprovalResponseAvroModel.getOrderId()));
+    }
 }
@@ -1,8 +1,7 @@
 package com.food.ordering.system.restaurant.service.messaging.publisher.kafka;
 
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
-import com.food.ordering.system.kafka.producer.util.KafkaMessageHelper;
+import com.food.ordering.system.outbox.service.OutboxWriter;
 import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
 import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderRejectedMessagePublisher;
@@ -17,35 +16,20 @@ import org.springframework.stereotype.Component;
 public class OrderRejectedKafkaMessagePublisher implements OrderRejectedMessagePublisher {
 
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
-    private final KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer;
+    private final OutboxWriter outboxWriter;
     private final RestaurantServiceConfigData restaurantServiceConfigData;
-    private final KafkaMessageHelper kafkaMessageHelper;
 
     @Override
     public void publish(OrderRejectedEvent orderApprovedEvent) {
         String orderId = orderApprovedEvent.getOrderApproval().getOrderId().getValue().toString();
         log.info("Received OrderRejectedEvent with order id [{}]", orderId);
 
-        try {
-            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel = restaurantMessagingDataMapper
-                    .orderApprovalEventToRestaurantApprovalResponseAvroModel(orderApprovedEvent);
+        RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel = restaurantMessagingDataMapper
+                .orderApprovalEventToRestaurantApprovalResponseAvroModel(orderApprovedEvent);
 
-            kafkaProducer.send(
-                    restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
-                    orderId,
-                    restaurantApprovalResponseAvroModel,
-                    kafkaMessageHelper.getKafkaCallback(
-                            restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
-                            orderId,
-                            restaurantApprovalResponseAvroModel,
-                            "RestaurantApprovalResponseAvroModel"
-                    )
-            );
-
-            log.info("RestaurantApprovalResponseAvroModel sent to Kafka for order id [{}]", orderId);
-        } catch (Exception e) {
-            log.error("Error while sending RestaurantApprovalResponseAvroModel message to Kafka with order id [{}] error [{}]",
-                    orderId, e.getMessage());
-        }
+        outboxWriter.save(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(), orderId, restaurantApprovalResponseAvroModel,
+                restaurantMessagingDataMapper.restaurantApprovalResponseAvroModelToRoutingHeaders(
+                        orderApprovedEvent.getClass().getSimpleName(), restaurantApprovalResponseAvroModel).toHeaders());
+        log.info("RestaurantApprovalResponseAvroModel saved to outbox for order id [{}]", orderId);
     }
 }